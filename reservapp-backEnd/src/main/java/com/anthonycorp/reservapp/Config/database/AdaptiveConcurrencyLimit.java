@@ -0,0 +1,177 @@
+package com.anthonycorp.reservapp.Config.database;
+
+import com.anthonycorp.reservapp.Utils.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that adapts to how the downstream is coping (AIMD). Every sample slower than the latency
+ * threshold, and every overload failure, cuts the limit by the backoff ratio; fast samples taken while the limit is
+ * at least half used grow it by one per limit's worth of samples, up to the maximum. Callers past the limit wait for
+ * up to the queue timeout and are then shed with {@link AdmissionRejectedException}, so a burst turns into quick
+ * rejections instead of a pile of threads that all time out together.
+ * <p>
+ * Published as {@code admission.limit}, {@code admission.in.flight}, {@code admission.queued} and
+ * {@code admission.rejected}, tagged by name.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final Duration queueTimeout;
+    private final Duration retryAfter;
+    private final Counter rejected;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private int queued;
+
+    public AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                    Duration latencyThreshold, Duration queueTimeout, Duration retryAfter,
+                                    MeterRegistry meterRegistry) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.queueTimeout = queueTimeout;
+        this.retryAfter = retryAfter;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        Gauge.builder("admission.limit", this, AdaptiveConcurrencyLimit::getLimit).tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("admission.in.flight", this, AdaptiveConcurrencyLimit::getInFlight).tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("admission.queued", this, AdaptiveConcurrencyLimit::getQueued).tag("name", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("admission.rejected").tag("name", name).register(meterRegistry);
+    }
+
+    /**
+     * Waits for room under the current limit, to be released by closing the returned handle.
+     *
+     * @throws AdmissionRejectedException when no room frees up within the queue timeout
+     */
+    public Permit acquire() {
+        long remaining = queueTimeout.toNanos();
+        lock.lock();
+        try {
+            queued++;
+            try {
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        throw reject();
+                    }
+                    remaining = available.awaitNanos(remaining);
+                }
+            } finally {
+                queued--;
+            }
+            inFlight++;
+            return new Permit();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Feeds the latency of one call made under a permit into the limit.
+     */
+    public void onSample(long latencyNanos) {
+        if (latencyNanos > latencyThresholdNanos) {
+            onOverload();
+            return;
+        }
+        lock.lock();
+        try {
+            if (inFlight * 2 >= limit && limit < maxLimit) {
+                int before = (int) limit;
+                limit = Math.min(maxLimit, limit + 1 / limit);
+                if ((int) limit > before) {
+                    available.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Backs off after a call failed because the downstream is overloaded, e.g. a pool or query timeout.
+     */
+    public void onOverload() {
+        lock.lock();
+        try {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private AdmissionRejectedException reject() {
+        rejected.increment();
+        return new AdmissionRejectedException("The " + name + " is overloaded, try again later", retryAfter);
+    }
+
+    public final class Permit implements AutoCloseable {
+        private boolean released;
+
+        private Permit() {
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                if (!released) {
+                    released = true;
+                    inFlight--;
+                    available.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.anthonycorp.reservapp.Config.database;
+
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Puts the reservation, service and user repositories behind one adaptive limit sized against the connection pool,
+ * so a burst of requests waits in (and is shed from) a short admission queue instead of the Hikari pool.
+ * <p>
+ * The data source is wrapped so a transaction only takes a connection at its first statement. Without that every
+ * {@code @Transactional} use case would check out a connection before reaching a repository, and could sit on it
+ * while waiting for admission.
+ */
+@Configuration
+public class DatabaseAdmissionConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimit databaseAdmissionLimit(
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${database.admission.min-limit:1}") int minLimit,
+            @Value("${database.admission.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${database.admission.latency-threshold-ms:250}") long latencyThresholdMs,
+            @Value("${database.admission.queue-timeout-ms:500}") long queueTimeoutMs,
+            @Value("${database.admission.retry-after-seconds:1}") long retryAfterSeconds) {
+        return new AdaptiveConcurrencyLimit("database", poolSize, minLimit, poolSize, backoffRatio,
+                Duration.ofMillis(latencyThresholdMs), Duration.ofMillis(queueTimeoutMs),
+                Duration.ofSeconds(retryAfterSeconds), meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryAdmission(ObjectProvider<AdaptiveConcurrencyLimit> limit) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof Advised advised && !advised.isFrozen() && (bean instanceof ReservationRepository
+                        || bean instanceof ServiceRepository || bean instanceof UserRepository)) {
+                    advised.addAdvice(0, new RepositoryAdmissionInterceptor(limit.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor lazyConnectionDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return new LazyConnectionDataSourceProxy(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
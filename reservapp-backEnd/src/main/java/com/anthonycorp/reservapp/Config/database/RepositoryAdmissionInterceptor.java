@@ -0,0 +1,73 @@
+package com.anthonycorp.reservapp.Config.database;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Admits repository calls through the database {@link AdaptiveConcurrencyLimit}. Inside a transaction the first call
+ * takes the permit and the transaction keeps it until it completes, because that is how long it holds its
+ * connection; later calls in the same transaction pass straight through. Each call's latency is fed back into the
+ * limit either way.
+ */
+class RepositoryAdmissionInterceptor implements MethodInterceptor {
+
+    private final AdaptiveConcurrencyLimit limit;
+
+    RepositoryAdmissionInterceptor(AdaptiveConcurrencyLimit limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try (AdaptiveConcurrencyLimit.Permit permit = limit.acquire()) {
+                return measure(invocation);
+            }
+        }
+        if (!TransactionSynchronizationManager.hasResource(limit)) {
+            holdForTransaction(limit.acquire());
+        }
+        return measure(invocation);
+    }
+
+    private Object measure(MethodInvocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            limit.onSample(System.nanoTime() - start);
+            return result;
+        } catch (QueryTimeoutException | TransientDataAccessResourceException | DataAccessResourceFailureException e) {
+            limit.onOverload();
+            throw e;
+        }
+    }
+
+    private void holdForTransaction(AdaptiveConcurrencyLimit.Permit permit) {
+        TransactionSynchronizationManager.bindResource(limit, permit);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(limit);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(limit, permit);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(limit);
+                permit.close();
+            }
+        });
+    }
+}
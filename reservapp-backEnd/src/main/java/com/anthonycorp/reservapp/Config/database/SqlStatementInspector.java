@@ -0,0 +1,17 @@
+package com.anthonycorp.reservapp.Config.database;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Sees every statement Hibernate prepares and counts it into the open {@link SqlStatistics} scopes. A batched insert
+ * is prepared once, so it counts as one statement however many rows it carries. Registered through
+ * {@code hibernate.session_factory.statement_inspector}.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatistics.statement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,102 @@
+package com.anthonycorp.reservapp.Config.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the SQL statements, and the JDBC time spent running them, between {@link #open()} and {@link #close()} on
+ * the calling thread. Scopes nest: a statement is counted by every scope open on the thread, so a request scope and a
+ * test assertion around it see the same statements. Work handed to the async executor carries the scope along through
+ * {@link #propagate(Runnable)}.
+ */
+public final class SqlStatistics implements AutoCloseable {
+
+    static final int MAX_RECORDED_STATEMENTS = 100;
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatistics parent;
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong jdbcNanos = new AtomicLong();
+    private final List<String> sql = new ArrayList<>();
+
+    private SqlStatistics(SqlStatistics parent) {
+        this.parent = parent;
+    }
+
+    public static SqlStatistics open() {
+        SqlStatistics scope = new SqlStatistics(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+
+    /**
+     * Runs {@code task} with the scopes open where it was created, for work that leaves the request thread.
+     */
+    public static Runnable propagate(Runnable task) {
+        SqlStatistics captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            SqlStatistics previous = CURRENT.get();
+            CURRENT.set(captured);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    static void statement(String statementSql) {
+        for (SqlStatistics scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements.incrementAndGet();
+            synchronized (scope.sql) {
+                if (scope.sql.size() < MAX_RECORDED_STATEMENTS) {
+                    scope.sql.add(statementSql);
+                }
+            }
+        }
+    }
+
+    static void jdbcTime(long nanos) {
+        for (SqlStatistics scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.jdbcNanos.addAndGet(nanos);
+        }
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos.get();
+    }
+
+    /**
+     * The statements counted so far, in order, up to the first {@value #MAX_RECORDED_STATEMENTS}.
+     */
+    public List<String> getSql() {
+        synchronized (sql) {
+            return List.copyOf(sql);
+        }
+    }
+}
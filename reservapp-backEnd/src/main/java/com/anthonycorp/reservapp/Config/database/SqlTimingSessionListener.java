@@ -0,0 +1,44 @@
+package com.anthonycorp.reservapp.Config.database;
+
+import com.anthonycorp.reservapp.Config.tracing.RequestTrace;
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Times statement execution, single and batched, into the open {@link SqlStatistics} scopes and the request trace's
+ * {@code jdbc} phase. Hibernate creates one per session, and a session is used by one thread at a time, so the start
+ * marks need no synchronization. Registered through {@code hibernate.session.events.auto}.
+ */
+public class SqlTimingSessionListener extends BaseSessionEventListener {
+
+    private long executeStart = -1;
+    private long batchStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executeStart = record(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        batchStart = record(batchStart);
+    }
+
+    private static long record(long start) {
+        if (start >= 0) {
+            long nanos = System.nanoTime() - start;
+            SqlStatistics.jdbcTime(nanos);
+            RequestTrace.record("jdbc", nanos);
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,32 @@
+package com.anthonycorp.reservapp.Config.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/pinning?limit=} lists the top virtual-thread pinning sites; {@code DELETE} starts a fresh
+ * count, for example before a load test. Admin only, like every actuator endpoint.
+ */
+@Component
+@Endpoint(id = "pinning")
+@RequiredArgsConstructor
+public class PinningEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final VirtualThreadPinningMonitor monitor;
+
+    @ReadOperation
+    public PinningReport report(@Nullable Integer limit) {
+        return monitor.report(limit == null ? DEFAULT_LIMIT : Math.max(1, limit));
+    }
+
+    @DeleteOperation
+    public void reset() {
+        monitor.reset();
+    }
+}
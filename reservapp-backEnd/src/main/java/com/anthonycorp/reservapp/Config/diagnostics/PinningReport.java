@@ -0,0 +1,15 @@
+package com.anthonycorp.reservapp.Config.diagnostics;
+
+import java.util.List;
+
+/**
+ * @param totalEvents    pinning events recorded since start or the last reset
+ * @param untrackedEvents events from sites past the tracked-site limit, counted in the total only
+ * @param thresholdMs    pins shorter than this are not recorded
+ * @param sites          the most frequent sites, most frequent first
+ */
+public record PinningReport(long totalEvents, long untrackedEvents, long thresholdMs, List<Site> sites) {
+
+    public record Site(long count, long totalMillis, long maxMillis, List<String> stack) {
+    }
+}
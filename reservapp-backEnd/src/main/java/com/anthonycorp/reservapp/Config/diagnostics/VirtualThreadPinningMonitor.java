@@ -0,0 +1,161 @@
+package com.anthonycorp.reservapp.Config.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records {@code jdk.VirtualThreadPinned} JFR events in-process: a virtual thread that blocks inside a
+ * {@code synchronized} block or a native frame keeps its carrier thread busy, and enough of them cap throughput at the
+ * carrier count. Events are grouped by the top frames of their stack, so each pinning site shows up once with how
+ * often and how long it pinned. At most {@code diagnostics.pinning.max-sites} sites are kept; events from further
+ * sites are only counted. Published as {@code jvm.threads.virtual.pinned} and through the {@code pinning} actuator
+ * endpoint.
+ */
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final int stackDepth;
+    private final int maxSites;
+    private final Counter pinned;
+    private final Map<List<String>, Site> sites = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+    private final LongAdder untracked = new LongAdder();
+    private final AtomicLong flushes = new AtomicLong();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${diagnostics.pinning.enabled:true}") boolean enabled,
+                                       @Value("${diagnostics.pinning.threshold-ms:20}") long thresholdMs,
+                                       @Value("${diagnostics.pinning.stack-depth:16}") int stackDepth,
+                                       @Value("${diagnostics.pinning.max-sites:200}") int maxSites) {
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMs);
+        this.stackDepth = stackDepth;
+        this.maxSites = maxSites;
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::record);
+        stream.onFlush(flushes::incrementAndGet);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public PinningReport report(int limit) {
+        List<PinningReport.Site> top = sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<List<String>, Site> entry) -> entry.getValue().count.sum())
+                        .reversed())
+                .limit(limit)
+                .map(entry -> entry.getValue().toReport(entry.getKey()))
+                .toList();
+        return new PinningReport(total.sum(), untracked.sum(), threshold.toMillis(), top);
+    }
+
+    public void reset() {
+        sites.clear();
+        total.reset();
+        untracked.reset();
+    }
+
+    /**
+     * Waits until every event emitted before this call has been delivered. JFR hands events over in periodic
+     * flushes, so this waits for two of them: the one in progress may have started before the call.
+     *
+     * @return whether the flushes arrived in time; always {@code false} when monitoring is disabled
+     */
+    public boolean awaitFlush(Duration timeout) throws InterruptedException {
+        if (stream == null) {
+            return false;
+        }
+        long target = flushes.get() + 2;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (flushes.get() < target) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        return true;
+    }
+
+    private void record(RecordedEvent event) {
+        total.increment();
+        pinned.increment();
+        List<String> stack = topFrames(event.getStackTrace());
+        Site site = sites.get(stack);
+        if (site == null) {
+            if (sites.size() >= maxSites) {
+                untracked.increment();
+                return;
+            }
+            site = sites.computeIfAbsent(stack, key -> new Site());
+        }
+        site.add(event.getDuration());
+    }
+
+    private List<String> topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        List<String> top = new ArrayList<>(Math.min(stackDepth, frames.size()));
+        for (RecordedFrame frame : frames.subList(0, Math.min(stackDepth, frames.size()))) {
+            top.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                    + ":" + frame.getLineNumber());
+        }
+        return List.copyOf(top);
+    }
+
+    private static final class Site {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(Duration duration) {
+            count.increment();
+            totalNanos.add(duration.toNanos());
+            maxNanos.accumulate(duration.toNanos());
+        }
+
+        private PinningReport.Site toReport(List<String> stack) {
+            return new PinningReport.Site(count.sum(), TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()),
+                    TimeUnit.NANOSECONDS.toMillis(maxNanos.get()), stack);
+        }
+    }
+}
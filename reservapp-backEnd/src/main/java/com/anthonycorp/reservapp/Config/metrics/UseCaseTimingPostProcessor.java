@@ -0,0 +1,89 @@
+package com.anthonycorp.reservapp.Config.metrics;
+
+import com.anthonycorp.reservapp.Config.tracing.RequestTrace;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every method a {@code *UseCase} interface in an {@code application} package declares, as
+ * {@code usecase.execution} tagged by use case, method, outcome and exception, with a percentile histogram. The timer
+ * sits outside the use case's own transaction, so commit time is included. The same duration is recorded in the
+ * current {@link RequestTrace} as {@code usecase:<UseCase>.<method>}.
+ */
+@Component
+public class UseCaseTimingPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private static final String SUFFIX = "UseCase";
+
+    public UseCaseTimingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.advisor = new DefaultPointcutAdvisor(new UseCasePointcut(), new TimingInterceptor(meterRegistry));
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+
+    private static Class<?> useCaseInterface(Class<?> targetClass, Method method) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (candidate.getSimpleName().endsWith(SUFFIX)
+                    && ReflectionUtils.findMethod(candidate, method.getName(), method.getParameterTypes()) != null) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static final class UseCasePointcut extends StaticMethodMatcherPointcut {
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return targetClass.getPackageName().contains(".application.")
+                    && useCaseInterface(targetClass, method) != null;
+        }
+    }
+
+    private static final class TimingInterceptor implements MethodInterceptor {
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final Map<Method, String> useCaseNames = new ConcurrentHashMap<>();
+
+        private TimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Timer.Sample sample = Timer.start();
+            long start = System.nanoTime();
+            String exception = "none";
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                exception = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                Method method = invocation.getMethod();
+                String useCase = useCaseNames.computeIfAbsent(method, ignored -> useCaseInterface(
+                        AopUtils.getTargetClass(invocation.getThis()), method).getSimpleName());
+                RequestTrace.record("usecase:" + useCase + "." + method.getName(), System.nanoTime() - start);
+                sample.stop(Timer.builder("usecase.execution")
+                        .tag("use.case", useCase)
+                        .tag("method", method.getName())
+                        .tag("outcome", "none".equals(exception) ? "success" : "error")
+                        .tag("exception", exception)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry.getObject()));
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.anthonycorp.reservapp.Config.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Rate limits per route, from {@code rate-limit.routes}. The first route matching the request's method and path
+ * applies; requests matching none are not limited.
+ *
+ * @param maxKeys     buckets kept at most, least recently used evicted first
+ * @param idleTimeout buckets untouched this long are dropped; they would have refilled anyway
+ */
+@ConfigurationProperties("rate-limit")
+public record RateLimitProperties(@DefaultValue("100000") long maxKeys,
+                                  @DefaultValue("10m") Duration idleTimeout,
+                                  @DefaultValue List<Route> routes) {
+
+    /**
+     * @param method       HTTP method to match, any when empty
+     * @param pattern      path pattern, e.g. {@code /reservations/**}
+     * @param perIp        bucket per client address, unlimited when empty
+     * @param perPrincipal bucket per JWT subject, unlimited when empty; anonymous requests only hit {@code perIp}
+     */
+    public record Route(String method, String pattern, Limit perIp, Limit perPrincipal) {
+    }
+
+    /**
+     * Allows bursts of {@code capacity} requests, refilled evenly over {@code period}.
+     */
+    public record Limit(int capacity, Duration period) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.anthonycorp.reservapp.Config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per route and client, keyed by client address and, once authenticated, by JWT subject. Buckets live
+ * in a bounded Caffeine map that drops idle entries, so a flood of distinct addresses cannot grow it without limit.
+ * Throttled requests are counted in {@code rate.limit.rejected}, tagged by route and key type.
+ */
+@Component
+public class RateLimiter {
+
+    private final List<CompiledRoute> routes;
+    private final Cache<String, TokenBucket> buckets;
+    private final LongSupplier clock;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.routes = properties.routes().stream()
+                .map(route -> new CompiledRoute(route, meterRegistry))
+                .toList();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxKeys())
+                .expireAfterAccess(properties.idleTimeout())
+                .build();
+        this.clock = clock;
+    }
+
+    /**
+     * Takes a token from every bucket the request falls under.
+     *
+     * @param principal JWT subject, or {@code null} for anonymous requests
+     * @return the refusing bucket's state, or else the one with the fewest tokens left; {@code null} when no route
+     * limits the request
+     */
+    public TokenBucket.Probe tryAcquire(String method, String path, String clientAddress, String principal) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (int i = 0; i < routes.size(); i++) {
+            CompiledRoute route = routes.get(i);
+            if (!route.matches(method, pathContainer)) {
+                continue;
+            }
+            long now = clock.getAsLong();
+            TokenBucket.Probe tightest = null;
+            if (route.route.perIp() != null && clientAddress != null) {
+                tightest = take(i + ":ip:" + clientAddress, route.route.perIp(), now);
+                if (!tightest.allowed()) {
+                    route.rejectedByIp.increment();
+                    return tightest;
+                }
+            }
+            if (route.route.perPrincipal() != null && principal != null) {
+                TokenBucket.Probe probe = take(i + ":principal:" + principal, route.route.perPrincipal(), now);
+                if (!probe.allowed()) {
+                    route.rejectedByPrincipal.increment();
+                    return probe;
+                }
+                if (tightest == null || probe.remaining() < tightest.remaining()) {
+                    tightest = probe;
+                }
+            }
+            return tightest;
+        }
+        return null;
+    }
+
+    private TokenBucket.Probe take(String key, RateLimitProperties.Limit limit, long now) {
+        return buckets.get(key, ignored -> new TokenBucket(limit.capacity(), limit.period().toNanos(), now))
+                .tryConsume(now);
+    }
+
+    private static final class CompiledRoute {
+        private final RateLimitProperties.Route route;
+        private final PathPattern pattern;
+        private final Counter rejectedByIp;
+        private final Counter rejectedByPrincipal;
+
+        private CompiledRoute(RateLimitProperties.Route route, MeterRegistry meterRegistry) {
+            this.route = route;
+            this.pattern = PathPatternParser.defaultInstance.parse(route.pattern());
+            this.rejectedByIp = Counter.builder("rate.limit.rejected")
+                    .tags("route", route.pattern(), "key", "ip").register(meterRegistry);
+            this.rejectedByPrincipal = Counter.builder("rate.limit.rejected")
+                    .tags("route", route.pattern(), "key", "principal").register(meterRegistry);
+        }
+
+        private boolean matches(String method, PathContainer path) {
+            return (route.method() == null || route.method().isEmpty() || route.method().equalsIgnoreCase(method))
+                    && pattern.matches(path);
+        }
+    }
+}
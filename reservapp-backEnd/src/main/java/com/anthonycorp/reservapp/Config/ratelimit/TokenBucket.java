@@ -0,0 +1,44 @@
+package com.anthonycorp.reservapp.Config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single timestamp: the moment it would be full again. Taking a token pushes that moment one
+ * refill interval further out, and the request is refused when it would land more than a full bucket's worth of
+ * intervals ahead of now. Every update is one compare-and-set, so concurrent requests for the same key never block.
+ */
+public final class TokenBucket {
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, long periodNanos, long now) {
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, periodNanos / capacity);
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    Probe tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long debt = next - now;
+            if (debt > burstNanos) {
+                return new Probe(false, capacity, 0, debt - burstNanos, current - now);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Probe(true, capacity, (int) ((burstNanos - debt) / intervalNanos), 0, debt);
+            }
+        }
+    }
+
+    /**
+     * @param waitNanos  how long until the next token, when refused
+     * @param resetNanos how long until the bucket is full again
+     */
+    public record Probe(boolean allowed, int limit, int remaining, long waitNanos, long resetNanos) {
+    }
+}
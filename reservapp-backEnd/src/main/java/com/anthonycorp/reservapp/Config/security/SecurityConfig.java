@@ -1,10 +1,18 @@
 package com.anthonycorp.reservapp.Config.security;
 
+import com.anthonycorp.reservapp.Config.ratelimit.RateLimitProperties;
+import com.anthonycorp.reservapp.Config.ratelimit.RateLimiter;
+import com.anthonycorp.reservapp.Config.tracing.RequestTrace;
 import com.anthonycorp.reservapp.Config.web.filter.JwtTokenValidator;
+import com.anthonycorp.reservapp.Config.web.filter.RateLimitFilter;
 import com.anthonycorp.reservapp.User.application.UserDetails.UserDetailsServiceImpl;
+import com.anthonycorp.reservapp.User.infrastructure.cache.UserDetailsCache;
 import com.anthonycorp.reservapp.Utils.web.JwtUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -26,11 +34,18 @@ import org.springframework.security.web.authentication.www.BasicAuthenticationFi
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         return httpSecurity
@@ -38,7 +53,12 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(http -> {
+                    // A streamed export ends with an async dispatch of a request already authorized on the way in,
+                    // and the stateless JWT filter does not run again for it
+                    http.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     http.requestMatchers(HttpMethod.POST, "/auth/login").permitAll();
+                    http.requestMatchers(HttpMethod.GET, "/actuator/health").permitAll();
+                    http.requestMatchers("/actuator/**").hasRole("ADMIN");
 
                     // Users
                     http.requestMatchers(HttpMethod.GET, "/users").hasRole("ADMIN");
@@ -54,26 +74,29 @@ public class SecurityConfig {
 
                     // Reservations
                     http.requestMatchers(HttpMethod.GET, "/reservations/**").hasAnyRole("CUSTOMER", "PROVIDER", "ADMIN");
+                    http.requestMatchers(HttpMethod.POST, "/reservations/import").hasRole("ADMIN");
                     http.requestMatchers(HttpMethod.POST, "/reservations/**").hasRole("CUSTOMER");
                     http.requestMatchers(HttpMethod.PATCH, "/reservations/**").hasRole("CUSTOMER");
 
                     // Provider Reservations and Service Management
                     http.requestMatchers("/provider/reservations/**").hasRole("PROVIDER");
                     http.requestMatchers("/provider/services/**").hasRole("ADMIN");
+                    http.requestMatchers("/provider/working-hours").hasRole("PROVIDER");
                     
                     http.anyRequest().denyAll();
                 })
                 .exceptionHandling(exception -> exception
                         .authenticationEntryPoint((req, res, ex) -> {
-                            System.out.println("AUTH ERROR: " + ex.getMessage());
+                            RequestTrace.fail("authentication: " + ex.getMessage());
                             res.sendError(HttpServletResponse.SC_UNAUTHORIZED, ex.getMessage());
                         })
                         .accessDeniedHandler((req, res, ex) -> {
-                            System.out.println("ACCESS DENIED: " + ex.getMessage());
+                            RequestTrace.fail("access denied: " + ex.getMessage());
                             res.sendError(HttpServletResponse.SC_FORBIDDEN, ex.getMessage());
                         })
                 )
                 .addFilterBefore(new JwtTokenValidator(jwtUtils), BasicAuthenticationFilter.class)
+                .addFilterAfter(new RateLimitFilter(rateLimiter, objectMapper), JwtTokenValidator.class)
                 .build();
     }
 
@@ -83,10 +106,12 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider(UserDetailsServiceImpl userDetailsService) {
+    public AuthenticationProvider authenticationProvider(UserDetailsServiceImpl userDetailsService,
+                                                         UserDetailsCache userDetailsCache) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setPasswordEncoder(passwordEncoder());
         provider.setUserDetailsService(userDetailsService);
+        provider.setUserCache(userDetailsCache);
         return provider;
     }
 
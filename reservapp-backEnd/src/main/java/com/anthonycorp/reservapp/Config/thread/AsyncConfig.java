@@ -1,24 +1,39 @@
 package com.anthonycorp.reservapp.Config.thread;
 
+import com.anthonycorp.reservapp.Config.database.SqlStatistics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+/**
+ * {@code @Async} methods and async MVC responses (such as streamed exports) both run on virtual threads: one new
+ * thread per task, with no pool to exhaust and no queue to overflow. Concurrency towards each downstream is capped by
+ * its {@link Bulkhead} instead.
+ */
 @Configuration
 @EnableAsync
-public class AsyncConfig {
+public class AsyncConfig implements WebMvcConfigurer {
+
+    @Value("${spring.mvc.async.request-timeout:600000}")
+    private long asyncRequestTimeoutMs;
 
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);     // hilos mínimos
-        executor.setMaxPoolSize(10);     // hilos máximos
-        executor.setQueueCapacity(500);  // cola de tareas
-        executor.setThreadNamePrefix("Async-");
-        executor.initialize();
+    public AsyncTaskExecutor taskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+        executor.setVirtualThreads(true);
+        // A streamed export still counts towards the SQL statistics of the request that started it
+        executor.setTaskDecorator(SqlStatistics::propagate);
         return executor;
     }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(taskExecutor());
+        configurer.setDefaultTimeout(asyncRequestTimeoutMs);
+    }
 }
@@ -0,0 +1,84 @@
+package com.anthonycorp.reservapp.Config.thread;
+
+import com.anthonycorp.reservapp.Utils.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps how many callers can use one downstream at the same time. Callers past the cap wait in FIFO order for up to
+ * the queue timeout and are then turned away with {@link BulkheadFullException}, so a slow downstream holds back only
+ * the work that needs it. Waiting is cheap because callers run on virtual threads.
+ * <p>
+ * Published as {@code bulkhead.in.flight}, {@code bulkhead.queued} and {@code bulkhead.rejected}, tagged by name.
+ */
+public class Bulkhead {
+
+    @Getter
+    private final String name;
+    private final Semaphore permits;
+    private final Duration queueTimeout;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejected;
+
+    public Bulkhead(String name, int permits, Duration queueTimeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = new Semaphore(permits, true);
+        this.queueTimeout = queueTimeout;
+        Gauge.builder("bulkhead.in.flight", inFlight, AtomicInteger::get).tag("name", name).register(meterRegistry);
+        Gauge.builder("bulkhead.queued", queued, AtomicInteger::get).tag("name", name).register(meterRegistry);
+        this.rejected = Counter.builder("bulkhead.rejected").tag("name", name).register(meterRegistry);
+    }
+
+    /**
+     * Waits for a permit, to be released by closing the returned handle.
+     *
+     * @throws BulkheadFullException when no permit frees up within the queue timeout
+     */
+    public Permit acquire() {
+        queued.incrementAndGet();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            queued.decrementAndGet();
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new BulkheadFullException("Too many concurrent " + name + " operations, try again later",
+                    queueTimeout);
+        }
+        inFlight.incrementAndGet();
+        return new Permit();
+    }
+
+    /**
+     * Closing is idempotent and safe from any thread, so a permit can be released both by its holder and by a
+     * cleanup callback.
+     */
+    public final class Permit implements AutoCloseable {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.anthonycorp.reservapp.Config.thread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * One {@link Bulkhead} per downstream, sized from {@code async.bulkheads.<name>}.
+ */
+@Component
+public class Bulkheads {
+
+    private final Bulkhead database;
+
+    public Bulkheads(MeterRegistry meterRegistry,
+                     @Value("${async.bulkheads.database.permits:4}") int databasePermits,
+                     @Value("${async.bulkheads.database.queue-timeout-ms:2000}") long databaseQueueTimeoutMs) {
+        this.database = new Bulkhead("database", databasePermits, Duration.ofMillis(databaseQueueTimeoutMs),
+                meterRegistry);
+    }
+
+    // Long-running database work (imports, exports) that holds a connection for far longer than a request
+    public Bulkhead database() {
+        return database;
+    }
+}
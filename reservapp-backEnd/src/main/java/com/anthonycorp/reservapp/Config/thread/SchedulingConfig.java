@@ -0,0 +1,9 @@
+package com.anthonycorp.reservapp.Config.thread;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,37 @@
+package com.anthonycorp.reservapp.Config.tracing;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Logback's {@link AsyncAppender} with {@code neverBlock} drops events silently once its queue is full; this one
+ * counts them. Callers check for room and enqueue under one lock shared only among themselves, so an event that finds
+ * room is always taken and every rejected event is counted. The worker never takes that lock, and the queue already
+ * serializes its callers on its own lock, so it adds no wait on the output.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private final ReentrantLock enqueue = new ReentrantLock();
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        enqueue.lock();
+        try {
+            if (getRemainingCapacity() == 0) {
+                dropped.increment();
+                return;
+            }
+            super.append(event);
+        } finally {
+            enqueue.unlock();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,141 @@
+package com.anthonycorp.reservapp.Config.tracing;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Timings of one request, collected on the request thread and handed to {@link TraceLog} once the response is
+ * complete, which for an async request is when its async context completes. Phases with the same name are folded
+ * into one entry with a call count, so a use case issuing fifty repository calls still produces a single bounded line.
+ * Work moved to another thread, such as the body of a streamed export, is not traced.
+ */
+public final class RequestTrace {
+
+    static final int MAX_PHASES = 32;
+    static final String OTHER_PHASES = "other";
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String requestId;
+    private final String method;
+    private final String path;
+    private final Instant startedAt;
+    private final long startNanos;
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private int status;
+    private long durationNanos;
+    private String error;
+
+    RequestTrace(String requestId, String method, String path, Instant startedAt, long startNanos) {
+        this.requestId = requestId;
+        this.method = method;
+        this.path = path;
+        this.startedAt = startedAt;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Adds {@code nanos} to the named phase of the current request, if the calling thread is serving one.
+     */
+    public static void record(String phase, long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.add(phase, nanos);
+        }
+    }
+
+    /**
+     * Notes why the current request failed, when the failure is handled before it reaches a controller.
+     */
+    public static void fail(String reason) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.error = reason;
+        }
+    }
+
+    static RequestTrace begin(String requestId, String method, String path) {
+        RequestTrace trace = new RequestTrace(requestId, method, path, Instant.now(), System.nanoTime());
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    // Stops recording on the calling thread; an async request ends later, on whichever thread completes it
+    void detach() {
+        CURRENT.remove();
+    }
+
+    void failed(String reason) {
+        this.error = reason;
+    }
+
+    void end(int status) {
+        this.status = status;
+        this.durationNanos = System.nanoTime() - startNanos;
+    }
+
+    void add(String phase, long nanos) {
+        Phase entry = phases.get(phase);
+        if (entry == null) {
+            entry = phases.computeIfAbsent(phases.size() < MAX_PHASES ? phase : OTHER_PHASES, Phase::new);
+        }
+        entry.count++;
+        entry.nanos += nanos;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    Instant getStartedAt() {
+        return startedAt;
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    long getDurationNanos() {
+        return durationNanos;
+    }
+
+    String getError() {
+        return error;
+    }
+
+    Collection<Phase> getPhases() {
+        return phases.values();
+    }
+
+    static final class Phase {
+        private final String name;
+        private int count;
+        private long nanos;
+
+        private Phase(String name) {
+            this.name = name;
+        }
+
+        String name() {
+            return name;
+        }
+
+        int count() {
+            return count;
+        }
+
+        long nanos() {
+            return nanos;
+        }
+    }
+}
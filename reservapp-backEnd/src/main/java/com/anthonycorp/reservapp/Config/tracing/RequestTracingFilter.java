@@ -0,0 +1,111 @@
+package com.anthonycorp.reservapp.Config.tracing;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Outermost filter: gives every request an id, echoed as {@code X-Request-Id}, and opens the {@link RequestTrace} the
+ * rest of the request records its phases into. A well-formed id sent by the caller is kept, so a request can be
+ * followed across services. The trace line of an async request, such as an export, is written when its async context
+ * completes, with the final status and the full duration.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final TraceLog traceLog;
+    private final boolean enabled;
+
+    public RequestTracingFilter(TraceLog traceLog, @Value("${tracing.enabled:true}") boolean enabled) {
+        this.traceLog = traceLog;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String requestId = requestId(request.getHeader(REQUEST_ID_HEADER));
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestTrace trace = RequestTrace.begin(requestId, request.getMethod(), request.getRequestURI());
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+            async = request.isAsyncStarted();
+        } catch (IOException | ServletException | RuntimeException e) {
+            // The container turns it into a 500 after this filter has returned
+            RequestTrace.fail(e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            trace.detach();
+            if (async) {
+                request.getAsyncContext().addListener(endOnCompletion(trace, response));
+            } else {
+                trace.end(status);
+                traceLog.write(trace);
+            }
+        }
+    }
+
+    private AsyncListener endOnCompletion(RequestTrace trace, HttpServletResponse response) {
+        return new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                trace.end(response.getStatus());
+                traceLog.write(trace);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                trace.failed("async timeout");
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                Throwable cause = event.getThrowable();
+                trace.failed(cause == null ? "async error" : cause.getClass().getSimpleName());
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // A new async cycle drops the listeners of the previous one
+                event.getAsyncContext().addListener(this);
+            }
+        };
+    }
+
+    // Not a security token, so a random UUID's SecureRandom (and its lock) is not needed
+    private static String requestId(String header) {
+        if (header != null && VALID_REQUEST_ID.matcher(header).matches()) {
+            return header;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}
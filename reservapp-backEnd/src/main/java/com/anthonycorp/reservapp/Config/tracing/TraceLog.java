@@ -0,0 +1,103 @@
+package com.anthonycorp.reservapp.Config.tracing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes one JSON line per finished {@link RequestTrace} to this class's logger. logback-spring.xml sends that logger,
+ * and only it, through a {@link CountingAsyncAppender} that never blocks: the request thread formats the line and
+ * queues it, a Logback worker writes it, and once the queue ({@code tracing.buffer-size}) is full further lines are
+ * dropped, so a slow or blocked output never stalls a request. Drops are counted as {@code tracing.lines.dropped}
+ * and the queue depth is published as {@code tracing.buffer.used}.
+ */
+@Component
+public class TraceLog {
+
+    static final String APPENDER = "TRACE";
+
+    private final Logger log;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Autowired
+    public TraceLog(MeterRegistry meterRegistry) {
+        this(LoggerFactory.getLogger(TraceLog.class), meterRegistry);
+    }
+
+    TraceLog(Logger log, MeterRegistry meterRegistry) {
+        this.log = log;
+        // Looked up on every read, as Logback may be reconfigured after startup
+        FunctionCounter.builder("tracing.lines.dropped", this,
+                        traceLog -> traceLog.appender() == null ? 0 : traceLog.appender().getDropped())
+                .register(meterRegistry);
+        Gauge.builder("tracing.buffer.used", this,
+                        traceLog -> traceLog.appender() == null ? 0 : traceLog.appender().getNumberOfElementsInQueue())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Formats the trace and hands it to the logger. Never blocks on the output.
+     */
+    public void write(RequestTrace trace) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        StringWriter line = new StringWriter(256);
+        try {
+            writeLine(trace, line);
+        } catch (IOException e) {
+            // A StringWriter does not throw
+            throw new UncheckedIOException(e);
+        }
+        log.info(line.toString());
+    }
+
+    private CountingAsyncAppender appender() {
+        if (log instanceof ch.qos.logback.classic.Logger logger
+                && logger.getAppender(APPENDER) instanceof CountingAsyncAppender appender) {
+            return appender;
+        }
+        return null;
+    }
+
+    private void writeLine(RequestTrace trace, StringWriter out) throws IOException {
+        JsonGenerator json = jsonFactory.createGenerator(out);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.writeStartObject();
+        json.writeStringField("ts", trace.getStartedAt().toString());
+        json.writeStringField("request_id", trace.getRequestId());
+        json.writeStringField("method", trace.getMethod());
+        json.writeStringField("path", trace.getPath());
+        json.writeNumberField("status", trace.getStatus());
+        json.writeNumberField("duration_ms", millis(trace.getDurationNanos()));
+        if (trace.getError() != null) {
+            json.writeStringField("error", trace.getError());
+        }
+        json.writeArrayFieldStart("phases");
+        for (RequestTrace.Phase phase : trace.getPhases()) {
+            json.writeStartObject();
+            json.writeStringField("name", phase.name());
+            json.writeNumberField("count", phase.count());
+            json.writeNumberField("duration_ms", millis(phase.nanos()));
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.close();
+    }
+
+    // Microsecond resolution is plenty for a log line and keeps it short
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
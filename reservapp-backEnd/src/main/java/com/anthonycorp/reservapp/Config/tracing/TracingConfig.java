@@ -0,0 +1,56 @@
+package com.anthonycorp.reservapp.Config.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds the {@link RequestTrace} phases that are not recorded where they happen: every Spring Data repository call,
+ * as {@code repository:<Repository>.<method>}, and the JSON serialization of response bodies, as
+ * {@code serialization}.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryTracing() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(invocation ->
+                            RequestTrace.record("repository:" + invocation.getRepositoryInterface().getSimpleName()
+                                            + "." + invocation.getMethod().getName(),
+                                    invocation.getDuration(TimeUnit.NANOSECONDS))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Replaces the converter Spring Boot would register, with the same configured ObjectMapper
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+                    throws IOException {
+                long start = System.nanoTime();
+                try {
+                    super.writeInternal(object, type, outputMessage);
+                } finally {
+                    RequestTrace.record("serialization", System.nanoTime() - start);
+                }
+            }
+        };
+    }
+}
@@ -1,7 +1,8 @@
 package com.anthonycorp.reservapp.Config.web.filter;
 
+import com.anthonycorp.reservapp.Config.tracing.RequestTrace;
 import com.anthonycorp.reservapp.Utils.web.JwtUtils;
-import com.auth0.jwt.interfaces.DecodedJWT;
+import com.anthonycorp.reservapp.Utils.web.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,14 +12,11 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collection;
 
 public class JwtTokenValidator extends OncePerRequestFilter {
 
@@ -38,17 +36,17 @@ public class JwtTokenValidator extends OncePerRequestFilter {
         if (jwtToken != null) {
             jwtToken = jwtToken.substring(7);
 
-            DecodedJWT decodedJWT = jwtUtils.validateToken(jwtToken);
-
-            String username = jwtUtils.extractUsername(decodedJWT);
-            String stringRole = jwtUtils.getSpecificClaim(decodedJWT, "role").asString();
-
-            Collection<? extends GrantedAuthority> role = AuthorityUtils.commaSeparatedStringToAuthorityList(stringRole);
-
-            System.out.println("Authorities from token: " + role);
+            long start = System.nanoTime();
+            VerifiedToken verifiedToken;
+            try {
+                verifiedToken = jwtUtils.verify(jwtToken);
+            } finally {
+                RequestTrace.record("jwt.verify", System.nanoTime() - start);
+            }
 
             SecurityContext contex = SecurityContextHolder.getContext();
-            Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, role);
+            Authentication authentication = new UsernamePasswordAuthenticationToken(
+                    verifiedToken.username(), null, verifiedToken.authorities());
             contex.setAuthentication(authentication);
             SecurityContextHolder.setContext(contex);
         }
@@ -0,0 +1,71 @@
+package com.anthonycorp.reservapp.Config.web.filter;
+
+import com.anthonycorp.reservapp.Config.ratelimit.RateLimiter;
+import com.anthonycorp.reservapp.Config.ratelimit.TokenBucket;
+import com.anthonycorp.reservapp.Utils.controllerAdvice.ErrorCodes;
+import com.anthonycorp.reservapp.Utils.dto.ErrorDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs after {@link JwtTokenValidator}, so authenticated requests are limited by their subject as well as their
+ * address. Limited routes get {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset}
+ * headers; refused requests get a 429 with {@code Retry-After}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = authentication == null ? null : authentication.getName();
+        TokenBucket.Probe probe = rateLimiter.tryAcquire(request.getMethod(), request.getRequestURI(),
+                request.getRemoteAddr(), principal);
+
+        if (probe != null) {
+            response.setHeader("RateLimit-Limit", String.valueOf(probe.limit()));
+            response.setHeader("RateLimit-Remaining", String.valueOf(probe.remaining()));
+            response.setHeader("RateLimit-Reset", String.valueOf(ceilSeconds(probe.resetNanos())));
+            if (!probe.allowed()) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ceilSeconds(probe.waitNanos())));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), ErrorDto.builder()
+                        .message("Too many requests, try again later")
+                        .errorCode(ErrorCodes.TOO_MANY_REQUESTS)
+                        .timestamp(LocalDateTime.now())
+                        .build());
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return Math.max(0, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -1,46 +1,37 @@
 package com.anthonycorp.reservapp.Mail.application.ConfirmationMailNotification;
 
 import com.anthonycorp.reservapp.Mail.domain.Request.ReservationConfirmationDto;
+import com.anthonycorp.reservapp.Mail.infrastructure.outbox.NotificationOutbox;
+import com.anthonycorp.reservapp.Mail.infrastructure.template.NotificationTemplate;
+import com.anthonycorp.reservapp.Mail.infrastructure.template.NotificationTemplates;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class ConfirmationMailNotificationUseCaseImpl implements ConfirmationMailNotificationUseCase {
 
-    private final JavaMailSender mailSender;
+    private final NotificationOutbox notificationOutbox;
+    private final NotificationTemplates notificationTemplates;
 
-    @Async("taskExecutor")
     @Override
     public void sendReservationConfirmation(ReservationConfirmationDto confirmationDto) {
-        String messageBody = """
-                Hello %s,
-        
-                Your reservation has been send.
-        
-                📅 Date: %s
-                🕒 Time: %s
-                🏷️ Service: %s
-                🔢 Reservation number: %s
-        
-                Thank you for choosing ReservApp!
-                """.formatted(
-                confirmationDto.getCustomerEmail(),
-                confirmationDto.getDate(),
-                confirmationDto.getTime(),
-                confirmationDto.getServiceName(),
-                confirmationDto.getReservationId()
+        NotificationTemplate template = notificationTemplates.get("reservation-confirmation", confirmationDto.getLocale());
+        Map<String, Object> values = Map.of(
+                "customerName", confirmationDto.getCustomerName(),
+                "date", confirmationDto.getDate(),
+                "time", confirmationDto.getTime(),
+                "serviceName", confirmationDto.getServiceName(),
+                "reservationId", confirmationDto.getReservationId()
         );
 
         var message = new SimpleMailMessage();
         message.setTo(confirmationDto.getCustomerEmail());
-        message.setSubject("Your reservation confirmation");
-        message.setText(messageBody);
-        mailSender.send(message);
-
-        System.out.println("Email sent with personalized body on thread: " + Thread.currentThread());
+        message.setSubject(template.renderSubject(values));
+        message.setText(template.renderBody(values));
+        notificationOutbox.enqueue(message);
     }
 }
@@ -2,12 +2,16 @@ package com.anthonycorp.reservapp.Mail.application.ReservationMailNotification;
 
 import com.anthonycorp.reservapp.Mail.domain.Request.ReservationNotificationRequestDto;
 
+import java.util.List;
+
 public interface ReservationMailNotificationUseCase {
 
     void sendReservationConfirmationToProvider(ReservationNotificationRequestDto request);
 
     void sendReservationStatusUpdateToCustomer(ReservationNotificationRequestDto request);
 
+    void sendReservationStatusUpdatesToCustomers(List<ReservationNotificationRequestDto> requests);
+
     String createProviderNotificationContent(ReservationNotificationRequestDto request);
 
     String createCustomerNotificationContent(ReservationNotificationRequestDto request);
@@ -1,95 +1,85 @@
 package com.anthonycorp.reservapp.Mail.application.ReservationMailNotification;
 
 import com.anthonycorp.reservapp.Mail.domain.Request.ReservationNotificationRequestDto;
+import com.anthonycorp.reservapp.Mail.infrastructure.outbox.NotificationOutbox;
+import com.anthonycorp.reservapp.Mail.infrastructure.template.NotificationTemplates;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationMailNotificationUseCaseImpl implements ReservationMailNotificationUseCase {
 
-    private final JavaMailSender mailSender;
+    private static final String PROVIDER_TEMPLATE = "provider-new-reservation";
+    private static final String CUSTOMER_TEMPLATE = "customer-status-update";
+
+    private final NotificationOutbox notificationOutbox;
+    private final NotificationTemplates notificationTemplates;
 
-    @Async("taskExecutor")
     @Override
     public void sendReservationConfirmationToProvider(ReservationNotificationRequestDto request) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(request.getRecipientEmail());
-        message.setSubject("New Reservation to " + request.getProviderName());
+        message.setSubject(notificationTemplates.get(PROVIDER_TEMPLATE, request.getLocale()).renderSubject(providerValues(request)));
         message.setText(createProviderNotificationContent(request));
-        mailSender.send(message);
-        System.out.println("Email sent createProviderNotificationContent : " + Thread.currentThread());
+        notificationOutbox.enqueue(message);
     }
 
-    @Async("taskExecutor")
     @Override
     public void sendReservationStatusUpdateToCustomer(ReservationNotificationRequestDto request) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(request.getRecipientEmail());
-        message.setSubject("Update of your Reservation - " + request.getServiceName());
-        message.setText(createCustomerNotificationContent(request));
-        mailSender.send(message);
-        System.out.println("Email sent createCustomerNotificationContent : " + Thread.currentThread());
+        notificationOutbox.enqueue(customerStatusMessage(request));
+    }
 
+    @Override
+    public void sendReservationStatusUpdatesToCustomers(List<ReservationNotificationRequestDto> requests) {
+        notificationOutbox.enqueueAll(requests.stream().map(this::customerStatusMessage).toList());
     }
 
     @Override
     public String createProviderNotificationContent(ReservationNotificationRequestDto request) {
-        return String.format("""
-            Hola %s,
-            
-            Has recibido una nueva solicitud de reserva:
-            
-            Cliente: %s
-            Servicio: %s
-            Fecha y Hora: 
-            
-            Por favor, ingresa a tu panel para confirmar o rechazar la reserva.
-            
-            Saludos,
-            ReservApp Team
-            """,
-                request.getProviderName(),
-                request.getCustomerName(),
-                request.getServiceName()
-                //request.getReservationDateTime().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"))
-        );
+        return notificationTemplates.get(PROVIDER_TEMPLATE, request.getLocale()).renderBody(providerValues(request));
     }
 
     @Override
     public String createCustomerNotificationContent(ReservationNotificationRequestDto request) {
-        String statusMessage = switch (request.getStatus()) {
-            case ACCEPTED -> "Tu reserva ha sido confirmada.";
-            case CANCELLED -> "Tu reserva ha sido cancelada.";
-            case PENDING -> "Tu reserva está pendiente de confirmación.";
-            default -> "ha cambiado de estado";
-        };
-        return String.format("""
-            Hola %s,
-            
-            Tu reserva para %s %s.
-            
-            Detalles de la reserva:
-            Servicio: %s
-            Proveedor: %s
-            Fecha y Hora: 
-            Estado: %s
-            
-            Saludos,
-            ReservApp Team
-            """,
-                request.getCustomerName(),
-                request.getServiceName(),
-                statusMessage,
-                request.getServiceName(),
-                request.getProviderName(),
-                // request.getReservationDateTime().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")),
-                request.getStatus()
+        return notificationTemplates.get(CUSTOMER_TEMPLATE, request.getLocale()).renderBody(customerValues(request));
+    }
+
+    private SimpleMailMessage customerStatusMessage(ReservationNotificationRequestDto request) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(request.getRecipientEmail());
+        message.setSubject(notificationTemplates.get(CUSTOMER_TEMPLATE, request.getLocale()).renderSubject(customerValues(request)));
+        message.setText(createCustomerNotificationContent(request));
+        return message;
+    }
+
+    private Map<String, Object> providerValues(ReservationNotificationRequestDto request) {
+        return Map.of(
+                "providerName", request.getProviderName(),
+                "customerName", request.getCustomerName(),
+                "serviceName", request.getServiceName(),
+                "date", request.getDate(),
+                "time", request.getTime()
+        );
+    }
+
+    private Map<String, Object> customerValues(ReservationNotificationRequestDto request) {
+        String statusMessage = notificationTemplates
+                .get("status-" + request.getStatus().name().toLowerCase(Locale.ROOT), request.getLocale())
+                .renderBody(Map.of());
+        return Map.of(
+                "customerName", request.getCustomerName(),
+                "serviceName", request.getServiceName(),
+                "statusMessage", statusMessage,
+                "providerName", request.getProviderName(),
+                "date", request.getDate(),
+                "time", request.getTime(),
+                "status", request.getStatus()
         );
     }
 }
@@ -7,6 +7,7 @@ import lombok.Setter;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Locale;
 
 @Getter
 @Setter
@@ -20,4 +21,6 @@ public class ReservationConfirmationDto {
     private LocalDate date;
     private LocalTime time;
     private String serviceName;
+    // The customer's locale, null for the default one
+    private Locale locale;
 }
@@ -3,7 +3,9 @@ package com.anthonycorp.reservapp.Mail.domain.Request;
 import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
 import lombok.*;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Locale;
 
 @Getter
 @Setter
@@ -15,5 +17,9 @@ public class ReservationNotificationRequestDto {
     private String customerName;
     private String providerName;
     private String serviceName;
+    private LocalDate date;
+    private LocalTime time;
     private ReservationStatus status;
+    // The recipient's locale, null for the default one
+    private Locale locale;
 }
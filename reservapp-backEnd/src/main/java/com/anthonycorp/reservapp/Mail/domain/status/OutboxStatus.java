@@ -0,0 +1,24 @@
+package com.anthonycorp.reservapp.Mail.domain.status;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxStatus {
+    PENDING((short) 1),
+    SENT((short) 2),
+    FAILED((short) 3);
+
+    // Value stored in notification_outbox.status, never reuse a code
+    private final short code;
+
+    public static OutboxStatus fromCode(short code) {
+        for (OutboxStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown outbox status code: " + code);
+    }
+}
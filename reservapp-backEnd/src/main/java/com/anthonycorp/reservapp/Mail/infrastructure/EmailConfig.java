@@ -1,11 +1,14 @@
 package com.anthonycorp.reservapp.Mail.infrastructure;
 
+import com.anthonycorp.reservapp.Mail.infrastructure.smtp.PooledJavaMailSender;
+import com.anthonycorp.reservapp.Mail.infrastructure.smtp.SmtpPoolSettings;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
+import java.time.Duration;
 import java.util.Properties;
 
 
@@ -23,9 +26,29 @@ public class EmailConfig {
     @Value("${mail.password}")
     private String password;
 
+    @Value("${mail.pool.max-size:4}")
+    private int poolMaxSize;
+
+    @Value("${mail.pool.borrow-timeout-ms:10000}")
+    private long poolBorrowTimeoutMs;
+
+    @Value("${mail.pool.idle-timeout-ms:60000}")
+    private long poolIdleTimeoutMs;
+
+    @Value("${mail.pool.validate-after-ms:5000}")
+    private long poolValidateAfterMs;
+
+    @Value("${mail.pool.max-messages-per-connection:100}")
+    private int poolMaxMessagesPerConnection;
+
     @Bean
     public JavaMailSender mailSender() {
-        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        JavaMailSenderImpl mailSender = new PooledJavaMailSender(new SmtpPoolSettings(
+                poolMaxSize,
+                Duration.ofMillis(poolBorrowTimeoutMs),
+                Duration.ofMillis(poolIdleTimeoutMs),
+                Duration.ofMillis(poolValidateAfterMs),
+                poolMaxMessagesPerConnection));
 
         mailSender.setHost(host);
         mailSender.setPort(port);
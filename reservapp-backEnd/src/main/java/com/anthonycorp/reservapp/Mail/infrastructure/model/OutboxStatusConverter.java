@@ -0,0 +1,19 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.model;
+
+import com.anthonycorp.reservapp.Mail.domain.status.OutboxStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class OutboxStatusConverter implements AttributeConverter<OutboxStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(OutboxStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public OutboxStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : OutboxStatus.fromCode(code);
+    }
+}
@@ -0,0 +1,49 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.outbox;
+
+import com.anthonycorp.reservapp.Mail.domain.status.OutboxStatus;
+import com.anthonycorp.reservapp.Mail.infrastructure.model.NotificationOutboxEntity;
+import com.anthonycorp.reservapp.Mail.infrastructure.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records mails to be sent once the surrounding transaction commits. Enqueuing outside a transaction is rejected so a
+ * mail can never be recorded for a change that was rolled back, nor lost for one that was committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(SimpleMailMessage message) {
+        enqueueAll(List.of(message));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(List<SimpleMailMessage> messages) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutboxEntity> rows = new ArrayList<>();
+        for (SimpleMailMessage message : messages) {
+            for (String recipient : message.getTo()) {
+                rows.add(NotificationOutboxEntity.builder()
+                        .recipient(recipient)
+                        .subject(message.getSubject())
+                        .body(message.getText())
+                        .status(OutboxStatus.PENDING)
+                        .nextAttemptAt(now)
+                        .createdAt(now)
+                        .build());
+            }
+        }
+        notificationOutboxRepository.saveAll(rows);
+    }
+}
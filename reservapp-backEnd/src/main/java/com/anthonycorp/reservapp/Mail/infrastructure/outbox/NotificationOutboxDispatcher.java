@@ -0,0 +1,210 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.outbox;
+
+import com.anthonycorp.reservapp.Mail.domain.status.OutboxStatus;
+import com.anthonycorp.reservapp.Mail.infrastructure.model.NotificationOutboxEntity;
+import com.anthonycorp.reservapp.Mail.infrastructure.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the notification outbox. Each batch is claimed with {@code FOR UPDATE SKIP LOCKED} and leased by pushing its
+ * next attempt into the future before the claiming transaction commits, so no row lock is held while talking to the
+ * SMTP server and a crashed dispatcher only delays its batch until the lease runs out. The batch then goes out over a
+ * single SMTP connection; failed messages are retried with exponential backoff until they run out of attempts.
+ * <p>
+ * Published as {@code notification.outbox.pending} (queue depth), {@code notification.outbox.send} (one SMTP
+ * round of a batch, by outcome) and {@code notification.outbox.messages} (by result: sent, retry or failed). The queue
+ * depth is counted by the dispatcher after a drain, at most once per {@code notification.outbox.pending-refresh-ms},
+ * so scraping the gauge never touches the database.
+ */
+@Component
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final long pendingRefreshNanos;
+    private final AtomicLong pending = new AtomicLong();
+    private long pendingCountDue = System.nanoTime();
+    private final MeterRegistry meterRegistry;
+    private final Counter sentMessages;
+    private final Counter retriedMessages;
+    private final Counter failedMessages;
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository notificationOutboxRepository,
+                                        JavaMailSender mailSender,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${notification.outbox.batch-size:50}") int batchSize,
+                                        @Value("${notification.outbox.max-attempts:8}") int maxAttempts,
+                                        @Value("${notification.outbox.lease-ms:120000}") long leaseMillis,
+                                        @Value("${notification.outbox.initial-backoff-ms:5000}") long initialBackoffMillis,
+                                        @Value("${notification.outbox.max-backoff-ms:1800000}") long maxBackoffMillis,
+                                        @Value("${notification.outbox.pending-refresh-ms:15000}") long pendingRefreshMillis) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.pendingRefreshNanos = Duration.ofMillis(pendingRefreshMillis).toNanos();
+        this.meterRegistry = meterRegistry;
+        this.sentMessages = messages("sent");
+        this.retriedMessages = messages("retry");
+        this.failedMessages = messages("failed");
+        Gauge.builder("notification.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        while (dispatchBatch() == batchSize) {
+            // A full batch means more rows are probably due, keep going without waiting for the next tick
+        }
+        countPending();
+    }
+
+    /**
+     * Claims, sends and settles at most one batch of due messages.
+     *
+     * @return the number of messages claimed
+     */
+    public int dispatchBatch() {
+        return dispatchBatch(claim());
+    }
+
+    private int dispatchBatch(List<NotificationOutboxEntity> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            messages[i] = toMessage(batch.get(i));
+        }
+
+        Map<Long, Exception> failures = new HashMap<>();
+        Timer.Sample sample = Timer.start();
+        String outcome = "success";
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            outcome = failedMessages.isEmpty() || failedMessages.size() == messages.length ? "error" : "partial";
+            for (int i = 0; i < messages.length; i++) {
+                Exception cause = failedMessages.isEmpty() ? e : failedMessages.get(messages[i]);
+                if (cause != null) {
+                    failures.put(batch.get(i).getId(), cause);
+                }
+            }
+        } catch (MailException e) {
+            outcome = "error";
+            batch.forEach(entry -> failures.put(entry.getId(), e));
+        } finally {
+            sample.stop(Timer.builder("notification.outbox.send")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+
+        settle(batch, failures);
+        return batch.size();
+    }
+
+    // Only the scheduler thread drains, so the due time needs no synchronization
+    private void countPending() {
+        long now = System.nanoTime();
+        if (now - pendingCountDue >= 0) {
+            pending.set(notificationOutboxRepository.countByStatus(OutboxStatus.PENDING));
+            pendingCountDue = now + pendingRefreshNanos;
+        }
+    }
+
+    private List<NotificationOutboxEntity> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationOutboxEntity> due =
+                    notificationOutboxRepository.claimDue(OutboxStatus.PENDING.getCode(), now, batchSize);
+            due.forEach(entry -> entry.setNextAttemptAt(now.plus(lease)));
+            return due;
+        });
+    }
+
+    private void settle(List<NotificationOutboxEntity> batch, Map<Long, Exception> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> sent = new ArrayList<>();
+            List<NotificationOutboxEntity> failed = new ArrayList<>();
+            for (NotificationOutboxEntity entry : batch) {
+                Exception cause = failures.get(entry.getId());
+                if (cause == null) {
+                    sent.add(entry.getId());
+                    continue;
+                }
+                int attempts = entry.getAttempts() + 1;
+                entry.setAttempts(attempts);
+                entry.setLastError(truncate(String.valueOf(cause.getMessage())));
+                if (attempts >= maxAttempts) {
+                    entry.setStatus(OutboxStatus.FAILED);
+                } else {
+                    entry.setNextAttemptAt(now.plus(backoff(attempts)));
+                }
+                failed.add(entry);
+            }
+            if (!sent.isEmpty()) {
+                notificationOutboxRepository.markSent(sent, OutboxStatus.SENT, now);
+            }
+            notificationOutboxRepository.saveAll(failed);
+            sentMessages.increment(sent.size());
+            failed.forEach(entry -> (entry.getStatus() == OutboxStatus.FAILED ? failedMessages : retriedMessages)
+                    .increment());
+        });
+    }
+
+    private Counter messages(String result) {
+        return Counter.builder("notification.outbox.messages").tag("result", result).register(meterRegistry);
+    }
+
+    Duration backoff(int attempts) {
+        long multiplier = 1L << Math.min(attempts - 1, 30);
+        Duration delay = initialBackoff.multipliedBy(multiplier);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static SimpleMailMessage toMessage(NotificationOutboxEntity entry) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(entry.getRecipient());
+        message.setSubject(entry.getSubject());
+        message.setText(entry.getBody());
+        return message;
+    }
+
+    private static String truncate(String error) {
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
@@ -0,0 +1,29 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.repository;
+
+import com.anthonycorp.reservapp.Mail.domain.status.OutboxStatus;
+import com.anthonycorp.reservapp.Mail.infrastructure.model.NotificationOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, Long> {
+
+    // Rows locked by another dispatcher are skipped instead of waited on, so instances drain disjoint batches
+    @Query(value = "select * from notification_outbox where status = :status and next_attempt_at <= :now " +
+            "order by id fetch first :limit rows only for update skip locked", nativeQuery = true)
+    List<NotificationOutboxEntity> claimDue(@Param("status") short status, @Param("now") LocalDateTime now,
+                                            @Param("limit") int limit);
+
+    @Modifying
+    @Query("update NotificationOutboxEntity n set n.status = :status, n.sentAt = :sentAt, n.lastError = null " +
+            "where n.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("status") OutboxStatus status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    long countByStatus(OutboxStatus status);
+}
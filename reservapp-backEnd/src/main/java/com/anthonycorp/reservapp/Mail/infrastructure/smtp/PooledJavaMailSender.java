@@ -0,0 +1,106 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.smtp;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link JavaMailSenderImpl} that sends over connections borrowed from a {@link SmtpConnectionPool} instead of
+ * opening a new TCP + STARTTLS + AUTH session for every {@code send} call. A multi-message
+ * {@code send(SimpleMailMessage...)} goes out over a single connection, moving to a fresh one only when the current
+ * connection breaks or reaches its message limit.
+ */
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private final SmtpConnectionPool pool;
+
+    public PooledJavaMailSender(SmtpPoolSettings settings) {
+        this.pool = new SmtpConnectionPool(this::connectTransport, settings);
+    }
+
+    public SmtpConnectionPool getPool() {
+        return pool;
+    }
+
+    @Scheduled(fixedDelayString = "${mail.pool.eviction-interval-ms:30000}")
+    public void evictIdleConnections() {
+        pool.evictIdle();
+    }
+
+    @Override
+    public void destroy() {
+        pool.close();
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        SmtpConnectionPool.PooledConnection connection = null;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                Object original = (originalMessages != null ? originalMessages[i] : mimeMessages[i]);
+                if (connection == null) {
+                    try {
+                        connection = pool.borrow();
+                    } catch (AuthenticationFailedException e) {
+                        throw new MailAuthenticationException(e);
+                    } catch (MessagingException | MailSendException e) {
+                        // Without a connection none of the remaining messages can go out
+                        for (int j = i; j < mimeMessages.length; j++) {
+                            failedMessages.put(originalMessages != null ? originalMessages[j] : mimeMessages[j], e);
+                        }
+                        break;
+                    }
+                }
+                try {
+                    send(connection, mimeMessages[i]);
+                    connection.markSent();
+                    if (pool.isWornOut(connection)) {
+                        pool.release(connection, true);
+                        connection = null;
+                    }
+                } catch (Exception e) {
+                    failedMessages.put(original, e);
+                    if (!connection.transport().isConnected()) {
+                        pool.release(connection, false);
+                        connection = null;
+                    }
+                }
+            }
+        } finally {
+            if (connection != null) {
+                pool.release(connection, true);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private static void send(SmtpConnectionPool.PooledConnection connection, MimeMessage message) throws MessagingException {
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        String messageId = message.getMessageID();
+        message.saveChanges();
+        if (messageId != null) {
+            // Preserve explicitly specified message id, as it would be overwritten by saveChanges
+            message.setHeader("Message-ID", messageId);
+        }
+        Address[] addresses = message.getAllRecipients();
+        connection.transport().sendMessage(message, (addresses != null ? addresses : new Address[0]));
+    }
+}
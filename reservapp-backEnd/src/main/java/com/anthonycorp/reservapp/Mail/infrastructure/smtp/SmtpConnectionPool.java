@@ -0,0 +1,157 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.smtp;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import org.springframework.mail.MailSendException;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of connected (and authenticated) SMTP transports. Idle connections are reused most recently used
+ * first, checked with a NOOP when they have been idle for longer than {@code validateAfter}, and closed once they
+ * exceed {@code idleTimeout} or have carried {@code maxMessagesPerConnection} messages.
+ */
+public class SmtpConnectionPool implements AutoCloseable {
+
+    @FunctionalInterface
+    public interface Connector {
+        Transport connect() throws MessagingException;
+    }
+
+    private final Connector connector;
+    private final SmtpPoolSettings settings;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    private volatile boolean closed;
+
+    public SmtpConnectionPool(Connector connector, SmtpPoolSettings settings) {
+        this.connector = connector;
+        this.settings = settings;
+        this.permits = new Semaphore(settings.maxSize(), true);
+    }
+
+    public PooledConnection borrow() throws MessagingException {
+        if (closed) {
+            throw new MailSendException("SMTP connection pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(settings.borrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("No SMTP connection available within " + settings.borrowTimeout());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for an SMTP connection", e);
+        }
+        try {
+            PooledConnection connection;
+            while ((connection = idle.pollFirst()) != null) {
+                if (isUsable(connection)) {
+                    return connection;
+                }
+                discard(connection);
+            }
+            connection = new PooledConnection(connector.connect());
+            opened.incrementAndGet();
+            return connection;
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a borrowed connection. Broken or worn-out connections are closed instead of going back to the pool.
+     */
+    public void release(PooledConnection connection, boolean healthy) {
+        try {
+            if (!healthy || closed || isWornOut(connection)) {
+                discard(connection);
+            } else {
+                connection.lastUsedNanos = System.nanoTime();
+                idle.offerFirst(connection);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public boolean isWornOut(PooledConnection connection) {
+        return connection.sent >= settings.maxMessagesPerConnection();
+    }
+
+    public void evictIdle() {
+        for (PooledConnection connection : idle) {
+            if (idleFor(connection).compareTo(settings.idleTimeout()) > 0 && idle.remove(connection)) {
+                discard(connection);
+            }
+        }
+    }
+
+    public long openedConnections() {
+        return opened.get();
+    }
+
+    public long discardedConnections() {
+        return discarded.get();
+    }
+
+    public int idleConnections() {
+        return idle.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            discard(connection);
+        }
+    }
+
+    private boolean isUsable(PooledConnection connection) {
+        Duration idleFor = idleFor(connection);
+        if (idleFor.compareTo(settings.idleTimeout()) > 0) {
+            return false;
+        }
+        // Transport.isConnected() issues a NOOP, so only pay for it when the server may have dropped us
+        return idleFor.compareTo(settings.validateAfter()) < 0 || connection.transport.isConnected();
+    }
+
+    private Duration idleFor(PooledConnection connection) {
+        return Duration.ofNanos(System.nanoTime() - connection.lastUsedNanos);
+    }
+
+    private void discard(PooledConnection connection) {
+        discarded.incrementAndGet();
+        try {
+            connection.transport.close();
+        } catch (MessagingException ignored) {
+            // The connection is being thrown away, a failed QUIT changes nothing
+        }
+    }
+
+    public static final class PooledConnection {
+        private final Transport transport;
+        private int sent;
+        private long lastUsedNanos = System.nanoTime();
+
+        private PooledConnection(Transport transport) {
+            this.transport = transport;
+        }
+
+        public Transport transport() {
+            return transport;
+        }
+
+        public void markSent() {
+            sent++;
+        }
+    }
+}
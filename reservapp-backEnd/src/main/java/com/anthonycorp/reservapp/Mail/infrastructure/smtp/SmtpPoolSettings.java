@@ -0,0 +1,35 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.smtp;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the {@link SmtpConnectionPool}, checked when the mail sender is built so a bad {@code mail.pool.*} value
+ * fails at startup instead of on the first send. A zero {@code validateAfter} checks every connection on borrow.
+ */
+public record SmtpPoolSettings(int maxSize,
+                               Duration borrowTimeout,
+                               Duration idleTimeout,
+                               Duration validateAfter,
+                               int maxMessagesPerConnection) {
+
+    public SmtpPoolSettings {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("mail.pool.max-size must be positive, got " + maxSize);
+        }
+        requirePositive("mail.pool.borrow-timeout-ms", borrowTimeout);
+        requirePositive("mail.pool.idle-timeout-ms", idleTimeout);
+        if (validateAfter == null || validateAfter.isNegative()) {
+            throw new IllegalArgumentException("mail.pool.validate-after-ms must not be negative, got " + validateAfter);
+        }
+        if (maxMessagesPerConnection <= 0) {
+            throw new IllegalArgumentException("mail.pool.max-messages-per-connection must be positive, got "
+                    + maxMessagesPerConnection);
+        }
+    }
+
+    private static void requirePositive(String property, Duration value) {
+        if (value == null || value.isZero() || value.isNegative()) {
+            throw new IllegalArgumentException(property + " must be positive, got " + value);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template parsed once into literal and {@code {{variable}}} segments, so rendering is a single pass of appends
+ * with no format-string parsing.
+ */
+public final class CompiledTemplate {
+
+    // Room for each value on top of the literals, so a typical render does not have to grow its buffer
+    private static final int VALUE_ALLOWANCE = 16;
+
+    private final String source;
+    private final String[] literals;
+    private final String[] variables;
+    private final int estimatedLength;
+
+    private CompiledTemplate(String source, String[] literals, String[] variables) {
+        this.source = source;
+        this.literals = literals;
+        this.variables = variables;
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.estimatedLength = literalLength + VALUE_ALLOWANCE * variables.length;
+    }
+
+    /**
+     * Splits the source into segments. {@code literals[i]} is written before {@code variables[i]}, and the last
+     * literal closes the template.
+     */
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open + " in template: " + source);
+            }
+            String name = source.substring(open + 2, close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder at offset " + open + " in template: " + source);
+            }
+            literals.add(source.substring(position, open));
+            variables.add(name);
+            position = close + 2;
+        }
+        literals.add(source.substring(position));
+        return new CompiledTemplate(source, literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    public String render(Map<String, ?> values) {
+        StringBuilder out = new StringBuilder(estimatedLength);
+        renderTo(out, values);
+        return out.toString();
+    }
+
+    public void renderTo(StringBuilder out, Map<String, ?> values) {
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            Object value = values.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("No value for {{" + variables[i] + "}} in template: " + source);
+            }
+            out.append(value);
+        }
+        out.append(literals[variables.length]);
+    }
+}
@@ -0,0 +1,15 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.template;
+
+import java.util.Locale;
+import java.util.Map;
+
+public record NotificationTemplate(String name, Locale locale, CompiledTemplate subject, CompiledTemplate body) {
+
+    public String renderSubject(Map<String, ?> values) {
+        return subject.render(values);
+    }
+
+    public String renderBody(Map<String, ?> values) {
+        return body.render(values);
+    }
+}
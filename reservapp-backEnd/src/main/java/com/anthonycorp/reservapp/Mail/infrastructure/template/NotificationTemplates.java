@@ -0,0 +1,90 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.template;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Loads every {@code notifications/<language>/<name>.txt} template once at startup and compiles it. A template file
+ * starts with a {@code Subject:} line followed by a blank line and the body; files without a subject line are body
+ * only and are meant to be rendered into other templates.
+ */
+@Component
+public class NotificationTemplates {
+
+    private static final String LOCATION = "classpath*:notifications/*/*.txt";
+    private static final String SUBJECT_PREFIX = "Subject:";
+
+    private final Locale defaultLocale;
+    private final Map<String, NotificationTemplate> templates = new HashMap<>();
+
+    public NotificationTemplates(@Value("${notification.locale:es}") String defaultLocale) {
+        this.defaultLocale = Locale.forLanguageTag(defaultLocale);
+    }
+
+    @PostConstruct
+    public void load() {
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                String[] path = resource.getURL().getPath().split("/");
+                String language = path[path.length - 2];
+                String fileName = path[path.length - 1];
+                String name = fileName.substring(0, fileName.length() - ".txt".length());
+                String content = resource.getContentAsString(StandardCharsets.UTF_8).replace("\r\n", "\n");
+                register(parse(name, Locale.forLanguageTag(language), content));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load notification templates", e);
+        }
+    }
+
+    public NotificationTemplate get(String name) {
+        return get(name, defaultLocale);
+    }
+
+    /**
+     * Resolves the template for the locale's language, falling back to the default locale when the locale is
+     * {@code null} or has no variant of the template.
+     */
+    public NotificationTemplate get(String name, Locale locale) {
+        NotificationTemplate template = locale == null ? null : templates.get(key(name, locale));
+        if (template == null) {
+            template = templates.get(key(name, defaultLocale));
+        }
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown notification template: " + name);
+        }
+        return template;
+    }
+
+    void register(NotificationTemplate template) {
+        templates.put(key(template.name(), template.locale()), template);
+    }
+
+    static NotificationTemplate parse(String name, Locale locale, String content) {
+        String subject = "";
+        String body = content;
+        if (content.startsWith(SUBJECT_PREFIX)) {
+            int lineEnd = content.indexOf('\n');
+            subject = (lineEnd < 0 ? content.substring(SUBJECT_PREFIX.length()) : content.substring(SUBJECT_PREFIX.length(), lineEnd)).trim();
+            body = lineEnd < 0 ? "" : content.substring(lineEnd + 1);
+            if (body.startsWith("\n")) {
+                body = body.substring(1);
+            }
+        }
+        return new NotificationTemplate(name, locale, CompiledTemplate.compile(subject), CompiledTemplate.compile(body));
+    }
+
+    private static String key(String name, Locale locale) {
+        return locale.getLanguage() + '/' + name;
+    }
+}
@@ -0,0 +1,9 @@
+package com.anthonycorp.reservapp.Provider.application.GetWorkingHours;
+
+import com.anthonycorp.reservapp.Provider.domain.request.WorkingHoursDto;
+
+import java.util.List;
+
+public interface GetWorkingHoursUseCase {
+    List<WorkingHoursDto> execute(String providerEmail);
+}
@@ -0,0 +1,26 @@
+package com.anthonycorp.reservapp.Provider.application.GetWorkingHours;
+
+import com.anthonycorp.reservapp.Provider.domain.request.WorkingHoursDto;
+import com.anthonycorp.reservapp.Provider.infrastructure.schedule.ProviderWorkingHours;
+import com.anthonycorp.reservapp.User.infrastructure.exception.UserNotFoundException;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetWorkingHoursUseCaseImpl implements GetWorkingHoursUseCase {
+
+    private final UserRepository userRepository;
+    private final ProviderWorkingHours providerWorkingHours;
+
+    @Override
+    public List<WorkingHoursDto> execute(String providerEmail) {
+        UserEntity provider = userRepository.findUserByEmail(providerEmail)
+                .orElseThrow(() -> new UserNotFoundException("Provider not found"));
+        return List.copyOf(providerWorkingHours.weekOf(provider.getId()).values());
+    }
+}
@@ -0,0 +1,10 @@
+package com.anthonycorp.reservapp.Provider.application.UpdateWorkingHours;
+
+import com.anthonycorp.reservapp.Provider.domain.request.UpdateWorkingHoursDto;
+import com.anthonycorp.reservapp.Provider.domain.request.WorkingHoursDto;
+
+import java.util.List;
+
+public interface UpdateWorkingHoursUseCase {
+    List<WorkingHoursDto> execute(String providerEmail, UpdateWorkingHoursDto dto);
+}
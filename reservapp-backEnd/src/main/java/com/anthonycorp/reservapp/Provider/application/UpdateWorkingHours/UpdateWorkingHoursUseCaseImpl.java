@@ -0,0 +1,58 @@
+package com.anthonycorp.reservapp.Provider.application.UpdateWorkingHours;
+
+import com.anthonycorp.reservapp.Provider.domain.request.UpdateWorkingHoursDto;
+import com.anthonycorp.reservapp.Provider.domain.request.WorkingHoursDto;
+import com.anthonycorp.reservapp.Provider.infrastructure.exception.InvalidWorkingHoursException;
+import com.anthonycorp.reservapp.Provider.infrastructure.model.WorkingHoursEntity;
+import com.anthonycorp.reservapp.Provider.infrastructure.repository.WorkingHoursRepository;
+import com.anthonycorp.reservapp.User.infrastructure.exception.UserNotFoundException;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class UpdateWorkingHoursUseCaseImpl implements UpdateWorkingHoursUseCase {
+
+    private final UserRepository userRepository;
+    private final WorkingHoursRepository workingHoursRepository;
+
+    @Override
+    @Transactional
+    public List<WorkingHoursDto> execute(String providerEmail, UpdateWorkingHoursDto dto) {
+        UserEntity provider = userRepository.findUserByEmail(providerEmail)
+                .orElseThrow(() -> new UserNotFoundException("Provider not found"));
+
+        Set<DayOfWeek> seen = EnumSet.noneOf(DayOfWeek.class);
+        for (WorkingHoursDto day : dto.getDays()) {
+            if (!seen.add(day.getDayOfWeek())) {
+                throw new InvalidWorkingHoursException(day.getDayOfWeek() + " is listed more than once");
+            }
+            if (!day.getOpensAt().isBefore(day.getClosesAt())) {
+                throw new InvalidWorkingHoursException("The opening time must be before the closing time on " + day.getDayOfWeek());
+            }
+        }
+
+        workingHoursRepository.deleteByProviderId(provider.getId());
+        workingHoursRepository.saveAll(dto.getDays().stream()
+                .map(day -> WorkingHoursEntity.builder()
+                        .provider(provider)
+                        .dayOfWeek(day.getDayOfWeek())
+                        .opensAt(day.getOpensAt())
+                        .closesAt(day.getClosesAt())
+                        .build())
+                .toList());
+
+        return dto.getDays().stream()
+                .sorted(Comparator.comparing(WorkingHoursDto::getDayOfWeek))
+                .toList();
+    }
+}
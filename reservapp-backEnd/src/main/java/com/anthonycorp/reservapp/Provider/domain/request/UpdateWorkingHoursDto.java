@@ -0,0 +1,21 @@
+package com.anthonycorp.reservapp.Provider.domain.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateWorkingHoursDto {
+
+    // Replaces the whole week; days left out are closed
+    @NotEmpty(message = "At least one working day is required")
+    private List<@Valid WorkingHoursDto> days;
+}
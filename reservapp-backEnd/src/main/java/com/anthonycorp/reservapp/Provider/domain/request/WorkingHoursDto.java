@@ -0,0 +1,26 @@
+package com.anthonycorp.reservapp.Provider.domain.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingHoursDto {
+
+    @NotNull(message = "The day of week is mandatory")
+    private DayOfWeek dayOfWeek;
+
+    @NotNull(message = "The opening time is mandatory")
+    private LocalTime opensAt;
+
+    @NotNull(message = "The closing time is mandatory")
+    private LocalTime closesAt;
+}
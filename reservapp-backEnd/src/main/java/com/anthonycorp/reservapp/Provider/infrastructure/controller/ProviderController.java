@@ -1,33 +1,106 @@
 package com.anthonycorp.reservapp.Provider.infrastructure.controller;
 
+import com.anthonycorp.reservapp.Config.thread.Bulkhead;
+import com.anthonycorp.reservapp.Config.thread.Bulkheads;
+import com.anthonycorp.reservapp.Provider.application.GetWorkingHours.GetWorkingHoursUseCase;
+import com.anthonycorp.reservapp.Provider.application.UpdateWorkingHours.UpdateWorkingHoursUseCase;
+import com.anthonycorp.reservapp.Provider.domain.request.UpdateWorkingHoursDto;
+import com.anthonycorp.reservapp.Provider.domain.request.WorkingHoursDto;
+import com.anthonycorp.reservapp.Reservation.application.ExportProviderReservations.ExportProviderReservationsUseCase;
 import com.anthonycorp.reservapp.Reservation.application.GetProviderReservations.GetProviderReservationsUseCase;
 import com.anthonycorp.reservapp.Reservation.application.UpdateReservationStatus.UpdateReservationStatusUseCase;
+import com.anthonycorp.reservapp.Reservation.application.UpdateReservationStatuses.UpdateReservationStatusesUseCase;
 import com.anthonycorp.reservapp.Service.application.UpdateServiceStatus.UpdateServiceStatusUseCase;
+import com.anthonycorp.reservapp.Reservation.domain.request.BulkReservationStatusDto;
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationExportRequestDto;
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationPageRequestDto;
 import com.anthonycorp.reservapp.Reservation.domain.response.ProviderReservationDto;
 import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
 import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Utils.dto.CursorPageDto;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequestMapping("/provider")
 @RequiredArgsConstructor
 public class ProviderController {
 
+    private static final String EXPORT_PERMIT = ProviderController.class.getName() + ".exportPermit";
+
     private final GetProviderReservationsUseCase getProviderReservationsUseCase;
+    private final ExportProviderReservationsUseCase exportProviderReservationsUseCase;
     private final UpdateReservationStatusUseCase updateReservationStatusUseCase;
+    private final UpdateReservationStatusesUseCase updateReservationStatusesUseCase;
     private final UpdateServiceStatusUseCase updateServiceStatusUseCase;
+    private final GetWorkingHoursUseCase getWorkingHoursUseCase;
+    private final UpdateWorkingHoursUseCase updateWorkingHoursUseCase;
+    private final Bulkheads bulkheads;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping("/reservations")
-    public ResponseEntity<List<ProviderReservationDto>> getReservations(
-            @RequestParam(required = false) ReservationStatus status,
-            Authentication authentication) {
+    public ResponseEntity<CursorPageDto<ProviderReservationDto>> getReservations(
+            @Valid ReservationPageRequestDto pageRequest,
+            Authentication authentication,
+            ServletWebRequest request) {
+        String providerEmail = authentication.getName();
+        String etag = resourceVersions.etag(providerEmail + '?' + request.getRequest().getQueryString(),
+                ResourceVersions.ALL_RESERVATIONS, ResourceVersions.providerReservations(providerEmail));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok(getProviderReservationsUseCase.execute(providerEmail, pageRequest));
+    }
+
+    // Streamed off the request thread, so the whole history never sits in memory. The database permit is taken here,
+    // while a busy server can still answer with an error status. It is released when the stream is done, or when the
+    // async request ends without it (client abort, timeout, error) so an export that never streams cannot leak it.
+    @GetMapping("/reservations/export")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @Valid ReservationExportRequestDto exportRequest,
+            Authentication authentication,
+            NativeWebRequest request) {
         String providerEmail = authentication.getName();
-        return ResponseEntity.ok(getProviderReservationsUseCase.execute(providerEmail, status));
+        Bulkhead.Permit permit = bulkheads.database().acquire();
+        try {
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_PERMIT,
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                            permit.close();
+                        }
+                    });
+            StreamingResponseBody body = output -> {
+                try (permit) {
+                    exportProviderReservationsUseCase.execute(providerEmail, exportRequest, output);
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(exportRequest.getFormat().getMediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("reservations." + exportRequest.getFormat().getExtension())
+                            .build()
+                            .toString())
+                    .body(body);
+        } catch (RuntimeException e) {
+            permit.close();
+            throw e;
+        }
     }
 
     @PutMapping("/reservations/{reservationId}/status")
@@ -40,6 +113,15 @@ public class ProviderController {
         return ResponseEntity.ok().build();
     }
 
+    @PutMapping("/reservations/status")
+    public ResponseEntity<Void> updateReservationStatuses(
+            @RequestBody @Valid BulkReservationStatusDto bulkReservationStatusDto,
+            Authentication authentication) {
+        String providerEmail = authentication.getName();
+        updateReservationStatusesUseCase.execute(bulkReservationStatusDto, providerEmail);
+        return ResponseEntity.ok().build();
+    }
+
     @PutMapping("/services/{serviceId}/status")
     public ResponseEntity<Void> updateServiceStatus(
             @PathVariable Long serviceId,
@@ -49,4 +131,16 @@ public class ProviderController {
         updateServiceStatusUseCase.execute(serviceId, status, providerEmail);
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    @GetMapping("/working-hours")
+    public ResponseEntity<List<WorkingHoursDto>> getWorkingHours(Authentication authentication) {
+        return ResponseEntity.ok(getWorkingHoursUseCase.execute(authentication.getName()));
+    }
+
+    @PutMapping("/working-hours")
+    public ResponseEntity<List<WorkingHoursDto>> updateWorkingHours(
+            @RequestBody @Valid UpdateWorkingHoursDto updateWorkingHoursDto,
+            Authentication authentication) {
+        return ResponseEntity.ok(updateWorkingHoursUseCase.execute(authentication.getName(), updateWorkingHoursDto));
+    }
+}
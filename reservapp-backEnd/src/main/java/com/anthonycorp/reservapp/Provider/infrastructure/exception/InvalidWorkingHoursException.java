@@ -0,0 +1,7 @@
+package com.anthonycorp.reservapp.Provider.infrastructure.exception;
+
+public class InvalidWorkingHoursException extends RuntimeException {
+    public InvalidWorkingHoursException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.anthonycorp.reservapp.Provider.infrastructure.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.DayOfWeek;
+
+// Stored as the ISO day number, 1 = Monday ... 7 = Sunday
+@Converter
+public class DayOfWeekConverter implements AttributeConverter<DayOfWeek, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(DayOfWeek day) {
+        return day == null ? null : (short) day.getValue();
+    }
+
+    @Override
+    public DayOfWeek convertToEntityAttribute(Short value) {
+        return value == null ? null : DayOfWeek.of(value);
+    }
+}
@@ -0,0 +1,37 @@
+package com.anthonycorp.reservapp.Provider.infrastructure.model;
+
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "provider_working_hours")
+public class WorkingHoursEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "provider_working_hours_seq")
+    @SequenceGenerator(name = "provider_working_hours_seq", sequenceName = "provider_working_hours_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "provider_id", nullable = false)
+    private UserEntity provider;
+
+    @Convert(converter = DayOfWeekConverter.class)
+    @Column(name = "day_of_week", nullable = false)
+    private DayOfWeek dayOfWeek;
+
+    @Column(name = "opens_at", nullable = false)
+    private LocalTime opensAt;
+
+    @Column(name = "closes_at", nullable = false)
+    private LocalTime closesAt;
+}
@@ -0,0 +1,17 @@
+package com.anthonycorp.reservapp.Provider.infrastructure.repository;
+
+import com.anthonycorp.reservapp.Provider.infrastructure.model.WorkingHoursEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface WorkingHoursRepository extends JpaRepository<WorkingHoursEntity, Long> {
+    List<WorkingHoursEntity> findByProviderId(Long providerId);
+
+    @Modifying
+    @Query("delete from WorkingHoursEntity w where w.provider.id = :providerId")
+    void deleteByProviderId(@Param("providerId") Long providerId);
+}
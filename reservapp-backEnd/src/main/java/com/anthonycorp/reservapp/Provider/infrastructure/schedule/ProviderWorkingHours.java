@@ -0,0 +1,47 @@
+package com.anthonycorp.reservapp.Provider.infrastructure.schedule;
+
+import com.anthonycorp.reservapp.Provider.domain.request.WorkingHoursDto;
+import com.anthonycorp.reservapp.Provider.infrastructure.model.WorkingHoursEntity;
+import com.anthonycorp.reservapp.Provider.infrastructure.repository.WorkingHoursRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resolves a provider's week: the hours they saved, or the configured default week when they never set any.
+ */
+@Component
+public class ProviderWorkingHours {
+
+    private final WorkingHoursRepository workingHoursRepository;
+    private final Map<DayOfWeek, WorkingHoursDto> defaultWeek = new EnumMap<>(DayOfWeek.class);
+
+    public ProviderWorkingHours(WorkingHoursRepository workingHoursRepository,
+                                @Value("${provider.working-hours.default-days:MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY}") String days,
+                                @Value("${provider.working-hours.default-opens-at:09:00}") String opensAt,
+                                @Value("${provider.working-hours.default-closes-at:18:00}") String closesAt) {
+        this.workingHoursRepository = workingHoursRepository;
+        Arrays.stream(days.split(","))
+                .map(day -> DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)))
+                .forEach(day -> defaultWeek.put(day,
+                        new WorkingHoursDto(day, LocalTime.parse(opensAt), LocalTime.parse(closesAt))));
+    }
+
+    public Map<DayOfWeek, WorkingHoursDto> weekOf(Long providerId) {
+        List<WorkingHoursEntity> saved = workingHoursRepository.findByProviderId(providerId);
+        if (saved.isEmpty()) {
+            return defaultWeek;
+        }
+        Map<DayOfWeek, WorkingHoursDto> week = new EnumMap<>(DayOfWeek.class);
+        saved.forEach(hours -> week.put(hours.getDayOfWeek(),
+                new WorkingHoursDto(hours.getDayOfWeek(), hours.getOpensAt(), hours.getClosesAt())));
+        return week;
+    }
+}
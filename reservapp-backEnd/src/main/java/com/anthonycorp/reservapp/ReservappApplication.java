@@ -31,6 +31,11 @@ public class ReservappApplication {
 	CommandLineRunner init(UserRepository userRepository, RoleRepository roleRepository) {
 		return	args -> {
 
+			/* The schema is owned by Flyway and survives restarts, seed only an empty database */
+			if (roleRepository.count() > 0) {
+				return;
+			}
+
 			/* Create Roles */
 			RoleEntity roleEntityAdmin = roleRepository.save(RoleEntity.builder()
 					.role(RoleEnum.ADMIN)
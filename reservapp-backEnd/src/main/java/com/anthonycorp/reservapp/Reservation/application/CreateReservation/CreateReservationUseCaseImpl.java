@@ -10,6 +10,7 @@ import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
 import com.anthonycorp.reservapp.Reservation.infrastructure.mapper.ReservationMapper;
 import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
 import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.slot.ReservationSlotIndex;
 import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
 import com.anthonycorp.reservapp.Service.infrastructure.exception.ServiceNotFoundException;
 import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
@@ -17,9 +18,12 @@ import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceReposi
 import com.anthonycorp.reservapp.User.infrastructure.exception.UserNotFoundException;
 import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
 import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
@@ -32,10 +36,13 @@ public class CreateReservationUseCaseImpl implements CreateReservationUseCase {
     private final ServiceRepository serviceRepository;
     private final ReservationRepository reservationRepository;
     private final ReservationMapper reservationMapper;
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final ResourceVersions resourceVersions;
     private final ConfirmationMailNotificationUseCase confirmationMailNotificationUseCase;
     private final ReservationMailNotificationUseCase reservationMailNotificationUseCase;
 
     @Override
+    @Transactional
     public ReservationResponseDto execute(String email, CreateReservationDto dto) {
 
         validateReservationDateAndTime(dto.getDate(), dto.getTime());
@@ -54,18 +61,20 @@ public class CreateReservationUseCaseImpl implements CreateReservationUseCase {
         UserEntity provider = service.getProvider();
 
         // Create the reservation entity
-        ReservationEntity reservation = ReservationEntity.builder()
+        ReservationEntity newReservation = ReservationEntity.builder()
                 .customer(customer)
                 .provider(provider)
                 .service(service)
                 .date(dto.getDate())
                 .time(dto.getTime())
+                .durationMinutes(service.getSlotDurationMinutes())
                 .createdAt(dto.getCreatedAt())
                 .status(ReservationStatus.PENDING)
                 .build();
 
-        // Save the reservation
-        reservation = reservationRepository.save(reservation);
+        // Save the reservation once the provider slot has been claimed
+        ReservationEntity reservation = reservationSlotIndex.book(provider.getId(), dto.getDate(), dto.getTime(),
+                Duration.ofMinutes(service.getSlotDurationMinutes()), () -> reservationRepository.save(newReservation));
 
         // Send confirmation email
         confirmationMailNotificationUseCase.sendReservationConfirmation(
@@ -75,7 +84,8 @@ public class CreateReservationUseCaseImpl implements CreateReservationUseCase {
                         reservation.getId(),
                         reservation.getDate(),
                         reservation.getTime(),
-                        service.getTitle()
+                        service.getTitle(),
+                        customer.getLocale()
                 )
         );
 
@@ -86,10 +96,16 @@ public class CreateReservationUseCaseImpl implements CreateReservationUseCase {
                         .customerName(customer.getName())
                         .providerName(provider.getName())
                         .serviceName(service.getTitle())
+                        .date(reservation.getDate())
+                        .time(reservation.getTime())
                         .status(ReservationStatus.PENDING)
+                        .locale(provider.getLocale())
                         .build()
         );
 
+        resourceVersions.advance(ResourceVersions.customerReservations(customer.getEmail()),
+                ResourceVersions.providerReservations(provider.getEmail()));
+
         return reservationMapper.toDto(reservation);
     }
 
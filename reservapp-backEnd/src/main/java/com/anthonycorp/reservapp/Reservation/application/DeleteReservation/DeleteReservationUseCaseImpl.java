@@ -4,6 +4,8 @@ import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
 import com.anthonycorp.reservapp.Reservation.infrastructure.exception.ReservationNotFoundException;
 import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
 import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.slot.ReservationSlotIndex;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,6 +14,8 @@ import org.springframework.stereotype.Service;
 public class DeleteReservationUseCaseImpl implements DeleteReservationUseCase {
 
     private final ReservationRepository reservationRepository;
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public void execute(Long reservationId, String customerEmail) {
@@ -23,5 +27,8 @@ public class DeleteReservationUseCaseImpl implements DeleteReservationUseCase {
         }
 
         reservationRepository.delete(reservation);
+        reservationSlotIndex.release(reservation.getProvider().getId(), reservation.getId());
+        resourceVersions.advance(ResourceVersions.customerReservations(customerEmail),
+                ResourceVersions.providerReservations(reservation.getProvider().getEmail()));
     }
 }
@@ -0,0 +1,10 @@
+package com.anthonycorp.reservapp.Reservation.application.ExportProviderReservations;
+
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationExportRequestDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportProviderReservationsUseCase {
+    void execute(String providerEmail, ReservationExportRequestDto request, OutputStream output) throws IOException;
+}
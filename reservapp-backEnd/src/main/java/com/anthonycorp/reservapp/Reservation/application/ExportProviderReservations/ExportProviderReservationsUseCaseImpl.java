@@ -0,0 +1,51 @@
+package com.anthonycorp.reservapp.Reservation.application.ExportProviderReservations;
+
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationExportRequestDto;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationSpecifications;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.projection.ReservationRow;
+import com.anthonycorp.reservapp.Utils.exports.ExportWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class ExportProviderReservationsUseCaseImpl implements ExportProviderReservationsUseCase {
+
+    static final List<String> COLUMNS = List.of(
+            "id", "customer_name", "customer_email", "service_name", "date", "time", "status");
+
+    private final ReservationRepository reservationRepository;
+    private final int fetchSize;
+
+    public ExportProviderReservationsUseCaseImpl(ReservationRepository reservationRepository,
+                                                 @Value("${reservation.export.fetch-size:500}") int fetchSize) {
+        this.reservationRepository = reservationRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    // Each row goes from the cursor to the response before the next one is read
+    @Override
+    @Transactional(readOnly = true)
+    public void execute(String providerEmail, ReservationExportRequestDto request, OutputStream output) throws IOException {
+        ExportWriter writer = ExportWriter.open(request.getFormat(), output, COLUMNS);
+        try (Stream<ReservationRow> rows = reservationRepository.streamRows(
+                ReservationSpecifications.providerEmail(providerEmail)
+                        .and(ReservationSpecifications.matching(request.getStatus(), request.getFrom(), request.getTo())),
+                fetchSize)) {
+            Iterator<ReservationRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ReservationRow row = iterator.next();
+                writer.write(row.id(), row.customerName(), row.customerEmail(), row.serviceTitle(), row.date(),
+                        row.time(), row.status());
+            }
+        }
+        writer.flush();
+    }
+}
@@ -1,9 +1,9 @@
 package com.anthonycorp.reservapp.Reservation.application.GetMyReservations;
 
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationPageRequestDto;
 import com.anthonycorp.reservapp.Reservation.domain.response.ReservationResponseDto;
-
-import java.util.List;
+import com.anthonycorp.reservapp.Utils.dto.CursorPageDto;
 
 public interface GetMyReservationsUseCase {
-    List<ReservationResponseDto> getReservationAsCustomer(String email);
+    CursorPageDto<ReservationResponseDto> getReservationAsCustomer(String email, ReservationPageRequestDto request);
 }
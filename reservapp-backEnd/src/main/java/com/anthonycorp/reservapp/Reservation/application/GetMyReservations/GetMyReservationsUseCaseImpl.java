@@ -1,38 +1,34 @@
 package com.anthonycorp.reservapp.Reservation.application.GetMyReservations;
 
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationPageRequestDto;
 import com.anthonycorp.reservapp.Reservation.domain.response.ReservationResponseDto;
+import com.anthonycorp.reservapp.Reservation.infrastructure.mapper.ReservationMapper;
 import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationSpecifications;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.projection.ReservationRow;
 import com.anthonycorp.reservapp.User.infrastructure.exception.UserNotFoundException;
 import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
 import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Utils.dto.CursorPageDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 @RequiredArgsConstructor
 public class GetMyReservationsUseCaseImpl implements GetMyReservationsUseCase {
 
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
+    private final ReservationMapper reservationMapper;
 
     @Override
-    public List<ReservationResponseDto> getReservationAsCustomer(String email) {
+    public CursorPageDto<ReservationResponseDto> getReservationAsCustomer(String email, ReservationPageRequestDto request) {
         UserEntity user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("Authenticated user not found"));
-        return reservationRepository.findByCustomer(user)
+        CursorPageDto<ReservationRow> page = reservationRepository.findRowPage(ReservationSpecifications.customer(user), request);
+        return new CursorPageDto<>(page.getItems()
                 .stream()
-                .map(reservation -> ReservationResponseDto.builder()
-                        .id(reservation.getId())
-                        .customerName(reservation.getCustomer().getName())
-                        .providerName(reservation.getProvider().getName())
-                        .serviceTitle(reservation.getService().getTitle())
-                        .date(reservation.getDate().toString())
-                        .time(reservation.getTime().toString())
-                        .status(reservation.getStatus().toString())
-                        .build())
-                .collect(Collectors.toList());
+                .map(reservationMapper::toDto)
+                .toList(), page.getNextCursor());
     }
 }
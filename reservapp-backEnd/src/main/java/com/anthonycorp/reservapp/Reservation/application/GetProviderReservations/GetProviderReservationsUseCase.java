@@ -1,10 +1,9 @@
 package com.anthonycorp.reservapp.Reservation.application.GetProviderReservations;
 
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationPageRequestDto;
 import com.anthonycorp.reservapp.Reservation.domain.response.ProviderReservationDto;
-import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
-
-import java.util.List;
+import com.anthonycorp.reservapp.Utils.dto.CursorPageDto;
 
 public interface GetProviderReservationsUseCase {
-    List<ProviderReservationDto> execute(String providerEmail, ReservationStatus status);
+    CursorPageDto<ProviderReservationDto> execute(String providerEmail, ReservationPageRequestDto request);
 }
@@ -1,16 +1,15 @@
 package com.anthonycorp.reservapp.Reservation.application.GetProviderReservations;
 
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationPageRequestDto;
 import com.anthonycorp.reservapp.Reservation.domain.response.ProviderReservationDto;
-import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
 import com.anthonycorp.reservapp.Reservation.infrastructure.mapper.ReservationMapper;
-import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
 import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationSpecifications;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.projection.ReservationRow;
+import com.anthonycorp.reservapp.Utils.dto.CursorPageDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 @RequiredArgsConstructor
 public class GetProviderReservationsUseCaseImpl implements GetProviderReservationsUseCase {
@@ -19,17 +18,12 @@ public class GetProviderReservationsUseCaseImpl implements GetProviderReservatio
     private final ReservationMapper reservationMapper;
 
     @Override
-    public List<ProviderReservationDto> execute(String providerEmail, ReservationStatus status) {
-
-        List<ReservationEntity> reservations;
+    public CursorPageDto<ProviderReservationDto> execute(String providerEmail, ReservationPageRequestDto request) {
 
-    if (status != null) {
-            reservations = reservationRepository.findByProviderEmailAndStatus(providerEmail, status);
-        } else {
-            reservations = reservationRepository.findByProviderEmail(providerEmail);
-        }
+        CursorPageDto<ReservationRow> page = reservationRepository.findRowPage(
+                ReservationSpecifications.providerEmail(providerEmail), request);
 
-        return reservations.stream()
-                .map(reservationMapper::toProviderReservationDto).toList();
+        return new CursorPageDto<>(page.getItems().stream()
+                .map(reservationMapper::toProviderReservationDto).toList(), page.getNextCursor());
     }
 }
@@ -0,0 +1,10 @@
+package com.anthonycorp.reservapp.Reservation.application.ImportReservations;
+
+import com.anthonycorp.reservapp.Utils.dto.ImportReportDto;
+import com.anthonycorp.reservapp.Utils.imports.ImportFormat;
+
+import java.io.InputStream;
+
+public interface ImportReservationsUseCase {
+    ImportReportDto execute(ImportFormat format, InputStream input);
+}
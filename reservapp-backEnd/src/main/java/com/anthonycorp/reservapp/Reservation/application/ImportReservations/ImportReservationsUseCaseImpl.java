@@ -0,0 +1,105 @@
+package com.anthonycorp.reservapp.Reservation.application.ImportReservations;
+
+import com.anthonycorp.reservapp.Reservation.domain.request.ImportReservationDto;
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.SlotUnavailableException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.slot.ReservationSlotIndex;
+import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Utils.dto.ImportErrorDto;
+import com.anthonycorp.reservapp.Utils.dto.ImportReportDto;
+import com.anthonycorp.reservapp.Utils.imports.BatchImporter;
+import com.anthonycorp.reservapp.Utils.imports.ImportFormat;
+import com.anthonycorp.reservapp.Utils.imports.ImportRow;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ImportReservationsUseCaseImpl implements ImportReservationsUseCase {
+
+    private final BatchImporter batchImporter;
+    private final ReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final ServiceRepository serviceRepository;
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final ResourceVersions resourceVersions;
+
+    // Imported reservations are taken as already agreed with the customer, so no mail goes out for them
+    @Override
+    public ImportReportDto execute(ImportFormat format, InputStream input) {
+        ImportReportDto report = batchImporter.run(format, input, ImportReservationDto.class, this::write);
+        if (report.getImported() > 0) {
+            resourceVersions.advanceAll();
+        }
+        return report;
+    }
+
+    // Customers and services for the whole batch are fetched with one query each
+    private List<ImportErrorDto> write(List<ImportRow<ImportReservationDto>> rows) {
+        Map<String, UserEntity> customers = userRepository.findByEmailIn(rows.stream()
+                        .map(row -> row.value().getCustomerEmail())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(UserEntity::getEmail, Function.identity()));
+        Map<Long, ServiceEntity> services = serviceRepository.findWithProviderByIdIn(rows.stream()
+                        .map(row -> row.value().getServiceId())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(ServiceEntity::getId, Function.identity()));
+
+        List<ImportErrorDto> rejected = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (ImportRow<ImportReservationDto> row : rows) {
+            ImportReservationDto dto = row.value();
+            UserEntity customer = customers.get(dto.getCustomerEmail());
+            ServiceEntity service = services.get(dto.getServiceId());
+            if (customer == null) {
+                rejected.add(new ImportErrorDto(row.line(), "Customer not found"));
+                continue;
+            }
+            if (service == null) {
+                rejected.add(new ImportErrorDto(row.line(), "Service not found"));
+                continue;
+            }
+            ReservationStatus status = dto.getStatus() == null ? ReservationStatus.PENDING : dto.getStatus();
+            ReservationEntity reservation = ReservationEntity.builder()
+                    .customer(customer)
+                    .provider(service.getProvider())
+                    .service(service)
+                    .date(dto.getDate())
+                    .time(dto.getTime())
+                    .durationMinutes(service.getSlotDurationMinutes())
+                    .createdAt(now)
+                    .status(status)
+                    .build();
+            if (!ReservationSlotIndex.ACTIVE_STATUSES.contains(status)) {
+                reservationRepository.save(reservation);
+                continue;
+            }
+            try {
+                // The sequence hands out the id on save, so the slot is indexed before the batch is flushed
+                reservationSlotIndex.book(service.getProvider().getId(), dto.getDate(), dto.getTime(),
+                        Duration.ofMinutes(service.getSlotDurationMinutes()),
+                        () -> reservationRepository.save(reservation));
+            } catch (SlotUnavailableException e) {
+                rejected.add(new ImportErrorDto(row.line(), e.getMessage()));
+            }
+        }
+        return rejected;
+    }
+}
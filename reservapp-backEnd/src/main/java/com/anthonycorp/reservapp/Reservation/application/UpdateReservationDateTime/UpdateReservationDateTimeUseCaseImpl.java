@@ -6,9 +6,12 @@ import com.anthonycorp.reservapp.Reservation.infrastructure.exception.Reservatio
 import com.anthonycorp.reservapp.Reservation.infrastructure.mapper.ReservationMapper;
 import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
 import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.slot.ReservationSlotIndex;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
@@ -18,6 +21,8 @@ public class UpdateReservationDateTimeUseCaseImpl implements UpdateReservationDa
 
     private final ReservationRepository reservationRepository;
     private final ReservationMapper reservationMapper;
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public ReservationResponseDto execute(Long reservationId, LocalDate newDate, LocalTime newTime, String customerEmail) {
@@ -36,10 +41,16 @@ public class UpdateReservationDateTimeUseCaseImpl implements UpdateReservationDa
         // Check if the new date and time are in the future
         validateDateAndTime(newDate, newTime);
 
-        reservation.setDate(newDate);
-        reservation.setTime(newTime);
+        ReservationEntity updatedReservation = reservationSlotIndex.reschedule(
+                reservation.getProvider().getId(), reservation.getId(), newDate, newTime,
+                Duration.ofMinutes(reservation.getDurationMinutes()), () -> {
+                    reservation.setDate(newDate);
+                    reservation.setTime(newTime);
+                    return reservationRepository.save(reservation);
+                });
 
-        ReservationEntity updatedReservation = reservationRepository.save(reservation);
+        resourceVersions.advance(ResourceVersions.customerReservations(customerEmail),
+                ResourceVersions.providerReservations(reservation.getProvider().getEmail()));
 
         return reservationMapper.toDto(updatedReservation);
 
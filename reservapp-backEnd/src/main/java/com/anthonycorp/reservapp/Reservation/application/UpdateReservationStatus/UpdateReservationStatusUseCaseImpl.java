@@ -6,17 +6,25 @@ import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
 import com.anthonycorp.reservapp.Reservation.infrastructure.exception.ReservationNotFoundException;
 import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
 import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.slot.ReservationSlotIndex;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
 public class UpdateReservationStatusUseCaseImpl implements UpdateReservationStatusUseCase {
 
     private final ReservationRepository reservationRepository;
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final ResourceVersions resourceVersions;
     private final ReservationMailNotificationUseCase reservationMailNotificationUseCase;
 
     @Override
+    @Transactional
     public void execute(Long reservationId, ReservationStatus newStatus, String providerEmail) {
         ReservationEntity reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ReservationNotFoundException("Reservation not found with ID: " + reservationId));
@@ -25,18 +33,39 @@ public class UpdateReservationStatusUseCaseImpl implements UpdateReservationStat
             throw new IllegalArgumentException("Provider email does not match the reservation's service provider.");
         }
 
-        reservation.setStatus(newStatus);
-        reservationRepository.save(reservation);
+        boolean wasActive = ReservationSlotIndex.ACTIVE_STATUSES.contains(reservation.getStatus());
+        boolean isActive = ReservationSlotIndex.ACTIVE_STATUSES.contains(newStatus);
+        Long providerId = reservation.getProvider().getId();
+
+        if (!wasActive && isActive) {
+            // Re-activating a reservation has to claim its slot again
+            reservationSlotIndex.book(providerId, reservation.getDate(), reservation.getTime(),
+                    Duration.ofMinutes(reservation.getDurationMinutes()), () -> {
+                reservation.setStatus(newStatus);
+                return reservationRepository.save(reservation);
+            });
+        } else {
+            reservation.setStatus(newStatus);
+            reservationRepository.save(reservation);
+            if (wasActive && !isActive) {
+                reservationSlotIndex.release(providerId, reservation.getId());
+            }
+        }
 
         ReservationNotificationRequestDto customerNotification = ReservationNotificationRequestDto.builder()
                 .recipientEmail(reservation.getCustomer().getEmail())
                 .customerName(reservation.getCustomer().getName())
                 .providerName(reservation.getService().getProvider().getName())
                 .serviceName(reservation.getService().getTitle())
+                .date(reservation.getDate())
+                .time(reservation.getTime())
                 .status(newStatus)
+                .locale(reservation.getCustomer().getLocale())
                 .build();
 
         reservationMailNotificationUseCase.sendReservationStatusUpdateToCustomer(customerNotification);
+        resourceVersions.advance(ResourceVersions.customerReservations(reservation.getCustomer().getEmail()),
+                ResourceVersions.providerReservations(reservation.getProvider().getEmail()));
 
 
     }
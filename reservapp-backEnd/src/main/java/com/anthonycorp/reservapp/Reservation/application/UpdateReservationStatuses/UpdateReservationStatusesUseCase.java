@@ -0,0 +1,7 @@
+package com.anthonycorp.reservapp.Reservation.application.UpdateReservationStatuses;
+
+import com.anthonycorp.reservapp.Reservation.domain.request.BulkReservationStatusDto;
+
+public interface UpdateReservationStatusesUseCase {
+    void execute(BulkReservationStatusDto dto, String providerEmail);
+}
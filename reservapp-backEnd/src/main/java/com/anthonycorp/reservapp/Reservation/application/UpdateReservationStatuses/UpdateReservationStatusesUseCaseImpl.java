@@ -0,0 +1,112 @@
+package com.anthonycorp.reservapp.Reservation.application.UpdateReservationStatuses;
+
+import com.anthonycorp.reservapp.Mail.application.ReservationMailNotification.ReservationMailNotificationUseCase;
+import com.anthonycorp.reservapp.Mail.domain.Request.ReservationNotificationRequestDto;
+import com.anthonycorp.reservapp.Reservation.domain.request.BulkReservationStatusDto;
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationStatusChangeDto;
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.InvalidBulkUpdateException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.ReservationNotFoundException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.slot.ReservationSlotIndex;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies many status changes for one provider in a single transaction: one query loads and checks ownership of every
+ * reservation, one UPDATE per target status writes them, and the customer mails go to the outbox as one batch.
+ */
+@Service
+@RequiredArgsConstructor
+public class UpdateReservationStatusesUseCaseImpl implements UpdateReservationStatusesUseCase {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotIndex reservationSlotIndex;
+    private final ResourceVersions resourceVersions;
+    private final ReservationMailNotificationUseCase reservationMailNotificationUseCase;
+
+    @Override
+    @Transactional
+    public void execute(BulkReservationStatusDto dto, String providerEmail) {
+        Map<Long, ReservationStatus> requested = new LinkedHashMap<>();
+        for (ReservationStatusChangeDto change : dto.getUpdates()) {
+            if (requested.put(change.getReservationId(), change.getStatus()) != null) {
+                throw new InvalidBulkUpdateException("Reservation " + change.getReservationId() + " is listed more than once");
+            }
+        }
+
+        // Reservations of other providers are indistinguishable from missing ones
+        Map<Long, ReservationEntity> reservations = reservationRepository
+                .findByIdInAndProviderEmail(requested.keySet(), providerEmail).stream()
+                .collect(Collectors.toMap(ReservationEntity::getId, Function.identity()));
+        if (reservations.size() != requested.size()) {
+            Set<Long> missing = new LinkedHashSet<>(requested.keySet());
+            missing.removeAll(reservations.keySet());
+            throw new ReservationNotFoundException("Reservations not found for this provider: " + missing);
+        }
+
+        Map<ReservationStatus, List<Long>> byStatus = new EnumMap<>(ReservationStatus.class);
+        List<ReservationEntity> activated = new ArrayList<>();
+        List<ReservationEntity> changed = new ArrayList<>();
+        requested.forEach((id, newStatus) -> {
+            ReservationEntity reservation = reservations.get(id);
+            if (reservation.getStatus() == newStatus) {
+                return;
+            }
+            boolean wasActive = ReservationSlotIndex.ACTIVE_STATUSES.contains(reservation.getStatus());
+            boolean isActive = ReservationSlotIndex.ACTIVE_STATUSES.contains(newStatus);
+            if (wasActive && !isActive) {
+                reservationSlotIndex.release(reservation.getProvider().getId(), id);
+            } else if (!wasActive && isActive) {
+                activated.add(reservation);
+            }
+            byStatus.computeIfAbsent(newStatus, status -> new ArrayList<>()).add(id);
+            changed.add(reservation);
+        });
+
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        // Slots freed by this batch are released first; they stay taken for everyone else until it commits, but the
+        // reservations it re-activates may claim them
+        for (ReservationEntity reservation : activated) {
+            reservationSlotIndex.book(reservation.getProvider().getId(), reservation.getDate(), reservation.getTime(),
+                    Duration.ofMinutes(reservation.getDurationMinutes()), () -> reservation);
+        }
+
+        byStatus.forEach((status, ids) -> reservationRepository.updateStatus(ids, status));
+
+        reservationMailNotificationUseCase.sendReservationStatusUpdatesToCustomers(changed.stream()
+                .map(reservation -> ReservationNotificationRequestDto.builder()
+                        .recipientEmail(reservation.getCustomer().getEmail())
+                        .customerName(reservation.getCustomer().getName())
+                        .providerName(reservation.getProvider().getName())
+                        .serviceName(reservation.getService().getTitle())
+                        .date(reservation.getDate())
+                        .time(reservation.getTime())
+                        .status(requested.get(reservation.getId()))
+                        .locale(reservation.getCustomer().getLocale())
+                        .build())
+                .toList());
+
+        Set<String> resources = new LinkedHashSet<>();
+        resources.add(ResourceVersions.providerReservations(providerEmail));
+        changed.forEach(reservation -> resources.add(ResourceVersions.customerReservations(reservation.getCustomer().getEmail())));
+        resourceVersions.advance(resources.toArray(String[]::new));
+    }
+}
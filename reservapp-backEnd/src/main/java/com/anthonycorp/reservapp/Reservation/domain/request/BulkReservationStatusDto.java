@@ -0,0 +1,22 @@
+package com.anthonycorp.reservapp.Reservation.domain.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReservationStatusDto {
+
+    @NotEmpty(message = "At least one status change is required")
+    @Size(max = 500, message = "At most 500 status changes can be sent at once")
+    private List<@Valid ReservationStatusChangeDto> updates;
+}
@@ -0,0 +1,36 @@
+package com.anthonycorp.reservapp.Reservation.domain.request;
+
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReservationDto {
+
+    @NotBlank(message = "The customer email is mandatory")
+    @Email(message = "The customer email is not valid")
+    private String customerEmail;
+
+    @NotNull(message = "The service ID is required")
+    private Long serviceId;
+
+    @NotNull(message = "The date is mandatory")
+    private LocalDate date;
+
+    @NotNull(message = "The time is mandatory")
+    private LocalTime time;
+
+    // Defaults to PENDING when omitted
+    private ReservationStatus status;
+}
@@ -0,0 +1,30 @@
+package com.anthonycorp.reservapp.Reservation.domain.request;
+
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Utils.exports.ExportFormat;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationExportRequestDto {
+
+    private ReservationStatus status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    @NotNull(message = "The export format cannot be null")
+    private ExportFormat format = ExportFormat.CSV;
+}
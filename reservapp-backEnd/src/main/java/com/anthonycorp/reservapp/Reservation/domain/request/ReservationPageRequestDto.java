@@ -0,0 +1,33 @@
+package com.anthonycorp.reservapp.Reservation.domain.request;
+
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationPageRequestDto {
+
+    private ReservationStatus status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private String cursor;
+
+    @Min(value = 1, message = "The page size must be at least 1")
+    @Max(value = 100, message = "The page size must be at most 100")
+    private int size = 20;
+}
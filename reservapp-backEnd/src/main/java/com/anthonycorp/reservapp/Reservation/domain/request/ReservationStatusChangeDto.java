@@ -0,0 +1,21 @@
+package com.anthonycorp.reservapp.Reservation.domain.request;
+
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationStatusChangeDto {
+
+    @NotNull(message = "The reservation id is mandatory")
+    private Long reservationId;
+
+    @NotNull(message = "The status is mandatory")
+    private ReservationStatus status;
+}
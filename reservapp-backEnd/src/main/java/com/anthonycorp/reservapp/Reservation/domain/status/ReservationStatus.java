@@ -1,8 +1,25 @@
 package com.anthonycorp.reservapp.Reservation.domain.status;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
 public enum ReservationStatus {
-    PENDING,
-    ACCEPTED,
-    REJECTED,
-    CANCELLED
-}
\ No newline at end of file
+    PENDING((short) 1),
+    ACCEPTED((short) 2),
+    REJECTED((short) 3),
+    CANCELLED((short) 4);
+
+    // Value stored in reservations.status, never reuse a code
+    private final short code;
+
+    public static ReservationStatus fromCode(short code) {
+        for (ReservationStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown reservation status code: " + code);
+    }
+}
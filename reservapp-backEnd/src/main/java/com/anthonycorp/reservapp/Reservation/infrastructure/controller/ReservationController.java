@@ -3,20 +3,28 @@ package com.anthonycorp.reservapp.Reservation.infrastructure.controller;
 import com.anthonycorp.reservapp.Reservation.application.CreateReservation.CreateReservationUseCase;
 import com.anthonycorp.reservapp.Reservation.application.DeleteReservation.DeleteReservationUseCase;
 import com.anthonycorp.reservapp.Reservation.application.GetMyReservations.GetMyReservationsUseCase;
+import com.anthonycorp.reservapp.Reservation.application.ImportReservations.ImportReservationsUseCase;
 import com.anthonycorp.reservapp.Reservation.application.UpdateReservationDateTime.UpdateReservationDateTimeUseCase;
 import com.anthonycorp.reservapp.Reservation.domain.request.CreateReservationDto;
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationPageRequestDto;
 import com.anthonycorp.reservapp.Reservation.domain.request.UpdateReservationDateTimeDto;
 import com.anthonycorp.reservapp.Reservation.domain.response.ReservationResponseDto;
+import com.anthonycorp.reservapp.Utils.dto.CursorPageDto;
+import com.anthonycorp.reservapp.Utils.dto.ImportReportDto;
+import com.anthonycorp.reservapp.Utils.imports.ImportFormat;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.List;
 
 
 @RestController
@@ -28,6 +36,8 @@ public class ReservationController {
     private final GetMyReservationsUseCase getMyReservationsUseCase;
     private final UpdateReservationDateTimeUseCase updateReservationDateTimeUseCase;
     private final DeleteReservationUseCase deleteReservationUseCase;
+    private final ImportReservationsUseCase importReservationsUseCase;
+    private final ResourceVersions resourceVersions;
 
     @PostMapping
     public ResponseEntity<ReservationResponseDto> createReservation(@Valid @RequestBody CreateReservationDto dto,
@@ -37,10 +47,27 @@ public class ReservationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // Admin bulk load, streams a text/csv or application/x-ndjson body, one reservation per row
+    @PostMapping("/import")
+    public ResponseEntity<ImportReportDto> importReservations(@RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                                              InputStream body) {
+        ImportFormat format = ImportFormat.fromContentType(contentType);
+        ImportReportDto report = importReservationsUseCase.execute(format, body);
+        return ResponseEntity.status(HttpStatus.OK).body(report);
+    }
+
     @GetMapping("/me")
-    public ResponseEntity<List<ReservationResponseDto>> getMyReservationsAsCustomer(Authentication authentication) {
+    public ResponseEntity<CursorPageDto<ReservationResponseDto>> getMyReservationsAsCustomer(
+            @Valid ReservationPageRequestDto pageRequest,
+            Authentication authentication,
+            ServletWebRequest request) {
         String email = authentication.getName();
-        List<ReservationResponseDto> response = getMyReservationsUseCase.getReservationAsCustomer(email);
+        String etag = resourceVersions.etag(email + '?' + request.getRequest().getQueryString(),
+                ResourceVersions.ALL_RESERVATIONS, ResourceVersions.customerReservations(email));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        CursorPageDto<ReservationResponseDto> response = getMyReservationsUseCase.getReservationAsCustomer(email, pageRequest);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
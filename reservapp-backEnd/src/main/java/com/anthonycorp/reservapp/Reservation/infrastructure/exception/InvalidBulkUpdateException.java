@@ -0,0 +1,7 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.exception;
+
+public class InvalidBulkUpdateException extends RuntimeException {
+    public InvalidBulkUpdateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
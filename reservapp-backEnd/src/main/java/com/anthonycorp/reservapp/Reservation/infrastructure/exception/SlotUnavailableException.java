@@ -0,0 +1,7 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.exception;
+
+public class SlotUnavailableException extends RuntimeException {
+    public SlotUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,7 @@ package com.anthonycorp.reservapp.Reservation.infrastructure.mapper;
 import com.anthonycorp.reservapp.Reservation.domain.response.ProviderReservationDto;
 import com.anthonycorp.reservapp.Reservation.domain.response.ReservationResponseDto;
 import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.projection.ReservationRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -21,4 +22,11 @@ public interface ReservationMapper {
     @Mapping(target = "reservationDateTime", expression = "java(java.time.LocalDateTime.of(reservationEntity.getDate(), reservationEntity.getTime()))")
     ProviderReservationDto toProviderReservationDto(ReservationEntity reservationEntity);
 
+    ReservationResponseDto toDto(ReservationRow row);
+
+    @Mapping(source = "serviceTitle", target = "serviceName")
+    @Mapping(target = "reservationDateTime", expression = "java(java.time.LocalDateTime.of(row.date(), row.time()))")
+    @Mapping(target = "notes", ignore = true)
+    ProviderReservationDto toProviderReservationDto(ReservationRow row);
+
 }
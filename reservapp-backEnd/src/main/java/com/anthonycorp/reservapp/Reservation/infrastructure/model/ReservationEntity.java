@@ -20,7 +20,8 @@ import java.time.LocalTime;
 public class ReservationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservations_seq")
+    @SequenceGenerator(name = "reservations_seq", sequenceName = "reservations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -39,9 +40,12 @@ public class ReservationEntity {
 
     private LocalTime time;
 
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationMinutes;
+
     private LocalDateTime createdAt;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = ReservationStatusConverter.class)
     private ReservationStatus status;
 
 }
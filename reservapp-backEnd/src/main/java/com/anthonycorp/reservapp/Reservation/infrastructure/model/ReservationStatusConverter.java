@@ -0,0 +1,19 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.model;
+
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class ReservationStatusConverter implements AttributeConverter<ReservationStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(ReservationStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public ReservationStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : ReservationStatus.fromCode(code);
+    }
+}
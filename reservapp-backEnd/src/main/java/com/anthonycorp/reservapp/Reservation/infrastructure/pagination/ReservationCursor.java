@@ -0,0 +1,35 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.pagination;
+
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+/**
+ * Position of the last reservation of a page in the (date, time, id) ordering, exchanged with clients as an
+ * opaque url-safe token.
+ */
+public record ReservationCursor(LocalDate date, LocalTime time, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static ReservationCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            return new ReservationCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid pagination cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = date + SEPARATOR + time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
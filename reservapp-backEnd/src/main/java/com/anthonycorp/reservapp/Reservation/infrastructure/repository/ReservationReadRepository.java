@@ -0,0 +1,19 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.repository;
+
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationPageRequestDto;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.projection.ReservationRow;
+import com.anthonycorp.reservapp.Utils.dto.CursorPageDto;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface ReservationReadRepository {
+    CursorPageDto<ReservationRow> findRowPage(Specification<ReservationEntity> owner, ReservationPageRequestDto request);
+
+    /**
+     * Every matching row in (date, time, id) order, read through a forward-only cursor {@code fetchSize} rows at a
+     * time. The stream must be closed, and consumed inside a transaction so PostgreSQL keeps the cursor open.
+     */
+    Stream<ReservationRow> streamRows(Specification<ReservationEntity> filter, int fetchSize);
+}
@@ -0,0 +1,76 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.repository;
+
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationPageRequestDto;
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.pagination.ReservationCursor;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.projection.ReservationRow;
+import com.anthonycorp.reservapp.Utils.dto.CursorPageDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Listing reads select only the columns the response DTOs need, joining customer, provider and service in the
+ * same statement instead of loading the entities and walking their associations row by row.
+ */
+public class ReservationReadRepositoryImpl implements ReservationReadRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Keyset page: reads one extra row to know whether a next page exists, never an OFFSET or a count query
+    @Override
+    public CursorPageDto<ReservationRow> findRowPage(Specification<ReservationEntity> owner, ReservationPageRequestDto request) {
+        Specification<ReservationEntity> specification = owner
+                .and(ReservationSpecifications.matching(request))
+                .and(ReservationSpecifications.after(ReservationCursor.decode(request.getCursor())));
+
+        List<ReservationRow> rows = entityManager.createQuery(rowQuery(specification))
+                .setMaxResults(request.getSize() + 1)
+                .getResultList();
+
+        if (rows.size() <= request.getSize()) {
+            return new CursorPageDto<>(rows, null);
+        }
+        List<ReservationRow> page = rows.subList(0, request.getSize());
+        ReservationRow last = page.get(page.size() - 1);
+        return new CursorPageDto<>(page, new ReservationCursor(last.date(), last.time(), last.id()).encode());
+    }
+
+    // Constructor results are never managed entities, so the persistence context stays empty however many rows pass
+    @Override
+    public Stream<ReservationRow> streamRows(Specification<ReservationEntity> filter, int fetchSize) {
+        return entityManager.createQuery(rowQuery(filter))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<ReservationRow> rowQuery(Specification<ReservationEntity> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReservationRow> query = cb.createQuery(ReservationRow.class);
+        Root<ReservationEntity> root = query.from(ReservationEntity.class);
+
+        return query.select(cb.construct(ReservationRow.class,
+                        root.get("id"),
+                        root.get("customer").get("name"),
+                        root.get("customer").get("email"),
+                        root.get("provider").get("name"),
+                        root.get("service").get("title"),
+                        root.<LocalDate>get("date"),
+                        root.<LocalTime>get("time"),
+                        root.<ReservationStatus>get("status")))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get("date")), cb.asc(root.get("time")), cb.asc(root.get("id")));
+    }
+}
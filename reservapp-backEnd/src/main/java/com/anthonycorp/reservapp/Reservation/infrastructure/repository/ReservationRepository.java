@@ -2,18 +2,29 @@ package com.anthonycorp.reservapp.Reservation.infrastructure.repository;
 
 import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
 import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
-import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.projection.ReservationSlotView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ReservationRepository extends JpaRepository<ReservationEntity, Long> {
-    List<ReservationEntity> findByCustomer(UserEntity customer);
+public interface ReservationRepository extends JpaRepository<ReservationEntity, Long>, ReservationReadRepository {
+    Optional <ReservationEntity> findByIdAndCustomerEmail(Long id, String customerEmail);
 
-    List<ReservationEntity> findByProviderEmailAndStatus(String providerEmail, ReservationStatus status);
+    @EntityGraph(attributePaths = {"customer", "provider", "service"})
+    List<ReservationEntity> findByIdInAndProviderEmail(Collection<Long> ids, String providerEmail);
 
-    List<ReservationEntity> findByProviderEmail(String providerEmail);
+    @Modifying
+    @Query("update ReservationEntity r set r.status = :status where r.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") ReservationStatus status);
 
-    Optional <ReservationEntity> findByIdAndCustomerEmail(Long id, String customerEmail);
+    @Query("select r.id as id, r.provider.id as providerId, r.date as date, r.time as time, " +
+            "r.durationMinutes as durationMinutes " +
+            "from ReservationEntity r where r.status in :statuses")
+    List<ReservationSlotView> findSlotsByStatusIn(@Param("statuses") Collection<ReservationStatus> statuses);
 }
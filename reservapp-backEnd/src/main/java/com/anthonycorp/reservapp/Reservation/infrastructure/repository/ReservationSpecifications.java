@@ -0,0 +1,64 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.repository;
+
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationPageRequestDto;
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.pagination.ReservationCursor;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public final class ReservationSpecifications {
+
+    private ReservationSpecifications() {
+    }
+
+    public static Specification<ReservationEntity> customer(UserEntity customer) {
+        return (root, query, cb) -> cb.equal(root.get("customer"), customer);
+    }
+
+    // provider_id = (select id from users where email = ?) rather than a join on the email: with the provider id known
+    // before the scan, the (provider_id, date, time, id) index hands the rows over already in listing order
+    public static Specification<ReservationEntity> providerEmail(String providerEmail) {
+        return (root, query, cb) -> {
+            Subquery<Long> provider = query.subquery(Long.class);
+            Root<UserEntity> user = provider.from(UserEntity.class);
+            provider.select(user.get("id")).where(cb.equal(user.get("email"), providerEmail));
+            return cb.equal(root.get("provider").get("id"), provider);
+        };
+    }
+
+    public static Specification<ReservationEntity> matching(ReservationPageRequestDto request) {
+        return matching(request.getStatus(), request.getFrom(), request.getTo());
+    }
+
+    public static Specification<ReservationEntity> matching(ReservationStatus status, LocalDate from, LocalDate to) {
+        return (root, query, cb) -> cb.and(
+                status == null ? cb.conjunction() : cb.equal(root.get("status"), status),
+                from == null ? cb.conjunction() : cb.greaterThanOrEqualTo(root.get("date"), from),
+                to == null ? cb.conjunction() : cb.lessThanOrEqualTo(root.get("date"), to)
+        );
+    }
+
+    // (date, time, id) > (cursor.date, cursor.time, cursor.id), spelled out so it can use a (date, time, id) index
+    public static Specification<ReservationEntity> after(ReservationCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            Path<LocalDate> date = root.get("date");
+            Path<LocalTime> time = root.get("time");
+            Path<Long> id = root.get("id");
+            return cb.or(
+                    cb.greaterThan(date, cursor.date()),
+                    cb.and(cb.equal(date, cursor.date()), cb.greaterThan(time, cursor.time())),
+                    cb.and(cb.equal(date, cursor.date()), cb.equal(time, cursor.time()), cb.greaterThan(id, cursor.id()))
+            );
+        };
+    }
+}
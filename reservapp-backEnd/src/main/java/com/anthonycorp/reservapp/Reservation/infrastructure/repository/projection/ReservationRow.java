@@ -0,0 +1,16 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.repository.projection;
+
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record ReservationRow(Long id,
+                             String customerName,
+                             String customerEmail,
+                             String providerName,
+                             String serviceTitle,
+                             LocalDate date,
+                             LocalTime time,
+                             ReservationStatus status) {
+}
@@ -0,0 +1,16 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public interface ReservationSlotView {
+    Long getId();
+
+    Long getProviderId();
+
+    LocalDate getDate();
+
+    LocalTime getTime();
+
+    Integer getDurationMinutes();
+}
@@ -0,0 +1,316 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.slot;
+
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.SlotUnavailableException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory index of the slots held by active (PENDING / ACCEPTED) reservations, one ordered set per provider.
+ * Every write for a provider runs under that provider's own lock, so two bookings for the same provider are
+ * serialized while bookings for different providers never wait on each other. When called inside a transaction, a
+ * slot is claimed at once but only freed once that transaction commits, and a rollback drops just the slots it
+ * claimed. A slot the database may still hold is therefore never offered to another booking, except to bookings made
+ * by the very transaction that is freeing it.
+ * <p>
+ * Alongside the slots, each provider keeps one {@link SlotCalendar} bitmap per booked day, redrawn for just the days a
+ * change touches, which the availability calendar reads instead of scanning reservations.
+ */
+@Component
+public class ReservationSlotIndex {
+
+    public static final Set<ReservationStatus> ACTIVE_STATUSES = EnumSet.of(ReservationStatus.PENDING, ReservationStatus.ACCEPTED);
+
+    private final ReservationRepository reservationRepository;
+    private final SlotCalendar calendar;
+    private final Map<Long, ProviderSlots> providers = new ConcurrentHashMap<>();
+
+    public ReservationSlotIndex(ReservationRepository reservationRepository,
+                                @Value("${reservation.calendar.cell-minutes:15}") int cellMinutes) {
+        this.reservationRepository = reservationRepository;
+        this.calendar = new SlotCalendar(cellMinutes);
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        providers.clear();
+        reservationRepository.findSlotsByStatusIn(ACTIVE_STATUSES).forEach(slot -> {
+            ProviderSlots slots = slotsOf(slot.getProviderId());
+            slots.add(slot.getId(), LocalDateTime.of(slot.getDate(), slot.getTime()),
+                    Duration.ofMinutes(slot.getDurationMinutes()));
+        });
+    }
+
+    public SlotCalendar calendar() {
+        return calendar;
+    }
+
+    /**
+     * Claims the slot for a new reservation. The writer runs while the provider lock is held and must persist the
+     * reservation; the slot is only indexed once the writer has returned the saved entity.
+     */
+    public ReservationEntity book(Long providerId, LocalDate date, LocalTime time, Duration duration,
+                                  Supplier<ReservationEntity> writer) {
+        LocalDateTime start = LocalDateTime.of(date, time);
+        ProviderSlots slots = slotsOf(providerId);
+        slots.lock.lock();
+        try {
+            slots.ensureFree(start, duration, releasedInTransaction());
+            ReservationEntity saved = writer.get();
+            Slot claimed = slots.add(saved.getId(), start, duration);
+            afterTransaction(slots, () -> { }, () -> slots.removeSlot(claimed, null));
+            return saved;
+        } finally {
+            slots.lock.unlock();
+        }
+    }
+
+    /**
+     * Moves an existing reservation to a new slot, ignoring the slot it currently holds when checking for conflicts.
+     * Inside a transaction the reservation holds both slots until it commits.
+     */
+    public ReservationEntity reschedule(Long providerId, Long reservationId, LocalDate date, LocalTime time,
+                                        Duration duration, Supplier<ReservationEntity> writer) {
+        LocalDateTime start = LocalDateTime.of(date, time);
+        ProviderSlots slots = slotsOf(providerId);
+        slots.lock.lock();
+        try {
+            Set<Long> ignored = new HashSet<>(releasedInTransaction());
+            ignored.add(reservationId);
+            slots.ensureFree(start, duration, ignored);
+            ReservationEntity saved = writer.get();
+            Slot previous = slots.byReservation.get(reservationId);
+            Slot claimed = slots.add(reservationId, start, duration);
+            if (!claimed.equals(previous)) {
+                afterTransaction(slots, () -> slots.removeSlot(previous, null), () -> slots.removeSlot(claimed, previous));
+            }
+            return saved;
+        } finally {
+            slots.lock.unlock();
+        }
+    }
+
+    public void release(Long providerId, Long reservationId) {
+        ProviderSlots slots = providers.get(providerId);
+        if (slots == null) {
+            return;
+        }
+        slots.lock.lock();
+        try {
+            Slot held = slots.byReservation.get(reservationId);
+            if (held != null) {
+                trackRelease(reservationId);
+                afterTransaction(slots, () -> slots.removeSlot(held, null), () -> { });
+            }
+        } finally {
+            slots.lock.unlock();
+        }
+    }
+
+    public boolean isAvailable(Long providerId, LocalDate date, LocalTime time, Duration duration) {
+        ProviderSlots slots = providers.get(providerId);
+        if (slots == null) {
+            return true;
+        }
+        slots.lock.lock();
+        try {
+            return slots.conflictsWith(LocalDateTime.of(date, time), duration, Set.of()) == null;
+        } finally {
+            slots.lock.unlock();
+        }
+    }
+
+    /**
+     * Copies the booked-cell bitmaps of the provider's days between {@code from} and {@code to}, both inclusive.
+     * Days without active reservations are left out.
+     */
+    public NavigableMap<LocalDate, BitSet> bookedCells(Long providerId, LocalDate from, LocalDate to) {
+        NavigableMap<LocalDate, BitSet> booked = new TreeMap<>();
+        ProviderSlots slots = providers.get(providerId);
+        if (slots == null) {
+            return booked;
+        }
+        slots.lock.lock();
+        try {
+            slots.days.subMap(from, true, to, true).forEach((day, cells) -> booked.put(day, (BitSet) cells.clone()));
+            return booked;
+        } finally {
+            slots.lock.unlock();
+        }
+    }
+
+    // Frees slots only once the change is durable and undoes only what the change added, so neither outcome ever
+    // re-adds a slot another booking may have claimed meanwhile. Without a transaction the change is final at once.
+    // Called with the provider lock held.
+    private void afterTransaction(ProviderSlots slots, Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                underLock(slots, onCommit);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    underLock(slots, onRollback);
+                }
+            }
+        });
+    }
+
+    // Reservations whose slot the current transaction has released. Their slots stay indexed until it commits, but
+    // no longer stand in the way of the bookings the same transaction makes.
+    private Set<Long> releasedInTransaction() {
+        @SuppressWarnings("unchecked")
+        Set<Long> released = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        return released != null ? released : Set.of();
+    }
+
+    private void trackRelease(Long reservationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> released = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (released == null) {
+            released = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, released);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReservationSlotIndex.this);
+                }
+            });
+        }
+        released.add(reservationId);
+    }
+
+    private static void underLock(ProviderSlots slots, Runnable change) {
+        slots.lock.lock();
+        try {
+            change.run();
+        } finally {
+            slots.lock.unlock();
+        }
+    }
+
+    private ProviderSlots slotsOf(Long providerId) {
+        return providers.computeIfAbsent(providerId, id -> new ProviderSlots(calendar));
+    }
+
+    private record Slot(LocalDateTime start, LocalDateTime end, long reservationId) implements Comparable<Slot> {
+        @Override
+        public int compareTo(Slot other) {
+            int byStart = start.compareTo(other.start);
+            return byStart != 0 ? byStart : Long.compare(reservationId, other.reservationId);
+        }
+    }
+
+    private static final class ProviderSlots {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final SlotCalendar calendar;
+        private final NavigableSet<Slot> byStart = new TreeSet<>();
+        private final Map<Long, Slot> byReservation = new HashMap<>();
+        private final NavigableMap<LocalDate, BitSet> days = new TreeMap<>();
+        // Longest slot ever held, bounding how far back a slot overlapping a given instant can start
+        private Duration longest = Duration.ZERO;
+
+        private ProviderSlots(SlotCalendar calendar) {
+            this.calendar = calendar;
+        }
+
+        // The reservation's latest slot; one being moved away from stays in byStart until its removal
+        private Slot add(Long reservationId, LocalDateTime start, Duration duration) {
+            Slot slot = new Slot(start, start.plus(duration), reservationId);
+            byStart.add(slot);
+            byReservation.put(reservationId, slot);
+            if (duration.compareTo(longest) > 0) {
+                longest = duration;
+            }
+            redraw(slot);
+            return slot;
+        }
+
+        // Drops one slot; if it was the reservation's latest, the reservation falls back to {@code fallback}
+        private void removeSlot(Slot slot, Slot fallback) {
+            if (slot == null || !byStart.remove(slot)) {
+                return;
+            }
+            if (slot.equals(byReservation.get(slot.reservationId()))) {
+                if (fallback != null && byStart.contains(fallback)) {
+                    byReservation.put(slot.reservationId(), fallback);
+                } else {
+                    byReservation.remove(slot.reservationId());
+                }
+            }
+            redraw(slot);
+        }
+
+        private void ensureFree(LocalDateTime start, Duration duration, Set<Long> ignoredReservationIds) {
+            Slot conflict = conflictsWith(start, duration, ignoredReservationIds);
+            if (conflict != null) {
+                throw new SlotUnavailableException("The provider already has a reservation at " + conflict.start());
+            }
+        }
+
+        // Two slots overlap when each one starts before the other ends; only slots starting within the longest
+        // duration before the requested end can reach it.
+        private Slot conflictsWith(LocalDateTime start, Duration duration, Set<Long> ignoredReservationIds) {
+            LocalDateTime end = start.plus(duration);
+            Slot from = new Slot(start.minus(longest), null, Long.MAX_VALUE);
+            Slot to = new Slot(end, null, Long.MIN_VALUE);
+            for (Slot slot : byStart.subSet(from, false, to, false)) {
+                if (!ignoredReservationIds.contains(slot.reservationId()) && slot.end().isAfter(start)) {
+                    return slot;
+                }
+            }
+            return null;
+        }
+
+        // Rebuilds the bitmaps of every day the slot covers from the slots that overlap that day
+        private void redraw(Slot changed) {
+            for (LocalDate day = changed.start().toLocalDate(); day.atStartOfDay().isBefore(changed.end());
+                 day = day.plusDays(1)) {
+                LocalDateTime dayStart = day.atStartOfDay();
+                LocalDateTime dayEnd = dayStart.plusDays(1);
+                BitSet cells = calendar.emptyDay();
+                for (Slot slot : byStart.subSet(new Slot(dayStart.minus(longest), null, Long.MAX_VALUE), false,
+                        new Slot(dayEnd, null, Long.MIN_VALUE), false)) {
+                    calendar.mark(cells, day, slot.start(), slot.end());
+                }
+                if (cells.isEmpty()) {
+                    days.remove(day);
+                } else {
+                    days.put(day, cells);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.slot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Splits a day into fixed cells, one bit each, so a provider's day fits in a couple of longs. A reservation marks
+ * every cell it touches, even partially, so a free run of cells is always really free.
+ */
+public final class SlotCalendar {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final int cellMinutes;
+    private final int cellsPerDay;
+
+    public SlotCalendar(int cellMinutes) {
+        if (cellMinutes <= 0 || MINUTES_PER_DAY % cellMinutes != 0) {
+            throw new IllegalArgumentException("The calendar cell must evenly divide a day, got " + cellMinutes + " minutes");
+        }
+        this.cellMinutes = cellMinutes;
+        this.cellsPerDay = MINUTES_PER_DAY / cellMinutes;
+    }
+
+    public BitSet emptyDay() {
+        return new BitSet(cellsPerDay);
+    }
+
+    /**
+     * Marks the cells of {@code day} covered by {@code [start, end)}; the parts outside that day are ignored.
+     */
+    public void mark(BitSet cells, LocalDate day, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        long fromMinute = Math.max(0, Duration.between(dayStart, start).toMinutes());
+        long toMinute = Math.min(MINUTES_PER_DAY, ceilMinutes(Duration.between(dayStart, end)));
+        if (toMinute <= fromMinute) {
+            return;
+        }
+        cells.set((int) (fromMinute / cellMinutes), (int) ((toMinute + cellMinutes - 1) / cellMinutes));
+    }
+
+    /**
+     * Returns the start times, stepping by {@code duration} from {@code opensAt}, whose whole slot ends by
+     * {@code closesAt} and does not touch a booked cell.
+     */
+    public List<LocalTime> freeStarts(BitSet booked, LocalTime opensAt, LocalTime closesAt, Duration duration) {
+        List<LocalTime> starts = new ArrayList<>();
+        int step = (int) duration.toMinutes();
+        int close = closesAt.equals(LocalTime.MIDNIGHT) ? MINUTES_PER_DAY : minuteOf(closesAt);
+        for (int minute = minuteOf(opensAt); minute + step <= close; minute += step) {
+            int fromCell = minute / cellMinutes;
+            int toCell = (minute + step + cellMinutes - 1) / cellMinutes;
+            // The first booked cell at or after the slot start must lie past its last cell
+            int nextBooked = booked.nextSetBit(fromCell);
+            if (nextBooked < 0 || nextBooked >= toCell) {
+                starts.add(LocalTime.MIN.plusMinutes(minute));
+            }
+        }
+        return starts;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static long ceilMinutes(Duration duration) {
+        long minutes = duration.toMinutes();
+        return duration.minusMinutes(minutes).isZero() ? minutes : minutes + 1;
+    }
+}
@@ -11,21 +11,30 @@ import com.anthonycorp.reservapp.User.infrastructure.exception.UserNotFoundExcep
 import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
 import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.Builder;
+import com.anthonycorp.reservapp.Service.infrastructure.cache.ServiceCatalogCache;
+import com.anthonycorp.reservapp.Service.infrastructure.search.ServiceSearchIndex;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 @Service
-@Builder
 @RequiredArgsConstructor
 public class CreateServiceUseCaseImpl implements CreateServiceUseCase {
 
     private final ServiceRepository serviceRepository;
     private final UserRepository userRepository;
     private final ServiceMapper serviceMapper;
+    private final ServiceCatalogCache serviceCatalogCache;
+    private final ServiceSearchIndex serviceSearchIndex;
+    private final ResourceVersions resourceVersions;
+
+    @Value("${reservation.slot.duration-minutes:60}")
+    private int defaultSlotDurationMinutes;
 
     @Override
     public ServiceResponseDto execute(CreateServiceDto createServiceDto, String providerEmail) {
@@ -36,10 +45,17 @@ public class CreateServiceUseCaseImpl implements CreateServiceUseCase {
                 .title(createServiceDto.getTitle())
                 .description(createServiceDto.getDescription())
                 .price(createServiceDto.getPrice())
+                .slotDurationMinutes(Optional.ofNullable(createServiceDto.getSlotDurationMinutes())
+                        .orElse(defaultSlotDurationMinutes))
                 .provider(provider)
                 .status(ServiceStatus.ACTIVE) // Default to ACTIVE if not provided
                 .build();
 
-        return serviceMapper.toDto(serviceRepository.save(serviceEntity));
+        ServiceEntity savedService = serviceRepository.save(serviceEntity);
+        serviceCatalogCache.invalidate();
+        resourceVersions.advance(ResourceVersions.SERVICE_CATALOG, ResourceVersions.providerServices(providerEmail));
+        ServiceResponseDto response = serviceMapper.toDto(savedService);
+        serviceSearchIndex.index(response);
+        return response;
     }
 }
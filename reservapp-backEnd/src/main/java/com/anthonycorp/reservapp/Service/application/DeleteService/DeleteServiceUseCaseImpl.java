@@ -2,6 +2,9 @@ package com.anthonycorp.reservapp.Service.application.DeleteService;
 
 import com.anthonycorp.reservapp.Service.infrastructure.exception.ServiceNotFoundException;
 import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.Service.infrastructure.cache.ServiceCatalogCache;
+import com.anthonycorp.reservapp.Service.infrastructure.search.ServiceSearchIndex;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -13,6 +16,9 @@ import java.util.concurrent.CompletableFuture;
 public class DeleteServiceUseCaseImpl implements DeleteServiceUseCase {
 
     private final ServiceRepository serviceRepository;
+    private final ServiceCatalogCache serviceCatalogCache;
+    private final ServiceSearchIndex serviceSearchIndex;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public void execute(Long serviceId, String providerEmail) {
@@ -24,6 +30,9 @@ public class DeleteServiceUseCaseImpl implements DeleteServiceUseCase {
         }
 
         serviceRepository.delete(service);
+        serviceCatalogCache.invalidate();
+        serviceSearchIndex.remove(serviceId);
+        resourceVersions.advance(ResourceVersions.SERVICE_CATALOG, ResourceVersions.providerServices(providerEmail));
 
     }
 }
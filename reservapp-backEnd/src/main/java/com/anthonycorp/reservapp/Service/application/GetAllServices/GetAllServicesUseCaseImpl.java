@@ -1,6 +1,7 @@
 package com.anthonycorp.reservapp.Service.application.GetAllServices;
 
 import com.anthonycorp.reservapp.Service.domain.response.ServiceResponseDto;
+import com.anthonycorp.reservapp.Service.infrastructure.cache.ServiceCatalogCache;
 import com.anthonycorp.reservapp.Service.infrastructure.mapper.ServiceMapper;
 import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,15 +18,13 @@ public class GetAllServicesUseCaseImpl implements GetAllServicesUseCase {
 
     private final ServiceRepository serviceRepository;
     private final ServiceMapper serviceMapper;
-
+    private final ServiceCatalogCache serviceCatalogCache;
 
     @Override
     public List<ServiceResponseDto> execute() {
-        List<ServiceResponseDto> serviceResponseDto = serviceRepository.findAll()
+        return serviceCatalogCache.get(() -> serviceRepository.findAllWithProviderBy()
                 .stream()
                 .map(serviceMapper::toDto)
-                .collect(Collectors.toList());
-
-        return serviceResponseDto;
+                .collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,8 @@
+package com.anthonycorp.reservapp.Service.application.GetServiceAvailability;
+
+import com.anthonycorp.reservapp.Service.domain.request.AvailabilityRequestDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceAvailabilityDto;
+
+public interface GetServiceAvailabilityUseCase {
+    ServiceAvailabilityDto execute(Long serviceId, AvailabilityRequestDto request);
+}
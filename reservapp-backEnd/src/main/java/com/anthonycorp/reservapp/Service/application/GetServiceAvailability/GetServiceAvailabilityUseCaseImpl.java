@@ -0,0 +1,69 @@
+package com.anthonycorp.reservapp.Service.application.GetServiceAvailability;
+
+import com.anthonycorp.reservapp.Provider.domain.request.WorkingHoursDto;
+import com.anthonycorp.reservapp.Provider.infrastructure.schedule.ProviderWorkingHours;
+import com.anthonycorp.reservapp.Reservation.infrastructure.slot.ReservationSlotIndex;
+import com.anthonycorp.reservapp.Reservation.infrastructure.slot.SlotCalendar;
+import com.anthonycorp.reservapp.Service.domain.request.AvailabilityRequestDto;
+import com.anthonycorp.reservapp.Service.domain.response.DayAvailabilityDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceAvailabilityDto;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.exception.ServiceNotFoundException;
+import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+@Service
+@RequiredArgsConstructor
+public class GetServiceAvailabilityUseCaseImpl implements GetServiceAvailabilityUseCase {
+
+    private final ServiceRepository serviceRepository;
+    private final ProviderWorkingHours providerWorkingHours;
+    private final ReservationSlotIndex reservationSlotIndex;
+
+    @Override
+    public ServiceAvailabilityDto execute(Long serviceId, AvailabilityRequestDto request) {
+        ServiceEntity service = serviceRepository.findById(serviceId)
+                .orElseThrow(() -> new ServiceNotFoundException("Service with ID " + serviceId + " not found"));
+
+        Long providerId = service.getProvider().getId();
+        Duration duration = Duration.ofMinutes(service.getSlotDurationMinutes());
+        Map<DayOfWeek, WorkingHoursDto> week = providerWorkingHours.weekOf(providerId);
+        NavigableMap<LocalDate, BitSet> booked = reservationSlotIndex.bookedCells(providerId, request.getFrom(), request.getTo());
+        SlotCalendar calendar = reservationSlotIndex.calendar();
+        // Same lead time CreateReservationUseCaseImpl enforces for same-day bookings
+        LocalDateTime earliest = LocalDateTime.now().plusHours(3);
+
+        List<DayAvailabilityDto> days = new ArrayList<>();
+        for (LocalDate day = request.getFrom(); !day.isAfter(request.getTo()); day = day.plusDays(1)) {
+            WorkingHoursDto hours = week.get(day.getDayOfWeek());
+            List<LocalTime> slots = List.of();
+            if (hours != null && service.getStatus() == ServiceStatus.ACTIVE && !day.isBefore(earliest.toLocalDate())) {
+                LocalDate date = day;
+                slots = calendar.freeStarts(booked.getOrDefault(day, calendar.emptyDay()), hours.getOpensAt(),
+                                hours.getClosesAt(), duration).stream()
+                        .filter(start -> !LocalDateTime.of(date, start).isBefore(earliest))
+                        .toList();
+            }
+            days.add(new DayAvailabilityDto(day, slots));
+        }
+
+        return ServiceAvailabilityDto.builder()
+                .serviceId(service.getId())
+                .slotDurationMinutes(service.getSlotDurationMinutes())
+                .days(days)
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.anthonycorp.reservapp.Service.application.ImportServices;
+
+import com.anthonycorp.reservapp.Utils.dto.ImportReportDto;
+import com.anthonycorp.reservapp.Utils.imports.ImportFormat;
+
+import java.io.InputStream;
+
+public interface ImportServicesUseCase {
+    ImportReportDto execute(ImportFormat format, InputStream input, String providerEmail);
+}
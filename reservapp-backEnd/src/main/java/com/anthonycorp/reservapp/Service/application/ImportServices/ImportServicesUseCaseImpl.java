@@ -0,0 +1,74 @@
+package com.anthonycorp.reservapp.Service.application.ImportServices;
+
+import com.anthonycorp.reservapp.Service.domain.request.CreateServiceDto;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.cache.ServiceCatalogCache;
+import com.anthonycorp.reservapp.Service.infrastructure.mapper.ServiceMapper;
+import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.Service.infrastructure.search.ServiceSearchIndex;
+import com.anthonycorp.reservapp.User.infrastructure.exception.UserNotFoundException;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Utils.dto.ImportReportDto;
+import com.anthonycorp.reservapp.Utils.imports.BatchImporter;
+import com.anthonycorp.reservapp.Utils.imports.ImportFormat;
+import com.anthonycorp.reservapp.Utils.imports.ImportRow;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class ImportServicesUseCaseImpl implements ImportServicesUseCase {
+
+    private final BatchImporter batchImporter;
+    private final ServiceRepository serviceRepository;
+    private final UserRepository userRepository;
+    private final ServiceMapper serviceMapper;
+    private final ServiceCatalogCache serviceCatalogCache;
+    private final ServiceSearchIndex serviceSearchIndex;
+    private final ResourceVersions resourceVersions;
+
+    @Value("${reservation.slot.duration-minutes:60}")
+    private int defaultSlotDurationMinutes;
+
+    // Every row goes through the same validation as POST /services; the services are created ACTIVE
+    @Override
+    public ImportReportDto execute(ImportFormat format, InputStream input, String providerEmail) {
+        UserEntity provider = userRepository.findUserByEmail(providerEmail)
+                .orElseThrow(() -> new UserNotFoundException("Provider not found"));
+
+        ImportReportDto report = batchImporter.run(format, input, CreateServiceDto.class, rows -> {
+            List<ServiceEntity> services = serviceRepository.saveAll(rows.stream()
+                    .map(ImportRow::value)
+                    .map(row -> toEntity(row, provider))
+                    .toList());
+            services.forEach(service -> serviceSearchIndex.index(serviceMapper.toDto(service)));
+            return List.of();
+        });
+
+        if (report.getImported() > 0) {
+            serviceCatalogCache.invalidate();
+            resourceVersions.advance(ResourceVersions.SERVICE_CATALOG, ResourceVersions.providerServices(providerEmail));
+        }
+        return report;
+    }
+
+    private ServiceEntity toEntity(CreateServiceDto row, UserEntity provider) {
+        return ServiceEntity.builder()
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .price(row.getPrice())
+                .slotDurationMinutes(Optional.ofNullable(row.getSlotDurationMinutes())
+                        .orElse(defaultSlotDurationMinutes))
+                .provider(provider)
+                .status(ServiceStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.anthonycorp.reservapp.Service.application.SearchServices;
+
+import com.anthonycorp.reservapp.Service.domain.request.ServiceSearchRequestDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceSearchResponseDto;
+
+public interface SearchServicesUseCase {
+    ServiceSearchResponseDto execute(ServiceSearchRequestDto request);
+}
@@ -0,0 +1,24 @@
+package com.anthonycorp.reservapp.Service.application.SearchServices;
+
+import com.anthonycorp.reservapp.Service.domain.request.ServiceSearchRequestDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceSearchResponseDto;
+import com.anthonycorp.reservapp.Service.infrastructure.exception.InvalidSearchException;
+import com.anthonycorp.reservapp.Service.infrastructure.search.ServiceSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class SearchServicesUseCaseImpl implements SearchServicesUseCase {
+
+    private final ServiceSearchIndex serviceSearchIndex;
+
+    @Override
+    public ServiceSearchResponseDto execute(ServiceSearchRequestDto request) {
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice() > request.getMaxPrice()) {
+            throw new InvalidSearchException("The minimum price cannot be greater than the maximum price");
+        }
+        return serviceSearchIndex.search(request);
+    }
+}
@@ -8,6 +8,9 @@ import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
 import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
 import com.anthonycorp.reservapp.User.infrastructure.exception.UserNotFoundException;
 import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Service.infrastructure.cache.ServiceCatalogCache;
+import com.anthonycorp.reservapp.Service.infrastructure.search.ServiceSearchIndex;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -21,6 +24,9 @@ public class UpdateServiceUseCaseImpl implements UpdateServiceUseCase {
     private final ServiceRepository serviceRepository;
     private final ServiceMapper serviceMapper;
     private final UserRepository userRepository;
+    private final ServiceCatalogCache serviceCatalogCache;
+    private final ServiceSearchIndex serviceSearchIndex;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public ServiceResponseDto execute(Long serviceId, String providerEmail, UpdateServiceDto updateServiceDto) {
@@ -38,7 +44,15 @@ public class UpdateServiceUseCaseImpl implements UpdateServiceUseCase {
         Optional.ofNullable(updateServiceDto.getTitle()).ifPresent(service::setTitle);
         Optional.ofNullable(updateServiceDto.getDescription()).ifPresent(service::setDescription);
         Optional.ofNullable(updateServiceDto.getPrice()).ifPresent(service::setPrice);
-
-        return serviceMapper.toDto(serviceRepository.save(service));
+        Optional.ofNullable(updateServiceDto.getSlotDurationMinutes()).ifPresent(service::setSlotDurationMinutes);
+
+        ServiceEntity savedService = serviceRepository.save(service);
+        serviceCatalogCache.invalidate();
+        // The title is also shown in every reservation listing
+        resourceVersions.advance(ResourceVersions.SERVICE_CATALOG, ResourceVersions.providerServices(providerEmail),
+                ResourceVersions.ALL_RESERVATIONS);
+        ServiceResponseDto response = serviceMapper.toDto(savedService);
+        serviceSearchIndex.index(response);
+        return response;
     }
 }
\ No newline at end of file
@@ -2,10 +2,14 @@ package com.anthonycorp.reservapp.Service.application.UpdateServiceStatus;
 
 import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
 import com.anthonycorp.reservapp.Service.infrastructure.exception.ServiceNotFoundException;
+import com.anthonycorp.reservapp.Service.infrastructure.mapper.ServiceMapper;
 import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
 import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
 import com.anthonycorp.reservapp.User.infrastructure.exception.UserNotFoundException;
 import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Service.infrastructure.cache.ServiceCatalogCache;
+import com.anthonycorp.reservapp.Service.infrastructure.search.ServiceSearchIndex;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +19,10 @@ public class UpdateServiceStatusUseCaseImpl implements UpdateServiceStatusUseCas
 
     private final ServiceRepository serviceRepository;
     private final UserRepository userRepository;
+    private final ServiceMapper serviceMapper;
+    private final ServiceCatalogCache serviceCatalogCache;
+    private final ServiceSearchIndex serviceSearchIndex;
+    private final ResourceVersions resourceVersions;
 
 
     @Override
@@ -30,6 +38,9 @@ public class UpdateServiceStatusUseCaseImpl implements UpdateServiceStatusUseCas
         }
 
         service.setStatus(newStatus);
-        serviceRepository.save(service);
+        ServiceEntity saved = serviceRepository.save(service);
+        serviceCatalogCache.invalidate();
+        serviceSearchIndex.index(serviceMapper.toDto(saved));
+        resourceVersions.advance(ResourceVersions.SERVICE_CATALOG, ResourceVersions.providerServices(providerEmail));
     }
 }
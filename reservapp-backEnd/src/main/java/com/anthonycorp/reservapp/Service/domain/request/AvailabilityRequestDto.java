@@ -0,0 +1,35 @@
+package com.anthonycorp.reservapp.Service.domain.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityRequestDto {
+
+    public static final int MAX_DAYS = 31;
+
+    @NotNull(message = "The start date is mandatory")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @NotNull(message = "The end date is mandatory")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    @AssertTrue(message = "The range must end on or after its start and span at most " + MAX_DAYS + " days")
+    public boolean isRangeValid() {
+        return from == null || to == null
+                || (!to.isBefore(from) && ChronoUnit.DAYS.between(from, to) < MAX_DAYS);
+    }
+}
@@ -1,5 +1,6 @@
 package com.anthonycorp.reservapp.Service.domain.request;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -22,4 +23,9 @@ public class CreateServiceDto {
     @NotNull(message = "The price is mandatory")
     @Min(value = 0, message = "The price must be greater than or equal to 0")
     private Double price;
+
+    // Falls back to reservation.slot.duration-minutes when omitted
+    @Min(value = 5, message = "The slot duration must be at least 5 minutes")
+    @Max(value = 720, message = "The slot duration must be at most 720 minutes")
+    private Integer slotDurationMinutes;
 }
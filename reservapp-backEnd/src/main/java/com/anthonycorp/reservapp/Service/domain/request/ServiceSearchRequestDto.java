@@ -0,0 +1,34 @@
+package com.anthonycorp.reservapp.Service.domain.request;
+
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceSearchRequestDto {
+
+    private String q;
+
+    @PositiveOrZero(message = "The minimum price cannot be negative")
+    private Double minPrice;
+
+    @PositiveOrZero(message = "The maximum price cannot be negative")
+    private Double maxPrice;
+
+    private ServiceStatus status;
+
+    @Min(value = 0, message = "The page cannot be negative")
+    private int page = 0;
+
+    @Min(value = 1, message = "The page size must be at least 1")
+    @Max(value = 100, message = "The page size must be at most 100")
+    private int size = 20;
+}
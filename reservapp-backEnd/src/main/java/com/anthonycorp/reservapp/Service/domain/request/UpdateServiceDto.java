@@ -1,5 +1,7 @@
 package com.anthonycorp.reservapp.Service.domain.request;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,4 +19,8 @@ public class UpdateServiceDto {
     private String description;
     private Double price;
 
+    @Min(value = 5, message = "The slot duration must be at least 5 minutes")
+    @Max(value = 720, message = "The slot duration must be at most 720 minutes")
+    private Integer slotDurationMinutes;
+
 }
@@ -0,0 +1,17 @@
+package com.anthonycorp.reservapp.Service.domain.response;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DayAvailabilityDto {
+    private LocalDate date;
+    private List<LocalTime> slots;
+}
@@ -0,0 +1,14 @@
+package com.anthonycorp.reservapp.Service.domain.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceFacetDto {
+    private Double from;
+    private Double to;
+    private long count;
+}
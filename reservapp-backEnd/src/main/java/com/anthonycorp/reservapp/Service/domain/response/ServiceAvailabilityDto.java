@@ -0,0 +1,16 @@
+package com.anthonycorp.reservapp.Service.domain.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceAvailabilityDto {
+    private Long serviceId;
+    private Integer slotDurationMinutes;
+    private List<DayAvailabilityDto> days;
+}
@@ -12,6 +12,7 @@ public class ServiceResponseDto {
     private String title;
     private String description;
     private Double price;
+    private Integer slotDurationMinutes;
     private String providerName;
     private Long providerId;
     private String status;
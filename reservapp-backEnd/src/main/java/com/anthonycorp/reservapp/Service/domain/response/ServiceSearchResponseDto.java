@@ -0,0 +1,20 @@
+package com.anthonycorp.reservapp.Service.domain.response;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceSearchResponseDto {
+    private List<ServiceResponseDto> items;
+    private long total;
+    private int page;
+    private int size;
+    private Map<String, Long> statusFacets;
+    private List<PriceFacetDto> priceFacets;
+}
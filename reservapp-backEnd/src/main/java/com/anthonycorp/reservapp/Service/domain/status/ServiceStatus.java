@@ -1,6 +1,23 @@
 package com.anthonycorp.reservapp.Service.domain.status;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
 public enum ServiceStatus {
-    ACTIVE,
-    INACTIVE
-}
\ No newline at end of file
+    ACTIVE((short) 1),
+    INACTIVE((short) 2);
+
+    // Value stored in services.status, never reuse a code
+    private final short code;
+
+    public static ServiceStatus fromCode(short code) {
+        for (ServiceStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown service status code: " + code);
+    }
+}
@@ -0,0 +1,58 @@
+package com.anthonycorp.reservapp.Service.infrastructure.cache;
+
+import com.anthonycorp.reservapp.Service.domain.response.ServiceResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Holds the mapped service catalog served by {@code GET /services}. Concurrent misses share a single load, and an
+ * invalidation issued while a load is running waits for it and then discards its result, so a write is never hidden
+ * behind a catalog read before it. Published as the {@code serviceCatalog} cache metrics.
+ */
+@Component
+public class ServiceCatalogCache {
+
+    private static final String CATALOG = "all";
+
+    private final Cache<String, List<ServiceResponseDto>> cache;
+
+    public ServiceCatalogCache(MeterRegistry meterRegistry,
+                               @Value("${service.catalog-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "serviceCatalog");
+    }
+
+    public List<ServiceResponseDto> get(Supplier<List<ServiceResponseDto>> loader) {
+        return cache.get(CATALOG, key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Drops the cached catalog now and, when called inside a transaction, once more after it commits so a load that
+     * read the catalog before the commit cannot survive it.
+     */
+    public void invalidate() {
+        cache.invalidate(CATALOG);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(CATALOG);
+                }
+            });
+        }
+    }
+}
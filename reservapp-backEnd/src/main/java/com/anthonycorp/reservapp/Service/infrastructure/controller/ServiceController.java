@@ -2,19 +2,32 @@ package com.anthonycorp.reservapp.Service.infrastructure.controller;
 
 import com.anthonycorp.reservapp.Service.application.CreateService.CreateServiceUseCase;
 import com.anthonycorp.reservapp.Service.application.GetAllServices.GetAllServicesUseCase;
+import com.anthonycorp.reservapp.Service.application.GetServiceAvailability.GetServiceAvailabilityUseCase;
 import com.anthonycorp.reservapp.Service.application.GetServicesByProvider.GetServicesByProviderUseCase;
+import com.anthonycorp.reservapp.Service.application.ImportServices.ImportServicesUseCase;
+import com.anthonycorp.reservapp.Service.application.SearchServices.SearchServicesUseCase;
 import com.anthonycorp.reservapp.Service.application.UpdateService.UpdateServiceUseCase;
 import com.anthonycorp.reservapp.Service.application.DeleteService.DeleteServiceUseCase;
+import com.anthonycorp.reservapp.Service.domain.request.AvailabilityRequestDto;
 import com.anthonycorp.reservapp.Service.domain.request.CreateServiceDto;
+import com.anthonycorp.reservapp.Service.domain.request.ServiceSearchRequestDto;
 import com.anthonycorp.reservapp.Service.domain.request.UpdateServiceDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceAvailabilityDto;
 import com.anthonycorp.reservapp.Service.domain.response.ServiceResponseDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceSearchResponseDto;
+import com.anthonycorp.reservapp.Utils.dto.ImportReportDto;
+import com.anthonycorp.reservapp.Utils.imports.ImportFormat;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -27,6 +40,10 @@ public class ServiceController {
     private final UpdateServiceUseCase updateServiceUseCase;
     private final GetServicesByProviderUseCase getServicesByProviderUseCase;
     private final GetAllServicesUseCase getAllServicesUseCase;
+    private final SearchServicesUseCase searchServicesUseCase;
+    private final GetServiceAvailabilityUseCase getServiceAvailabilityUseCase;
+    private final ImportServicesUseCase importServicesUseCase;
+    private final ResourceVersions resourceVersions;
 
     @PostMapping
     public ResponseEntity<ServiceResponseDto> createService(@RequestBody @Valid CreateServiceDto createServiceDto,
@@ -36,6 +53,16 @@ public class ServiceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
+    // Streams a text/csv or application/x-ndjson body, one service per row
+    @PostMapping("/import")
+    public ResponseEntity<ImportReportDto> importServices(@RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                                          InputStream body,
+                                                          Authentication authentication) {
+        ImportFormat format = ImportFormat.fromContentType(contentType);
+        ImportReportDto report = importServicesUseCase.execute(format, body, authentication.getName());
+        return ResponseEntity.status(HttpStatus.OK).body(report);
+    }
+
     @PatchMapping("/{serviceId}")
     public ResponseEntity<ServiceResponseDto> updateService(@PathVariable Long serviceId,
                                                             @RequestBody @Valid UpdateServiceDto updateServiceDto,
@@ -54,16 +81,36 @@ public class ServiceController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<List<ServiceResponseDto>> getByProvider(Authentication authentication) {
+    public ResponseEntity<List<ServiceResponseDto>> getByProvider(Authentication authentication,
+                                                                  ServletWebRequest request) {
         String providerEmail = authentication.getName();
+        String etag = resourceVersions.etag(providerEmail, ResourceVersions.providerServices(providerEmail));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<ServiceResponseDto> services = getServicesByProviderUseCase.execute(providerEmail);
         return ResponseEntity.status(HttpStatus.OK).body(services);
     }
 
     @GetMapping()
-    public ResponseEntity<List<ServiceResponseDto>> getAllServices() {
+    public ResponseEntity<List<ServiceResponseDto>> getAllServices(ServletWebRequest request) {
+        String etag = resourceVersions.etag(null, ResourceVersions.SERVICE_CATALOG);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<ServiceResponseDto> services = getAllServicesUseCase.execute();
         return ResponseEntity.ok(services);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<ServiceSearchResponseDto> searchServices(@Valid ServiceSearchRequestDto searchRequest) {
+        return ResponseEntity.ok(searchServicesUseCase.execute(searchRequest));
+    }
+
+    @GetMapping("/{serviceId}/availability")
+    public ResponseEntity<ServiceAvailabilityDto> getAvailability(@PathVariable Long serviceId,
+                                                                  @Valid AvailabilityRequestDto availabilityRequest) {
+        return ResponseEntity.ok(getServiceAvailabilityUseCase.execute(serviceId, availabilityRequest));
+    }
+
 }
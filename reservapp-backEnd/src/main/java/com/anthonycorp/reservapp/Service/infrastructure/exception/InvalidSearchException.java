@@ -0,0 +1,7 @@
+package com.anthonycorp.reservapp.Service.infrastructure.exception;
+
+public class InvalidSearchException extends RuntimeException {
+    public InvalidSearchException(String message) {
+        super(message);
+    }
+}
@@ -24,6 +24,7 @@ public interface ServiceMapper {
                 .title(dto.getTitle())
                 .description(dto.getDescription())
                 .price(dto.getPrice())
+                .slotDurationMinutes(dto.getSlotDurationMinutes())
                 .provider(provider)
                 .build();
     }
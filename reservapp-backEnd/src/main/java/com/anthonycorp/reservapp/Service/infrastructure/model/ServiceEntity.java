@@ -15,7 +15,8 @@ import lombok.*;
 public class ServiceEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "services_seq")
+    @SequenceGenerator(name = "services_seq", sequenceName = "services_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -24,11 +25,14 @@ public class ServiceEntity {
 
     private Double price;
 
+    @Column(name = "slot_duration_minutes", nullable = false)
+    private Integer slotDurationMinutes;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "provider_id")
     private UserEntity provider;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = ServiceStatusConverter.class)
     @Column(nullable = false)
     private ServiceStatus status = ServiceStatus.ACTIVE; // Default status is ACTIVE
 
@@ -0,0 +1,19 @@
+package com.anthonycorp.reservapp.Service.infrastructure.model;
+
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class ServiceStatusConverter implements AttributeConverter<ServiceStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(ServiceStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public ServiceStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : ServiceStatus.fromCode(code);
+    }
+}
@@ -0,0 +1,329 @@
+package com.anthonycorp.reservapp.Service.infrastructure.search;
+
+import com.anthonycorp.reservapp.Service.domain.request.ServiceSearchRequestDto;
+import com.anthonycorp.reservapp.Service.domain.response.PriceFacetDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceResponseDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceSearchResponseDto;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.mapper.ServiceMapper;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over service titles and descriptions, used by {@code GET /services/search}. Queries match
+ * every term (AND), are ranked with BM25 and return status and price facets computed over the text matches, before the
+ * price and status filters are applied. Writes are applied after the surrounding transaction commits, so a search
+ * never sees a service the database does not hold.
+ */
+@Component
+public class ServiceSearchIndex {
+
+    static final double[] PRICE_BUCKETS = {0, 25, 50, 100, 250};
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Title terms count twice, so a title hit outranks the same word deep in a description
+    private static final int TITLE_WEIGHT = 2;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<Hit> BY_RANK = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparingLong(Hit::id);
+
+    private final ServiceRepository serviceRepository;
+    private final ServiceMapper serviceMapper;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private long totalLength;
+
+    public ServiceSearchIndex(ServiceRepository serviceRepository, ServiceMapper serviceMapper) {
+        this.serviceRepository = serviceRepository;
+        this.serviceMapper = serviceMapper;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        List<ServiceResponseDto> services = serviceRepository.findAllWithProviderBy().stream()
+                .map(serviceMapper::toDto)
+                .toList();
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            totalLength = 0;
+            services.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the service, or replaces the indexed copy, once the current transaction commits.
+     */
+    public void index(ServiceResponseDto service) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(service.getId());
+                put(service);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Long serviceId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(serviceId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void updateProviderName(Long providerId, String providerName) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                documents.values().stream()
+                        .filter(document -> providerId.equals(document.service().getProviderId()))
+                        .forEach(document -> document.service().setProviderName(providerName));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public ServiceSearchResponseDto search(ServiceSearchRequestDto request) {
+        List<String> terms = tokenize(request.getQ()).stream().distinct().toList();
+        Collector collector = new Collector(request);
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty()) {
+                documents.forEach((id, document) -> collector.accept(id, document, 0));
+            } else {
+                match(terms, collector);
+            }
+            return collector.result();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Intersects starting from the rarest term, so the candidate set only ever shrinks
+    private void match(List<String> terms, Collector collector) {
+        List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list == null) {
+                return;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+        double[] idf = new double[lists.size()];
+        for (int i = 0; i < idf.length; i++) {
+            int documentFrequency = lists.get(i).size();
+            idf[i] = Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+
+        double averageLength = (double) totalLength / documents.size();
+        candidates:
+        for (Map.Entry<Long, Integer> candidate : lists.get(0).entrySet()) {
+            Long id = candidate.getKey();
+            Document document = documents.get(id);
+            double lengthNorm = K1 * (1 - B + B * document.length() / averageLength);
+            double score = 0;
+            for (int i = 0; i < idf.length; i++) {
+                Integer frequency = i == 0 ? candidate.getValue() : lists.get(i).get(id);
+                if (frequency == null) {
+                    continue candidates;
+                }
+                score += idf[i] * frequency * (K1 + 1) / (frequency + lengthNorm);
+            }
+            collector.accept(id, document, score);
+        }
+    }
+
+    private static boolean accepts(ServiceSearchRequestDto request, ServiceResponseDto service) {
+        double price = service.getPrice() == null ? 0 : service.getPrice();
+        return (request.getMinPrice() == null || price >= request.getMinPrice())
+                && (request.getMaxPrice() == null || price <= request.getMaxPrice())
+                && (request.getStatus() == null || request.getStatus().name().equals(service.getStatus()));
+    }
+
+    private static int bucketOf(Double price) {
+        double value = price == null ? 0 : price;
+        for (int i = PRICE_BUCKETS.length - 1; i > 0; i--) {
+            if (value >= PRICE_BUCKETS[i]) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static List<PriceFacetDto> priceFacets(long[] counts) {
+        List<PriceFacetDto> facets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            Double to = i + 1 < PRICE_BUCKETS.length ? PRICE_BUCKETS[i + 1] : null;
+            facets.add(new PriceFacetDto(PRICE_BUCKETS[i], to, counts[i]));
+        }
+        return facets;
+    }
+
+    private void put(ServiceResponseDto service) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(service.getTitle()).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(service.getDescription()).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        documents.put(service.getId(), new Document(copyOf(service), length, List.copyOf(frequencies.keySet())));
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(service.getId(), frequency));
+        totalLength += length;
+    }
+
+    private void delete(Long serviceId) {
+        Document previous = documents.remove(serviceId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Map<Long, Integer> list = postings.get(term);
+            list.remove(serviceId);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= previous.length();
+    }
+
+    private static ServiceResponseDto copyOf(ServiceResponseDto service) {
+        return ServiceResponseDto.builder()
+                .id(service.getId())
+                .title(service.getTitle())
+                .description(service.getDescription())
+                .price(service.getPrice())
+                .slotDurationMinutes(service.getSlotDurationMinutes())
+                .providerName(service.getProviderName())
+                .providerId(service.getProviderId())
+                .status(service.getStatus())
+                .build();
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private record Document(ServiceResponseDto service, int length, Collection<String> terms) {
+    }
+
+    /**
+     * Counts facets over every text match and keeps only the hits the requested page can reach.
+     */
+    private final class Collector {
+        private final ServiceSearchRequestDto request;
+        private final int keep;
+        private final PriorityQueue<Hit> top = new PriorityQueue<>(BY_RANK.reversed());
+        private final Map<String, Long> statusFacets = new LinkedHashMap<>();
+        private final long[] priceCounts = new long[PRICE_BUCKETS.length];
+        private long total;
+
+        private Collector(ServiceSearchRequestDto request) {
+            this.request = request;
+            this.keep = (int) Math.min(Integer.MAX_VALUE, (request.getPage() + 1L) * request.getSize());
+            for (ServiceStatus status : ServiceStatus.values()) {
+                statusFacets.put(status.name(), 0L);
+            }
+        }
+
+        private void accept(Long id, Document document, double score) {
+            ServiceResponseDto service = document.service();
+            statusFacets.merge(service.getStatus(), 1L, Long::sum);
+            priceCounts[bucketOf(service.getPrice())]++;
+            if (!accepts(request, service)) {
+                return;
+            }
+            total++;
+            Hit hit = new Hit(id, score);
+            if (top.size() < keep) {
+                top.add(hit);
+            } else if (BY_RANK.compare(hit, top.peek()) < 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+
+        private ServiceSearchResponseDto result() {
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(BY_RANK);
+            List<ServiceResponseDto> items = ranked.stream()
+                    .skip((long) request.getPage() * request.getSize())
+                    .map(hit -> copyOf(documents.get(hit.id()).service()))
+                    .toList();
+            return ServiceSearchResponseDto.builder()
+                    .items(items)
+                    .total(total)
+                    .page(request.getPage())
+                    .size(request.getSize())
+                    .statusFacets(statusFacets)
+                    .priceFacets(priceFacets(priceCounts))
+                    .build();
+        }
+    }
+
+    private record Hit(long id, double score) {
+    }
+}
@@ -1,8 +1,10 @@
 package com.anthonycorp.reservapp.User.application.DeleteUser;
 
+import com.anthonycorp.reservapp.User.infrastructure.cache.UserDetailsCache;
 import com.anthonycorp.reservapp.User.infrastructure.exception.UserNotFoundException;
 import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
 import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,6 +13,8 @@ import org.springframework.stereotype.Service;
 public class DeleteUserUseCaseImpl implements  DeleteUserUseCase {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public void execute(Long userId) {
@@ -18,5 +22,7 @@ public class DeleteUserUseCaseImpl implements  DeleteUserUseCase {
                 .orElseThrow(() -> new UserNotFoundException("User with id " + userId + " not found"));
 
         userRepository.delete(userEntity);
+        userDetailsCache.removeUserFromCache(userEntity.getEmail());
+        resourceVersions.advanceAll();
     }
 }
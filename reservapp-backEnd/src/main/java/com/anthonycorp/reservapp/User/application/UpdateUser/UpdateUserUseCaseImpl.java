@@ -1,16 +1,21 @@
 package com.anthonycorp.reservapp.User.application.UpdateUser;
 
+import com.anthonycorp.reservapp.Service.infrastructure.cache.ServiceCatalogCache;
+import com.anthonycorp.reservapp.Service.infrastructure.search.ServiceSearchIndex;
 import com.anthonycorp.reservapp.User.domain.request.UpdateUserDto;
 import com.anthonycorp.reservapp.User.domain.response.UserResponseDto;
+import com.anthonycorp.reservapp.User.infrastructure.cache.UserDetailsCache;
 import com.anthonycorp.reservapp.User.infrastructure.mapper.UserMapper;
 
 import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
 
 import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
@@ -19,14 +24,34 @@ public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserDetailsCache userDetailsCache;
+    private final ServiceCatalogCache serviceCatalogCache;
+    private final ServiceSearchIndex serviceSearchIndex;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public UserResponseDto execute(Long userId, UpdateUserDto updateUserDto) {
-        UserEntity userEntity = userRepository.findById(userId)
+        UserEntity userEntity = userRepository.findWithRoleById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("UserEntity with id "+ userId + " not found"));
 
+        String previousEmail = userEntity.getEmail();
+        String previousName = userEntity.getName();
         Optional.ofNullable(updateUserDto.getName()).ifPresent(userEntity::setName);
         Optional.ofNullable(updateUserDto.getEmail()).ifPresent(userEntity::setEmail);
-        return userMapper.toDto(userRepository.save(userEntity));
+        Optional.ofNullable(updateUserDto.getLocale()).map(Locale::forLanguageTag).ifPresent(userEntity::setLocale);
+        UserEntity savedUser = userRepository.save(userEntity);
+
+        if (!previousEmail.equals(savedUser.getEmail())) {
+            userDetailsCache.removeUserFromCache(previousEmail);
+        }
+        // Names and emails are embedded in the cached service catalog, the search index and every listing ETag
+        if (!previousName.equals(savedUser.getName())) {
+            serviceCatalogCache.invalidate();
+            serviceSearchIndex.updateProviderName(savedUser.getId(), savedUser.getName());
+        }
+        if (!previousName.equals(savedUser.getName()) || !previousEmail.equals(savedUser.getEmail())) {
+            resourceVersions.advanceAll();
+        }
+        return userMapper.toDto(savedUser);
     }
 }
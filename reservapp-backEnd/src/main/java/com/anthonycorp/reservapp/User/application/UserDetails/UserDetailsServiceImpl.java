@@ -21,7 +21,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        UserEntity userEntity = userRepository.findUserByEmail(email)
+        UserEntity userEntity = userRepository.findWithRoleByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("UserEntity " + email + " not found"));
 
         // Convertir el rol del usuario a una lista de autoridades
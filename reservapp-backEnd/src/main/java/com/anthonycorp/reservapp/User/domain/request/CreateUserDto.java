@@ -3,6 +3,7 @@ package com.anthonycorp.reservapp.User.domain.request;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -30,4 +31,7 @@ public class CreateUserDto {
     @NotNull(message = "the rol cannot be null")
     private Long rolId;
 
+    @Pattern(regexp = "[a-zA-Z]{2,8}(-[a-zA-Z0-9]{1,8})*", message = "The locale must be a language tag such as es or en-US")
+    private String locale;
+
 }
@@ -1,5 +1,6 @@
 package com.anthonycorp.reservapp.User.domain.request;
 
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,4 +17,7 @@ public class UpdateUserDto {
     private String name;
     private String email;
 
+    @Pattern(regexp = "[a-zA-Z]{2,8}(-[a-zA-Z0-9]{1,8})*", message = "The locale must be a language tag such as es or en-US")
+    private String locale;
+
 }
@@ -10,6 +10,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import java.util.List;
+import java.util.Locale;
 
 @Mapper(componentModel = "spring")
 public interface UserMapper {
@@ -19,4 +20,8 @@ public interface UserMapper {
     @Mapping(target = "role", expression = "java(userEntity.getRoleEntity().getRole().name())")
     UserNameDto toNameDto(UserEntity userEntity);
     List<UserNameDto> toNameDtoList(List<UserEntity> userEntityList);
+
+    default Locale toLocale(String languageTag) {
+        return languageTag == null ? null : Locale.forLanguageTag(languageTag);
+    }
 }
@@ -1,9 +1,20 @@
 package com.anthonycorp.reservapp.User.infrastructure.repository;
 import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findUserByEmail(String email);
+
+    @EntityGraph(attributePaths = "roleEntity")
+    Optional<UserEntity> findWithRoleByEmail(String email);
+
+    @EntityGraph(attributePaths = "roleEntity")
+    Optional<UserEntity> findWithRoleById(Long id);
+
+    List<UserEntity> findByEmailIn(Collection<String> emails);
 }
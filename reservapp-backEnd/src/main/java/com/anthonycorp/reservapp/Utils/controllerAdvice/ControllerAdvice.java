@@ -1,16 +1,26 @@
 package com.anthonycorp.reservapp.Utils.controllerAdvice;
 
+import com.anthonycorp.reservapp.Provider.infrastructure.exception.InvalidWorkingHoursException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.InvalidBulkUpdateException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.InvalidCursorException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.ReservationNotFoundException;
+import com.anthonycorp.reservapp.Service.infrastructure.exception.InvalidSearchException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.SlotUnavailableException;
 import com.anthonycorp.reservapp.Service.infrastructure.exception.ServiceNotFoundException;
 import com.anthonycorp.reservapp.User.infrastructure.exception.EmailAlreadyInUse;
 import com.anthonycorp.reservapp.User.infrastructure.exception.InvalidRole;
 import com.anthonycorp.reservapp.User.infrastructure.exception.RoleNotFound;
 import com.anthonycorp.reservapp.User.infrastructure.exception.UserNotFoundException;
 import com.anthonycorp.reservapp.Utils.dto.ErrorDto;
+import com.anthonycorp.reservapp.Utils.exception.AdmissionRejectedException;
+import com.anthonycorp.reservapp.Utils.exception.BulkheadFullException;
 import com.anthonycorp.reservapp.Utils.exception.TokenExpiredException;
+import com.anthonycorp.reservapp.Utils.exception.UnsupportedImportFormatException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import jakarta.mail.MessagingException;
 import jakarta.persistence.EntityNotFoundException;
 import org.apache.coyote.BadRequestException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -19,6 +29,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -79,6 +90,70 @@ public class ControllerAdvice {
         );
     }
 
+    @ExceptionHandler(SlotUnavailableException.class)
+    public ResponseEntity<ErrorDto> handleSlotUnavailableException(SlotUnavailableException e) {
+        return buildErrorResponse(
+                e.getMessage(),
+                ErrorCodes.SLOT_UNAVAILABLE,
+                HttpStatus.CONFLICT
+        );
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorDto> handleInvalidCursorException(InvalidCursorException e) {
+        return buildErrorResponse(
+                e.getMessage(),
+                ErrorCodes.BAD_REQUEST_ERROR,
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
+    @ExceptionHandler(InvalidBulkUpdateException.class)
+    public ResponseEntity<ErrorDto> handleInvalidBulkUpdateException(InvalidBulkUpdateException e) {
+        return buildErrorResponse(
+                e.getMessage(),
+                ErrorCodes.BAD_REQUEST_ERROR,
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
+    @ExceptionHandler(InvalidSearchException.class)
+    public ResponseEntity<ErrorDto> handleInvalidSearchException(InvalidSearchException e) {
+        return buildErrorResponse(
+                e.getMessage(),
+                ErrorCodes.BAD_REQUEST_ERROR,
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
+    @ExceptionHandler(InvalidWorkingHoursException.class)
+    public ResponseEntity<ErrorDto> handleInvalidWorkingHoursException(InvalidWorkingHoursException e) {
+        return buildErrorResponse(
+                e.getMessage(),
+                ErrorCodes.BAD_REQUEST_ERROR,
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
+    @ExceptionHandler(UnsupportedImportFormatException.class)
+    public ResponseEntity<ErrorDto> handleUnsupportedImportFormatException(UnsupportedImportFormatException e) {
+        return buildErrorResponse(
+                e.getMessage(),
+                ErrorCodes.INVALID_CONTENT,
+                HttpStatus.UNSUPPORTED_MEDIA_TYPE
+        );
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorDto> handleBulkheadFullException(BulkheadFullException e) {
+        return buildServiceBusyResponse(e.getMessage(), e.getRetryAfter());
+    }
+
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ErrorDto> handleAdmissionRejectedException(AdmissionRejectedException e) {
+        return buildServiceBusyResponse(e.getMessage(), e.getRetryAfter());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorDto> handleGenericException(Exception e) {
         return buildErrorResponse(
@@ -106,6 +181,15 @@ public class ControllerAdvice {
         );
     }
 
+    @ExceptionHandler(ReservationNotFoundException.class)
+    public ResponseEntity<ErrorDto> handleReservationNotFound(ReservationNotFoundException e) {
+        return buildErrorResponse(
+                e.getMessage(),
+                ErrorCodes.ENTITY_NOT_FOUND_ERROR,
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
     @ExceptionHandler(ServiceNotFoundException.class)
     public ResponseEntity<ErrorDto> handleServiceNotFound(ServiceNotFoundException e) {
         return buildErrorResponse(
@@ -178,4 +262,15 @@ public class ControllerAdvice {
                 .timestamp(LocalDateTime.now())
                 .build(), httpStatus); //return error dto with the http status
     }
+
+    // 503 with a Retry-After of at least one second, for work turned away because the server is saturated
+    private ResponseEntity<ErrorDto> buildServiceBusyResponse(String errorMessage, Duration retryAfter) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())))
+                .body(ErrorDto.builder()
+                        .message(errorMessage)
+                        .errorCode(ErrorCodes.SERVICE_BUSY)
+                        .timestamp(LocalDateTime.now())
+                        .build());
+    }
 }
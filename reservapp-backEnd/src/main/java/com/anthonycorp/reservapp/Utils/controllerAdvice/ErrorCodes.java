@@ -11,5 +11,8 @@ public enum ErrorCodes {
     VALIDATION_ERROR,
     MESSAGING_ERROR,
     ACCESS_DENIED,
-    INVALID_CONTENT
+    INVALID_CONTENT,
+    SLOT_UNAVAILABLE,
+    SERVICE_BUSY,
+    TOO_MANY_REQUESTS
 }
@@ -0,0 +1,15 @@
+package com.anthonycorp.reservapp.Utils.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportErrorDto {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,23 @@
+package com.anthonycorp.reservapp.Utils.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportDto {
+    private long received;
+    private long imported;
+    private long rejected;
+    private List<ImportErrorDto> errors;
+    // Set when more rows were rejected than import.max-reported-errors allows listing
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,16 @@
+package com.anthonycorp.reservapp.Utils.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public BulkheadFullException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
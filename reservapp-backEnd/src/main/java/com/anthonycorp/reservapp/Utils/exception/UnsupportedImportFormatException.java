@@ -0,0 +1,7 @@
+package com.anthonycorp.reservapp.Utils.exception;
+
+public class UnsupportedImportFormatException extends RuntimeException {
+    public UnsupportedImportFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,40 @@
+package com.anthonycorp.reservapp.Utils.exports;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * RFC 4180 output with a header row. Fields holding a comma, quote or line break are quoted; missing values are left
+ * empty.
+ */
+final class CsvExportWriter extends ExportWriter {
+
+    CsvExportWriter(OutputStream output, List<String> columns) throws IOException {
+        super(output, columns);
+        write(columns.toArray());
+    }
+
+    @Override
+    public void write(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            if (values[i] != null) {
+                writeField(values[i].toString());
+            }
+        }
+        out.write("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,40 @@
+package com.anthonycorp.reservapp.Utils.exports;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes rows straight to the response as they come, so an export never holds more than the row being written and
+ * the write buffer.
+ */
+public abstract class ExportWriter {
+
+    protected final Writer out;
+    protected final List<String> columns;
+
+    protected ExportWriter(OutputStream output, List<String> columns) {
+        this.out = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.columns = columns;
+    }
+
+    /**
+     * @param columns the column names, in the order {@link #write(Object...)} receives the values
+     */
+    public static ExportWriter open(ExportFormat format, OutputStream output, List<String> columns) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvExportWriter(output, columns);
+            case NDJSON -> new NdjsonExportWriter(output, columns);
+        };
+    }
+
+    public abstract void write(Object... values) throws IOException;
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
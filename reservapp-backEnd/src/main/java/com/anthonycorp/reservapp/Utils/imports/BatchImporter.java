@@ -0,0 +1,172 @@
+package com.anthonycorp.reservapp.Utils.imports;
+
+import com.anthonycorp.reservapp.Config.thread.Bulkhead;
+import com.anthonycorp.reservapp.Config.thread.Bulkheads;
+import com.anthonycorp.reservapp.Utils.dto.ImportErrorDto;
+import com.anthonycorp.reservapp.Utils.dto.ImportReportDto;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams an upload into the database. Rows are parsed, mapped and validated one at a time, and valid rows are
+ * handed to the writer in batches of {@code import.batch-size}, each in its own transaction. The persistence context
+ * is flushed and cleared after every batch, so memory stays flat however long the upload is, and a failing batch
+ * only takes its own rows down with it. The whole import holds a permit of the database bulkhead.
+ * <p>
+ * Must be called outside a transaction, otherwise every batch would join it and nothing would commit until the end.
+ */
+@Slf4j
+@Component
+public class BatchImporter {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Bulkhead databaseBulkhead;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BatchImporter(ObjectMapper objectMapper,
+                         Validator validator,
+                         Bulkheads bulkheads,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${import.batch-size:500}") int batchSize,
+                         @Value("${import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.databaseBulkhead = bulkheads.database();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public <T> ImportReportDto run(ImportFormat format, InputStream input, Class<T> rowType, BatchWriter<T> writer) {
+        Report report = new Report();
+        List<ImportRow<T>> batch = new ArrayList<>(batchSize);
+        try (Bulkhead.Permit permit = databaseBulkhead.acquire();
+             ImportReader reader = ImportReader.open(format, input, objectMapper)) {
+            while (true) {
+                ImportRecord record;
+                try {
+                    record = reader.next();
+                } catch (ImportRowException e) {
+                    report.received++;
+                    report.reject(e.getLine(), e.getMessage());
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                report.received++;
+                try {
+                    batch.add(new ImportRow<>(record.line(), toRow(record, rowType)));
+                } catch (ImportRowException e) {
+                    report.reject(e.getLine(), e.getMessage());
+                }
+                if (batch.size() == batchSize) {
+                    write(batch, writer, report);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch, writer, report);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the import", e);
+        }
+        return report.toDto();
+    }
+
+    private <T> T toRow(ImportRecord record, Class<T> rowType) {
+        T row;
+        try {
+            row = objectMapper.convertValue(record.fields(), rowType);
+        } catch (IllegalArgumentException e) {
+            throw new ImportRowException(record.line(), conversionMessage(e));
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            throw new ImportRowException(record.line(), violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return row;
+    }
+
+    private <T> void write(List<ImportRow<T>> batch, BatchWriter<T> writer, Report report) {
+        List<ImportErrorDto> rejected;
+        try {
+            rejected = transactionTemplate.execute(status -> {
+                List<ImportErrorDto> errors = writer.write(batch);
+                entityManager.flush();
+                entityManager.clear();
+                return errors;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Import batch of {} rows starting at line {} failed", batch.size(), batch.get(0).line(), e);
+            entityManager.clear();
+            batch.forEach(row -> report.reject(row.line(), "The batch holding this row could not be saved"));
+            return;
+        }
+        rejected.forEach(error -> report.reject(error.getLine(), error.getMessage()));
+        report.imported += batch.size() - rejected.size();
+    }
+
+    private static String conversionMessage(IllegalArgumentException e) {
+        if (e.getCause() instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().stream()
+                    .map(JsonMappingException.Reference::getFieldName)
+                    .collect(Collectors.joining("."));
+            return "Invalid value for " + field;
+        }
+        return "Invalid row";
+    }
+
+    private final class Report {
+        private final List<ImportErrorDto> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long rejected;
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportErrorDto(line, message));
+            }
+        }
+
+        // Rows rejected by the writer are only known once their batch is written, after later lines failed validation
+        private ImportReportDto toDto() {
+            errors.sort(Comparator.comparingLong(ImportErrorDto::getLine));
+            return ImportReportDto.builder()
+                    .received(received)
+                    .imported(imported)
+                    .rejected(rejected)
+                    .errors(errors)
+                    .errorsTruncated(rejected > errors.size())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.anthonycorp.reservapp.Utils.imports;
+
+import com.anthonycorp.reservapp.Utils.dto.ImportErrorDto;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface BatchWriter<T> {
+
+    /**
+     * Persists one batch of valid rows inside the batch transaction.
+     *
+     * @return the rows that were left out, with the reason
+     */
+    List<ImportErrorDto> write(List<ImportRow<T>> rows);
+}
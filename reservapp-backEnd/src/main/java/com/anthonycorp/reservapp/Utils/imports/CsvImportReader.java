@@ -0,0 +1,134 @@
+package com.anthonycorp.reservapp.Utils.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 reader: the first row names the columns, fields may be quoted to hold commas, quotes ({@code ""}) or line
+ * breaks, and empty fields read as missing values. Blank lines are skipped.
+ */
+final class CsvImportReader extends ImportReader {
+
+    private static final int NONE = -2;
+
+    private List<String> header;
+    private long line = 1;
+    private int pushedBack = NONE;
+
+    CsvImportReader(InputStream input) {
+        super(input);
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        while (true) {
+            long start = line;
+            List<String> cells = readRow(start);
+            if (cells == null) {
+                return null;
+            }
+            if (cells.size() == 1 && cells.get(0).isEmpty()) {
+                continue;
+            }
+            if (header == null) {
+                header = cells.stream().map(String::trim).toList();
+                continue;
+            }
+            if (cells.size() != header.size()) {
+                throw new ImportRowException(start,
+                        "Expected " + header.size() + " columns but found " + cells.size());
+            }
+            Map<String, String> fields = new HashMap<>(header.size() * 2);
+            for (int i = 0; i < cells.size(); i++) {
+                String cell = cells.get(i);
+                fields.put(header.get(i), cell.isEmpty() ? null : cell);
+            }
+            return new ImportRecord(start, fields);
+        }
+    }
+
+    private List<String> readRow(long start) throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (true) {
+            if (c == -1) {
+                if (quoted) {
+                    throw new ImportRowException(start, "Unterminated quoted field");
+                }
+                cells.add(cell.toString());
+                return cells;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following != '"') {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                    cell.append('"');
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    cell.append((char) c);
+                }
+            } else if (c == '"' && cell.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                endLine(c);
+                cells.add(cell.toString());
+                return cells;
+            } else {
+                cell.append((char) c);
+            }
+            if (++length > MAX_ROW_CHARS) {
+                skipLine();
+                throw new ImportRowException(start, "Row is longer than " + MAX_ROW_CHARS + " characters");
+            }
+            c = read();
+        }
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        while ((c = read()) != -1) {
+            if (c == '\r' || c == '\n') {
+                endLine(c);
+                return;
+            }
+        }
+    }
+
+    private void endLine(int c) throws IOException {
+        if (c == '\r') {
+            int following = read();
+            if (following != '\n') {
+                pushedBack = following;
+            }
+        }
+        line++;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        return in.read();
+    }
+}
@@ -0,0 +1,32 @@
+package com.anthonycorp.reservapp.Utils.imports;
+
+import com.anthonycorp.reservapp.Utils.exception.UnsupportedImportFormatException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+    CSV(MediaType.parseMediaType("text/csv")),
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"));
+
+    private final MediaType mediaType;
+
+    ImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            try {
+                MediaType requested = MediaType.parseMediaType(contentType);
+                for (ImportFormat format : values()) {
+                    if (format.mediaType.isCompatibleWith(requested)) {
+                        return format;
+                    }
+                }
+            } catch (InvalidMediaTypeException e) {
+                // Reported below like any other unsupported type
+            }
+        }
+        throw new UnsupportedImportFormatException("Imports must be sent as text/csv or application/x-ndjson");
+    }
+}
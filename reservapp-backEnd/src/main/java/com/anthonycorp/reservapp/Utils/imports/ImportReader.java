@@ -0,0 +1,43 @@
+package com.anthonycorp.reservapp.Utils.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads an upload one row at a time, so only the current row is ever held in memory.
+ */
+public abstract class ImportReader implements Closeable {
+
+    // Longest row accepted, bounding the memory a single malformed row can take
+    static final int MAX_ROW_CHARS = 64 * 1024;
+
+    protected final BufferedReader in;
+
+    protected ImportReader(InputStream input) {
+        this.in = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    public static ImportReader open(ImportFormat format, InputStream input, ObjectMapper objectMapper) {
+        return switch (format) {
+            case CSV -> new CsvImportReader(input);
+            case NDJSON -> new NdjsonImportReader(input, objectMapper);
+        };
+    }
+
+    /**
+     * @return the next row, or {@code null} once the input is exhausted
+     * @throws ImportRowException when the next row is malformed; the following call continues after it
+     */
+    public abstract ImportRecord next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,10 @@
+package com.anthonycorp.reservapp.Utils.imports;
+
+import java.util.Map;
+
+/**
+ * One parsed input row, keyed by column (CSV header or NDJSON property) name. {@code line} is the line the row starts
+ * on, counting the CSV header, so errors can point back into the uploaded file.
+ */
+public record ImportRecord(long line, Map<String, String> fields) {
+}
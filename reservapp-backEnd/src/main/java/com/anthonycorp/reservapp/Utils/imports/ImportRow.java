@@ -0,0 +1,4 @@
+package com.anthonycorp.reservapp.Utils.imports;
+
+public record ImportRow<T>(long line, T value) {
+}
@@ -0,0 +1,16 @@
+package com.anthonycorp.reservapp.Utils.imports;
+
+import lombok.Getter;
+
+/**
+ * A single row could not be read. The reader has already moved past it, so the import goes on with the next row.
+ */
+@Getter
+public class ImportRowException extends RuntimeException {
+    private final long line;
+
+    public ImportRowException(long line, String message) {
+        super(message);
+        this.line = line;
+    }
+}
@@ -0,0 +1,114 @@
+package com.anthonycorp.reservapp.Utils.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One JSON object per line. Property values must be scalars and are kept as text, so both formats reach the row
+ * mapping in the same shape. Blank lines are skipped. Lines are read a character at a time, so a line over the limit
+ * is rejected without being buffered.
+ */
+final class NdjsonImportReader extends ImportReader {
+
+    private static final int NONE = -2;
+
+    private final ObjectMapper objectMapper;
+    private final StringBuilder text = new StringBuilder();
+    private long line;
+    private int pushedBack = NONE;
+
+    NdjsonImportReader(InputStream input, ObjectMapper objectMapper) {
+        super(input);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        while (readLine()) {
+            line++;
+            String row = text.toString();
+            if (!row.isBlank()) {
+                return parse(row);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the next line into {@code text}, without its terminator.
+     *
+     * @return {@code false} once the input is exhausted
+     * @throws ImportRowException when the line is longer than the limit; the rest of it is skipped
+     */
+    private boolean readLine() throws IOException {
+        text.setLength(0);
+        int c = read();
+        if (c == -1) {
+            return false;
+        }
+        while (c != -1 && c != '\r' && c != '\n') {
+            if (text.length() == MAX_ROW_CHARS) {
+                skipLine();
+                text.setLength(0);
+                throw new ImportRowException(++line, "Row is longer than " + MAX_ROW_CHARS + " characters");
+            }
+            text.append((char) c);
+            c = read();
+        }
+        endLine(c);
+        return true;
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c != -1 && c != '\r' && c != '\n');
+        endLine(c);
+    }
+
+    private void endLine(int c) throws IOException {
+        if (c == '\r') {
+            int following = read();
+            if (following != '\n') {
+                pushedBack = following;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        return in.read();
+    }
+
+    private ImportRecord parse(String text) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            throw new ImportRowException(line, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            throw new ImportRowException(line, "Each line must hold a JSON object");
+        }
+        Map<String, String> fields = new HashMap<>(node.size() * 2);
+        for (Map.Entry<String, JsonNode> property : node.properties()) {
+            JsonNode value = property.getValue();
+            if (value.isContainerNode()) {
+                throw new ImportRowException(line, "Field " + property.getKey() + " must be a single value");
+            }
+            fields.put(property.getKey(), value.isNull() ? null : value.asText());
+        }
+        return new ImportRecord(line, fields);
+    }
+}
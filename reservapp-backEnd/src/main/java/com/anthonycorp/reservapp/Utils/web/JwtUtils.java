@@ -7,9 +7,14 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
@@ -17,6 +22,7 @@ import java.util.Map;
 import java.util.UUID;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtils {
 
     @Value("${security.jwt.key.private}")
@@ -25,9 +31,22 @@ public class JwtUtils {
     @Value("${security.jwt.user.generator}")
     private String userGenerator;
 
-    public String createToken(Authentication authentication) {
-        Algorithm algorithm = Algorithm.HMAC256(privateKey);
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MeterRegistry meterRegistry;
+
+    // Both are immutable and thread-safe, so they are built once instead of on every request
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
 
+    @PostConstruct
+    public void init() {
+        algorithm = Algorithm.HMAC256(privateKey);
+        verifier = JWT.require(algorithm)
+                .withIssuer(userGenerator)
+                .build();
+    }
+
+    public String createToken(Authentication authentication) {
         String username = authentication.getName();
 
         String role = authentication.getAuthorities().stream()
@@ -50,12 +69,6 @@ public class JwtUtils {
 
     public DecodedJWT validateToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(privateKey);
-
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer(userGenerator)
-                    .build();
-
             DecodedJWT decodedJWT = verifier.verify(token);
             return decodedJWT;
         }catch (JWTVerificationException exception) {
@@ -66,6 +79,34 @@ public class JwtUtils {
         }
     }
 
+    /**
+     * Verifies the token, or returns the result of an earlier verification of the same token while it is unexpired.
+     * Timed as {@code jwt.verification}, tagged by outcome and by whether the cache answered.
+     */
+    public VerifiedToken verify(String token) {
+        Timer.Sample sample = Timer.start();
+        boolean[] cached = {true};
+        String outcome = "valid";
+        try {
+            return verifiedTokenCache.get(token, uncached -> {
+                cached[0] = false;
+                return verifyUncached(uncached);
+            });
+        } catch (TokenExpiredException e) {
+            outcome = "expired";
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "invalid";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("jwt.verification")
+                    .tag("outcome", outcome)
+                    .tag("cached", String.valueOf(cached[0]))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
     public String extractUsername(DecodedJWT decodedJWT) {
         return decodedJWT.getSubject().toString();
     }
@@ -77,4 +118,12 @@ public class JwtUtils {
     public Map<String, Claim> returnAllClaims(DecodedJWT decodedJWT) {
         return decodedJWT.getClaims();
     }
+
+    private VerifiedToken verifyUncached(String token) {
+        DecodedJWT decodedJWT = validateToken(token);
+        return new VerifiedToken(
+                extractUsername(decodedJWT),
+                AuthorityUtils.commaSeparatedStringToAuthorityList(getSpecificClaim(decodedJWT, "role").asString()),
+                decodedJWT.getExpiresAtAsInstant());
+    }
 }
@@ -0,0 +1,106 @@
+package com.anthonycorp.reservapp.Utils.web;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters for the listings served with strong ETags. Every write advances the counters of the listings it
+ * changes, after its transaction commits, so a reader can never pair a new version with data from before the write.
+ * The ETag also carries a per-process epoch, so counters restarting from zero never revalidate an older response.
+ * <p>
+ * The counters live in this instance's memory only: writes handled by another replica do not advance them, and a
+ * restart starts a new epoch. An ETag is therefore only valid against the instance that issued it, and behind a load
+ * balancer clients must be pinned to one instance or the counters moved to a shared store.
+ */
+@Component
+public class ResourceVersions {
+
+    public static final String SERVICE_CATALOG = "services";
+    // Advanced when data shown in every reservation listing changes, such as a service title
+    public static final String ALL_RESERVATIONS = "reservations";
+    // Bytes of the query's SHA-256 kept in the ETag, enough that two queries of one listing never share a tag
+    private static final int QUERY_DIGEST_BYTES = 12;
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private volatile String epoch = newEpoch();
+
+    public static String providerServices(String providerEmail) {
+        return "services:provider:" + providerEmail;
+    }
+
+    public static String customerReservations(String customerEmail) {
+        return "reservations:customer:" + customerEmail;
+    }
+
+    public static String providerReservations(String providerEmail) {
+        return "reservations:provider:" + providerEmail;
+    }
+
+    /**
+     * Builds the strong ETag of a listing from the versions of the resources it depends on and the query that
+     * selected the page.
+     */
+    public String etag(String query, String... resources) {
+        StringBuilder etag = new StringBuilder(48).append('"').append(epoch);
+        for (String resource : resources) {
+            AtomicLong version = versions.get(resource);
+            etag.append('.').append(version == null ? 0 : version.get());
+        }
+        if (query != null && !query.isEmpty()) {
+            etag.append('.').append(digest(query));
+        }
+        return etag.append('"').toString();
+    }
+
+    public void advance(String... resources) {
+        afterCommit(() -> {
+            for (String resource : resources) {
+                versions.computeIfAbsent(resource, key -> new AtomicLong()).incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Changes every ETag at once, for writes that touch data embedded in many listings such as a user's name.
+     */
+    public void advanceAll() {
+        afterCommit(() -> epoch = newEpoch());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String digest(String query) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, QUERY_DIGEST_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String newEpoch() {
+        return Long.toString(UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE, 36);
+    }
+}
@@ -0,0 +1,13 @@
+package com.anthonycorp.reservapp.Utils.web;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+public record VerifiedToken(String username, List<GrantedAuthority> authorities, Instant expiresAt) {
+
+    public boolean isValidAt(Instant instant) {
+        return expiresAt != null && instant.isBefore(expiresAt);
+    }
+}
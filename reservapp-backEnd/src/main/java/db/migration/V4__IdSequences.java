@@ -0,0 +1,51 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Replaces the identity columns with one sequence per table, so Hibernate can assign ids before inserting and group
+ * the inserts into JDBC batches. Each sequence steps by the pooled allocation size used by the entities and starts one
+ * block past the highest existing id, because the pooled optimizer hands out the block ending at the fetched value.
+ * The column keeps a sequence default so rows inserted outside the application still get an id.
+ * <p>
+ * Written in Java because the start value depends on the data and the default expression differs between PostgreSQL
+ * and the H2 database used by the tests.
+ */
+public class V4__IdSequences extends BaseJavaMigration {
+
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final List<String> TABLES = List.of(
+            "roles", "users", "services", "reservations", "notification_outbox", "provider_working_hours");
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                String sequence = table + "_seq";
+                long start = maxId(statement, table) + ALLOCATION_SIZE;
+                statement.execute("CREATE SEQUENCE " + sequence + " START WITH " + start
+                        + " INCREMENT BY " + ALLOCATION_SIZE);
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY");
+                String next = postgres ? "nextval('" + sequence + "')" : "NEXT VALUE FOR " + sequence;
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT " + next);
+            }
+        }
+    }
+
+    private static long maxId(Statement statement, String table) throws SQLException {
+        try (ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+-- Status columns hold the compact codes defined on ReservationStatus / ServiceStatus
+
+CREATE TABLE roles (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    role_name VARCHAR(255)
+);
+
+CREATE TABLE users (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email                   VARCHAR(255) NOT NULL,
+    name                    VARCHAR(255) NOT NULL,
+    password                VARCHAR(255) NOT NULL,
+    role_id                 BIGINT       NOT NULL,
+    is_enabled              BOOLEAN      NOT NULL DEFAULT TRUE,
+    account_non_expired     BOOLEAN      NOT NULL DEFAULT TRUE,
+    account_non_locked      BOOLEAN      NOT NULL DEFAULT TRUE,
+    credentials_non_expired BOOLEAN      NOT NULL DEFAULT TRUE,
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES roles (id)
+);
+
+CREATE TABLE services (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(255),
+    description VARCHAR(255),
+    price       DOUBLE PRECISION,
+    provider_id BIGINT,
+    status      SMALLINT NOT NULL,
+    CONSTRAINT fk_services_provider FOREIGN KEY (provider_id) REFERENCES users (id)
+);
+
+CREATE TABLE reservations (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    provider_id BIGINT NOT NULL,
+    service_id  BIGINT NOT NULL,
+    date        DATE,
+    time        TIME,
+    created_at  TIMESTAMP,
+    status      SMALLINT,
+    CONSTRAINT fk_reservations_customer FOREIGN KEY (customer_id) REFERENCES users (id),
+    CONSTRAINT fk_reservations_provider FOREIGN KEY (provider_id) REFERENCES users (id),
+    CONSTRAINT fk_reservations_service FOREIGN KEY (service_id) REFERENCES services (id)
+);
+
+-- ServiceRepository.findAllByProviderId
+CREATE INDEX idx_services_provider ON services (provider_id);
+
+-- ReservationRepository.findByCustomer and the customer keyset listing ordered by (date, time, id)
+CREATE INDEX idx_reservations_customer_keyset ON reservations (customer_id, date, time, id);
+
+-- ReservationRepository.findByProviderEmail and the provider keyset listing ordered by (date, time, id)
+CREATE INDEX idx_reservations_provider_keyset ON reservations (provider_id, date, time, id);
+
+-- ReservationRepository.findByProviderEmailAndStatus and the provider listing filtered by status
+CREATE INDEX idx_reservations_provider_status_keyset ON reservations (provider_id, status, date, time, id);
+
+-- Foreign key lookups when a service is deleted
+CREATE INDEX idx_reservations_service ON reservations (service_id);
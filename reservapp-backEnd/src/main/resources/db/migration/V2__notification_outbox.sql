@@ -0,0 +1,16 @@
+-- Mails written in the same transaction as the reservation change, drained by NotificationOutboxDispatcher
+CREATE TABLE notification_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    body            VARCHAR(4000) NOT NULL,
+    status          SMALLINT      NOT NULL,
+    attempts        INT           NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP     NOT NULL,
+    created_at      TIMESTAMP     NOT NULL,
+    sent_at         TIMESTAMP,
+    last_error      VARCHAR(1000)
+);
+
+-- NotificationOutboxRepository.claimDue: pending rows whose next attempt is due, oldest first
+CREATE INDEX idx_notification_outbox_due ON notification_outbox (status, next_attempt_at, id);
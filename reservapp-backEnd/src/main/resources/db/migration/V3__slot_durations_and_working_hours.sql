@@ -0,0 +1,16 @@
+-- Length of one booking of the service; existing services keep the previous global 60 minute slot
+ALTER TABLE services ADD COLUMN slot_duration_minutes INTEGER NOT NULL DEFAULT 60;
+
+-- Copied from the service when booked, so later service edits do not move existing reservations
+ALTER TABLE reservations ADD COLUMN duration_minutes INTEGER NOT NULL DEFAULT 60;
+
+-- One row per open weekday (ISO 1 = Monday ... 7 = Sunday); providers without rows use the configured default week
+CREATE TABLE provider_working_hours (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    provider_id BIGINT   NOT NULL,
+    day_of_week SMALLINT NOT NULL,
+    opens_at    TIME     NOT NULL,
+    closes_at   TIME     NOT NULL,
+    CONSTRAINT uk_provider_working_hours_day UNIQUE (provider_id, day_of_week),
+    CONSTRAINT fk_provider_working_hours_provider FOREIGN KEY (provider_id) REFERENCES users (id)
+);
@@ -0,0 +1,2 @@
+-- Language tag (e.g. "es", "en-US") the user's mails are written in; NULL uses the configured notification.locale
+ALTER TABLE users ADD COLUMN locale VARCHAR(35);
@@ -0,0 +1,90 @@
+package com.anthonycorp.reservapp.Config.database;
+
+import com.anthonycorp.reservapp.Utils.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveConcurrencyLimitTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void shedsCallersPastTheQueueTimeoutWithARetryHint() {
+		AdaptiveConcurrencyLimit limit = limit(2, Duration.ofMillis(50));
+		limit.acquire();
+		limit.acquire();
+
+		AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class, limit::acquire);
+
+		assertEquals(Duration.ofSeconds(1), rejected.getRetryAfter());
+		assertEquals(2, limit.getInFlight());
+		assertEquals(1.0, meterRegistry.get("admission.rejected").tag("name", "test").counter().count());
+	}
+
+	@Test
+	void queuedCallerIsAdmittedWhenAPermitIsReleased() throws Exception {
+		AdaptiveConcurrencyLimit limit = limit(1, Duration.ofSeconds(10));
+		AdaptiveConcurrencyLimit.Permit held = limit.acquire();
+		CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> limit.acquire().close());
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (limit.getQueued() < 1 && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		assertEquals(1, limit.getQueued());
+
+		held.close();
+		waiting.get(5, TimeUnit.SECONDS);
+		assertEquals(0, limit.getInFlight());
+	}
+
+	@Test
+	void fastSamplesOnlyGrowTheLimitWhileItIsInUse() {
+		AdaptiveConcurrencyLimit limit = limit(4, Duration.ofMillis(50));
+
+		for (int i = 0; i < 100; i++) {
+			try (AdaptiveConcurrencyLimit.Permit permit = limit.acquire()) {
+				limit.onSample(FAST);
+			}
+		}
+
+		assertEquals(4, limit.getLimit());
+	}
+
+	@Test
+	void slowSamplesShrinkTheLimitAndBusyFastOnesGrowItBackToTheMaximum() {
+		AdaptiveConcurrencyLimit limit = limit(8, Duration.ofMillis(50));
+		for (int i = 0; i < 10; i++) {
+			limit.onSample(SLOW);
+		}
+		assertEquals(1, limit.getLimit());
+
+		AdaptiveConcurrencyLimit.Permit[] permits = new AdaptiveConcurrencyLimit.Permit[8];
+		for (int round = 0; round < 100; round++) {
+			int admitted = limit.getLimit();
+			for (int i = 0; i < admitted; i++) {
+				permits[i] = limit.acquire();
+			}
+			for (int i = 0; i < admitted; i++) {
+				limit.onSample(FAST);
+				permits[i].close();
+			}
+		}
+		assertEquals(8, limit.getLimit());
+	}
+
+	private AdaptiveConcurrencyLimit limit(int initial, Duration queueTimeout) {
+		return new AdaptiveConcurrencyLimit("test", initial, 1, 8, 0.5, Duration.ofMillis(100), queueTimeout,
+				Duration.ofSeconds(1), meterRegistry);
+	}
+}
@@ -0,0 +1,111 @@
+package com.anthonycorp.reservapp.Config.database;
+
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.User.infrastructure.repository.RoleRepository;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Utils.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {"spring.datasource.hikari.maximum-pool-size=2", "database.admission.queue-timeout-ms=50"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({DatabaseAdmissionConfig.class, DatabaseAdmissionConfigTest.Metrics.class})
+class DatabaseAdmissionConfigTest {
+
+	@Autowired
+	private AdaptiveConcurrencyLimit databaseAdmissionLimit;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ServiceRepository serviceRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void aTransactionHoldsOnePermitUntilItCompletes() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			userRepository.findUserByEmail("nobody@test.com");
+			serviceRepository.count();
+			userRepository.count();
+			assertEquals(1, databaseAdmissionLimit.getInFlight());
+		});
+
+		assertEquals(0, databaseAdmissionLimit.getInFlight());
+		userRepository.count();
+		assertEquals(0, databaseAdmissionLimit.getInFlight());
+	}
+
+	@Test
+	void repositoriesOutsideTheLimitAreNotAdmitted() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			roleRepository.count();
+			assertEquals(0, databaseAdmissionLimit.getInFlight());
+		});
+	}
+
+	@Test
+	void shedsCallsOnceEveryPermitIsHeld() throws InterruptedException {
+		CountDownLatch holding = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		CompletableFuture<?>[] holders = new CompletableFuture<?>[2];
+		for (int i = 0; i < holders.length; i++) {
+			holders[i] = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+				userRepository.count();
+				holding.countDown();
+				await(release);
+			}));
+		}
+		assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+		CompletionException rejected = assertThrows(CompletionException.class,
+				() -> CompletableFuture.runAsync(() -> serviceRepository.count()).join());
+		assertInstanceOf(AdmissionRejectedException.class, rejected.getCause());
+
+		release.countDown();
+		CompletableFuture.allOf(holders).join();
+		assertEquals(0, databaseAdmissionLimit.getInFlight());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@TestConfiguration
+	static class Metrics {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.anthonycorp.reservapp.Config.database;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Assertions on the SQL a piece of work issues, counted by {@link SqlStatementInspector}. Only statements on the
+ * calling thread, or on tasks handed to the async executor from it, are counted:
+ * <pre>
+ * QueryBudget.assertAtMost(2, "GET /reservations/me with 30 rows", () -&gt; mockMvc.perform(...));
+ * </pre>
+ */
+public final class QueryBudget {
+
+	@FunctionalInterface
+	public interface Work {
+		void run() throws Exception;
+	}
+
+	private QueryBudget() {
+	}
+
+	public static SqlStatistics measure(Work work) throws Exception {
+		try (SqlStatistics statistics = SqlStatistics.open()) {
+			work.run();
+			return statistics;
+		}
+	}
+
+	/**
+	 * Fails, listing the statements, when {@code work} issues more than {@code maxStatements}.
+	 */
+	public static SqlStatistics assertAtMost(int maxStatements, String description, Work work) throws Exception {
+		SqlStatistics statistics = measure(work);
+		if (statistics.getStatements() > maxStatements) {
+			fail(description + " issued " + statistics.getStatements() + " statements, budget is " + maxStatements
+					+ ":\n" + numbered(statistics.getSql()));
+		}
+		return statistics;
+	}
+
+	private static String numbered(List<String> sql) {
+		return IntStream.range(0, sql.size())
+				.mapToObj(i -> (i + 1) + ". " + sql.get(i))
+				.collect(Collectors.joining("\n"));
+	}
+}
@@ -0,0 +1,71 @@
+package com.anthonycorp.reservapp.Config.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadPinningMonitorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private VirtualThreadPinningMonitor monitor;
+
+	@BeforeEach
+	void setUp() {
+		monitor = new VirtualThreadPinningMonitor(meterRegistry, true, 0, 16, 200);
+		monitor.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		monitor.stop();
+	}
+
+	@Test
+	void groupsPinningEventsBySite() throws Exception {
+		Object lock = new Object();
+		for (int i = 0; i < 3; i++) {
+			Thread.ofVirtual().start(() -> sleepHolding(lock)).join();
+		}
+		Thread.ofVirtual().start(this::sleepUnpinned).join();
+
+		assertTrue(monitor.awaitFlush(Duration.ofSeconds(10)));
+		PinningReport report = monitor.report(10);
+
+		assertEquals(3, report.totalEvents());
+		assertEquals(1, report.sites().size());
+		assertEquals(3, report.sites().get(0).count());
+		assertTrue(report.sites().get(0).stack().stream().anyMatch(frame -> frame.contains(".sleepHolding:")));
+		assertEquals(3, meterRegistry.get("jvm.threads.virtual.pinned").counter().count());
+	}
+
+	@Test
+	void resetStartsAFreshCount() throws Exception {
+		Thread.ofVirtual().start(() -> sleepHolding(new Object())).join();
+		assertTrue(monitor.awaitFlush(Duration.ofSeconds(10)));
+
+		monitor.reset();
+
+		assertEquals(0, monitor.report(10).totalEvents());
+		assertTrue(monitor.report(10).sites().isEmpty());
+	}
+
+	private void sleepHolding(Object lock) {
+		synchronized (lock) {
+			sleepUnpinned();
+		}
+	}
+
+	private void sleepUnpinned() {
+		try {
+			Thread.sleep(5);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
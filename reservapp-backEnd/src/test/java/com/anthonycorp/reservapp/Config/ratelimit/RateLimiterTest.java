@@ -0,0 +1,84 @@
+package com.anthonycorp.reservapp.Config.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AtomicLong now = new AtomicLong();
+
+	@Test
+	void refusesPastTheBurstAndRefillsEvenlyOverThePeriod() {
+		RateLimiter rateLimiter = rateLimiter(new RateLimitProperties.Limit(3, Duration.ofSeconds(3)), null);
+
+		for (int remaining = 2; remaining >= 0; remaining--) {
+			assertEquals(remaining, login(rateLimiter, "10.0.0.1").remaining());
+		}
+		TokenBucket.Probe refused = login(rateLimiter, "10.0.0.1");
+		assertFalse(refused.allowed());
+		assertEquals(TimeUnit.SECONDS.toNanos(1), refused.waitNanos());
+
+		now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertTrue(login(rateLimiter, "10.0.0.1").allowed());
+		assertFalse(login(rateLimiter, "10.0.0.1").allowed());
+		assertTrue(login(rateLimiter, "10.0.0.2").allowed());
+		assertEquals(2.0, meterRegistry.get("rate.limit.rejected").tag("key", "ip").counter().count());
+	}
+
+	@Test
+	void limitsEachPrincipalOnTopOfItsAddress() {
+		RateLimiter rateLimiter = rateLimiter(new RateLimitProperties.Limit(100, Duration.ofMinutes(1)),
+				new RateLimitProperties.Limit(2, Duration.ofMinutes(1)));
+
+		assertEquals(1, rateLimiter.tryAcquire("POST", "/reservations", "10.0.0.1", "ana@test.com").remaining());
+		assertTrue(rateLimiter.tryAcquire("POST", "/reservations", "10.0.0.2", "ana@test.com").allowed());
+		assertFalse(rateLimiter.tryAcquire("POST", "/reservations", "10.0.0.3", "ana@test.com").allowed());
+		assertTrue(rateLimiter.tryAcquire("POST", "/reservations", "10.0.0.3", "luis@test.com").allowed());
+		assertTrue(rateLimiter.tryAcquire("POST", "/reservations", "10.0.0.3", null).allowed());
+		assertNull(rateLimiter.tryAcquire("GET", "/reservations", "10.0.0.3", "ana@test.com"));
+	}
+
+	@Test
+	void concurrentRequestsNeverGetMoreThanTheCapacity() throws Exception {
+		RateLimiter rateLimiter = rateLimiter(new RateLimitProperties.Limit(50, Duration.ofHours(1)), null);
+
+		List<Future<Boolean>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 500; i++) {
+				results.add(executor.submit(() -> login(rateLimiter, "10.0.0.1").allowed()));
+			}
+		}
+		long allowed = 0;
+		for (Future<Boolean> result : results) {
+			allowed += result.get() ? 1 : 0;
+		}
+
+		assertEquals(50, allowed);
+	}
+
+	private static TokenBucket.Probe login(RateLimiter rateLimiter, String clientAddress) {
+		return rateLimiter.tryAcquire("POST", "/auth/login", clientAddress, null);
+	}
+
+	private RateLimiter rateLimiter(RateLimitProperties.Limit perIp, RateLimitProperties.Limit perPrincipal) {
+		return new RateLimiter(new RateLimitProperties(1000, Duration.ofMinutes(10), List.of(
+				new RateLimitProperties.Route("POST", "/auth/login", perIp, null),
+				new RateLimitProperties.Route("POST", "/reservations", perIp, perPrincipal))),
+				meterRegistry, now::get);
+	}
+}
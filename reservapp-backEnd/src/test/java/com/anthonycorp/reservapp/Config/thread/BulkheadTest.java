@@ -0,0 +1,121 @@
+package com.anthonycorp.reservapp.Config.thread;
+
+import com.anthonycorp.reservapp.Utils.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkheadTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+	@Test
+	void neverRunsMoreTasksThanItHasPermits() {
+		Bulkhead bulkhead = bulkhead(3, Duration.ofSeconds(10));
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger peak = new AtomicInteger();
+
+		List<CompletableFuture<Integer>> futures = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			futures.add(callAsync(bulkhead, () -> {
+				peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+				sleep(5);
+				return running.decrementAndGet();
+			}));
+		}
+		futures.forEach(CompletableFuture::join);
+
+		assertEquals(3, peak.get());
+		assertEquals(0.0, gauge("bulkhead.in.flight"));
+	}
+
+	@Test
+	void rejectsCallersThatWaitLongerThanTheQueueTimeout() throws InterruptedException {
+		Bulkhead bulkhead = bulkhead(1, Duration.ofMillis(50));
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Void> holder = callAsync(bulkhead, () -> {
+			holding.countDown();
+			await(release);
+			return null;
+		});
+		assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+		BulkheadFullException rejected = assertThrows(BulkheadFullException.class, bulkhead::acquire);
+		assertEquals(Duration.ofMillis(50), rejected.getRetryAfter());
+		assertEquals(1.0, gauge("bulkhead.in.flight"));
+		assertEquals(1.0, meterRegistry.get("bulkhead.rejected").tag("name", "test").counter().count());
+
+		release.countDown();
+		holder.join();
+		try (Bulkhead.Permit permit = bulkhead.acquire()) {
+			assertEquals(1.0, gauge("bulkhead.in.flight"));
+		}
+		assertEquals(0.0, gauge("bulkhead.in.flight"));
+	}
+
+	@Test
+	void countsCallersWaitingForAPermit() throws InterruptedException {
+		Bulkhead bulkhead = bulkhead(1, Duration.ofSeconds(10));
+		Bulkhead.Permit held = bulkhead.acquire();
+		CompletableFuture<String> waiting = callAsync(bulkhead, () -> "done");
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (gauge("bulkhead.queued") < 1 && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		assertEquals(1.0, gauge("bulkhead.queued"));
+
+		held.close();
+		assertEquals("done", waiting.join());
+		assertEquals(0.0, gauge("bulkhead.queued"));
+	}
+
+	private Bulkhead bulkhead(int permits, Duration queueTimeout) {
+		return new Bulkhead("test", permits, queueTimeout, meterRegistry);
+	}
+
+	// Runs the task on its own virtual thread while holding a permit, as a caller of the bulkhead would
+	private <T> CompletableFuture<T> callAsync(Bulkhead bulkhead, Supplier<T> task) {
+		return CompletableFuture.supplyAsync(() -> {
+			try (Bulkhead.Permit permit = bulkhead.acquire()) {
+				return task.get();
+			}
+		}, callers);
+	}
+
+	private double gauge(String name) {
+		return meterRegistry.get(name).tag("name", "test").gauge().value();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
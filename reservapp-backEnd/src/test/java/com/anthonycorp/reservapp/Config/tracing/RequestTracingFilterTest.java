@@ -0,0 +1,111 @@
+package com.anthonycorp.reservapp.Config.tracing;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestTracingFilterTest {
+
+	private final Logger logger = (Logger) LoggerFactory.getLogger(RequestTracingFilterTest.class);
+	private final ListAppender<ILoggingEvent> lines = new ListAppender<>();
+	private final RequestTracingFilter filter = new RequestTracingFilter(new TraceLog(logger, new SimpleMeterRegistry()), true);
+
+	@BeforeEach
+	void attachLines() {
+		lines.start();
+		logger.addAppender(lines);
+	}
+
+	@AfterEach
+	void detachLines() {
+		logger.detachAppender(lines);
+	}
+
+	@Test
+	void writesOneLinePerRequestWithRepeatedPhasesFolded() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/reservations");
+		request.addHeader(RequestTracingFilter.REQUEST_ID_HEADER, "req-42");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, (req, res) -> {
+			RequestTrace.record("jwt.verify", 200_000);
+			RequestTrace.record("repository:ReservationRepository.save", 1_000_000);
+			RequestTrace.record("repository:ReservationRepository.save", 3_000_000);
+			((MockHttpServletResponse) res).setStatus(201);
+		});
+
+		assertEquals("req-42", response.getHeader(RequestTracingFilter.REQUEST_ID_HEADER));
+		JsonNode line = new ObjectMapper().readTree(line());
+		assertEquals("req-42", line.get("request_id").asText());
+		assertEquals("/reservations", line.get("path").asText());
+		assertEquals(201, line.get("status").asInt());
+		assertEquals(2, line.get("phases").size());
+		JsonNode save = line.get("phases").get(1);
+		assertEquals("repository:ReservationRepository.save", save.get("name").asText());
+		assertEquals(2, save.get("count").asInt());
+		assertEquals(4.0, save.get("duration_ms").asDouble());
+	}
+
+	@Test
+	void replacesMalformedRequestIdsAndStopsRecordingAfterTheResponse() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/services");
+		request.addHeader(RequestTracingFilter.REQUEST_ID_HEADER, "bad id\r\ninjected");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, (req, res) -> RequestTrace.fail("authentication: missing token"));
+		// Outside any request, recording is a no-op
+		RequestTrace.record("serialization", 1_000);
+
+		String requestId = response.getHeader(RequestTracingFilter.REQUEST_ID_HEADER);
+		assertNotEquals("bad id\r\ninjected", requestId);
+		assertTrue(requestId.matches("[0-9a-f-]{36}"));
+		JsonNode line = new ObjectMapper().readTree(line());
+		assertEquals(requestId, line.get("request_id").asText());
+		assertEquals("authentication: missing token", line.get("error").asText());
+		assertEquals(0, line.get("phases").size());
+	}
+
+	@Test
+	void writesTheLineOfAnAsyncRequestOnceItsAsyncContextCompletes() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/provider/reservations/export");
+		request.setAsyncSupported(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, (req, res) -> req.startAsync());
+		assertTrue(lines.list.isEmpty());
+
+		Thread.sleep(50);
+		MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onTimeout(new AsyncEvent(asyncContext));
+		}
+		response.setStatus(503);
+		asyncContext.complete();
+
+		JsonNode line = new ObjectMapper().readTree(line());
+		assertEquals(503, line.get("status").asInt());
+		assertEquals("async timeout", line.get("error").asText());
+		assertTrue(line.get("duration_ms").asDouble() >= 50, line::toString);
+	}
+
+	private String line() {
+		assertEquals(1, lines.list.size());
+		return lines.list.get(0).getFormattedMessage();
+	}
+}
\ No newline at end of file
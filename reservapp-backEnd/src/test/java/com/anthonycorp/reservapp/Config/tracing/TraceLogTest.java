@@ -0,0 +1,130 @@
+package com.anthonycorp.reservapp.Config.tracing;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraceLogTest {
+
+	@Test
+	void writesOneJsonLinePerTrace() {
+		Logger logger = (Logger) LoggerFactory.getLogger(TraceLogTest.class);
+		ListAppender<ILoggingEvent> lines = new ListAppender<>();
+		lines.start();
+		logger.addAppender(lines);
+		TraceLog traceLog = new TraceLog(logger, new SimpleMeterRegistry());
+
+		try {
+			traceLog.write(trace("a"));
+			traceLog.write(trace("b"));
+		} finally {
+			logger.detachAppender(lines);
+		}
+
+		assertEquals(2, lines.list.size());
+		assertTrue(lines.list.get(0).getFormattedMessage().startsWith("{\"ts\":\"2030-01-01T00:00:00Z\",\"request_id\":\"a\","
+				+ "\"method\":\"GET\",\"path\":\"/reservations/me\",\"status\":200,"));
+		assertTrue(lines.list.get(1).getFormattedMessage().contains("\"request_id\":\"b\""));
+		assertFalse(lines.list.get(1).getFormattedMessage().contains("\n"));
+	}
+
+	@Test
+	void countsTheLinesDroppedOnceTheQueueIsFullWithoutBlocking() throws Exception {
+		Logger logger = (Logger) LoggerFactory.getLogger(TraceLogTest.class.getName() + ".stalled");
+		logger.setAdditive(false);
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AppenderBase<ILoggingEvent> stalled = new AppenderBase<>() {
+			@Override
+			protected void append(ILoggingEvent event) {
+				writing.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		stalled.setContext(logger.getLoggerContext());
+		stalled.start();
+		CountingAsyncAppender appender = new CountingAsyncAppender();
+		appender.setName(TraceLog.APPENDER);
+		appender.setContext(logger.getLoggerContext());
+		appender.setQueueSize(2);
+		appender.setDiscardingThreshold(0);
+		appender.setNeverBlock(true);
+		appender.addAppender(stalled);
+		appender.start();
+		logger.addAppender(appender);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		TraceLog traceLog = new TraceLog(logger, meterRegistry);
+
+		try {
+			// The worker takes the first line and stalls on it, two more fill the queue, the rest are dropped
+			traceLog.write(trace("held"));
+			assertTrue(writing.await(5, TimeUnit.SECONDS));
+			assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+				for (int i = 0; i < 10; i++) {
+					traceLog.write(trace(Integer.toString(i)));
+				}
+			});
+
+			assertEquals(8, appender.getDropped());
+			assertEquals(8.0, meterRegistry.get("tracing.lines.dropped").functionCounter().count());
+			assertEquals(2.0, meterRegistry.get("tracing.buffer.used").gauge().value());
+		} finally {
+			release.countDown();
+			logger.detachAppender(appender);
+			appender.stop();
+			logger.setAdditive(true);
+		}
+	}
+
+	@Test
+	void traceLoggerOnlyWritesThroughANeverBlockingAsyncAppender() {
+		LoggingSystem loggingSystem = LoggingSystem.get(getClass().getClassLoader());
+		MockEnvironment environment = new MockEnvironment().withProperty("tracing.buffer-size", "16");
+		loggingSystem.cleanUp();
+		loggingSystem.beforeInitialize();
+		try {
+			loggingSystem.initialize(new LoggingInitializationContext(environment), "classpath:logback-spring.xml", null);
+
+			Logger logger = (Logger) LoggerFactory.getLogger(TraceLog.class);
+			assertFalse(logger.isAdditive());
+			Appender<ILoggingEvent> appender = logger.getAppender(TraceLog.APPENDER);
+			CountingAsyncAppender async = assertInstanceOf(CountingAsyncAppender.class, appender);
+			assertTrue(async.isNeverBlock());
+			assertEquals(16, async.getQueueSize());
+			assertEquals(0, async.getDiscardingThreshold());
+		} finally {
+			loggingSystem.cleanUp();
+		}
+	}
+
+	private static RequestTrace trace(String requestId) {
+		RequestTrace trace = new RequestTrace(requestId, "GET", "/reservations/me", Instant.parse("2030-01-01T00:00:00Z"),
+				System.nanoTime());
+		trace.add("jwt.verify", 1_000);
+		trace.end(200);
+		return trace;
+	}
+}
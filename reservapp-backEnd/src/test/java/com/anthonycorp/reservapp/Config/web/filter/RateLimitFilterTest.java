@@ -0,0 +1,73 @@
+package com.anthonycorp.reservapp.Config.web.filter;
+
+import com.anthonycorp.reservapp.Config.ratelimit.RateLimitProperties;
+import com.anthonycorp.reservapp.Config.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitFilterTest {
+
+	private final RateLimitFilter filter = new RateLimitFilter(new RateLimiter(new RateLimitProperties(1000,
+			Duration.ofMinutes(10), List.of(new RateLimitProperties.Route("POST", "/reservations",
+					new RateLimitProperties.Limit(100, Duration.ofMinutes(1)),
+					new RateLimitProperties.Limit(2, Duration.ofMinutes(1))))), new SimpleMeterRegistry()),
+			new ObjectMapper().registerModule(new JavaTimeModule()));
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void throttlesThePrincipalWith429AndRetryAfter() throws Exception {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("ana@test.com", null, List.of()));
+
+		MockHttpServletResponse first = post("/reservations");
+		assertEquals(200, first.getStatus());
+		assertEquals("2", first.getHeader("RateLimit-Limit"));
+		assertEquals("1", first.getHeader("RateLimit-Remaining"));
+		assertEquals(200, post("/reservations").getStatus());
+
+		MockHttpServletResponse throttled = post("/reservations");
+		assertEquals(429, throttled.getStatus());
+		assertEquals("30", throttled.getHeader("Retry-After"));
+		assertEquals("0", throttled.getHeader("RateLimit-Remaining"));
+		assertTrue(throttled.getContentAsString().contains("TOO_MANY_REQUESTS"));
+	}
+
+	@Test
+	void leavesUnlimitedRoutesAlone() throws Exception {
+		MockHttpServletResponse response = post("/services");
+
+		assertEquals(200, response.getStatus());
+		assertNull(response.getHeader("RateLimit-Limit"));
+	}
+
+	private MockHttpServletResponse post(String path) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request, response, chain);
+		if (response.getStatus() == 200) {
+			assertNotNull(chain.getRequest());
+		}
+		return response;
+	}
+}
@@ -0,0 +1,412 @@
+package com.anthonycorp.reservapp;
+
+import com.anthonycorp.reservapp.Config.database.QueryBudget;
+import com.anthonycorp.reservapp.Config.database.SqlStatistics;
+import com.anthonycorp.reservapp.Config.database.SqlStatisticsFilter;
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.User.domain.Role.RoleEnum;
+import com.anthonycorp.reservapp.User.infrastructure.model.RoleEntity;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.User.infrastructure.repository.RoleRepository;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Utils.web.JwtUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for every controller endpoint, through the whole filter chain on an in-memory H2. A budget is the
+ * most statements one call may issue; list endpoints are checked at two row counts against the same budget, so an
+ * N+1 shows up as a failure listing the offending SQL. Raising a budget should come with a reason in the review.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:querybudget;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.datasource.driver-class-name=",
+		"spring.jpa.show-sql=false",
+		"logging.level.org.hibernate.sql=info",
+		"mail.host=127.0.0.1",
+		"mail.port=3025",
+		"mail.username=budget",
+		"mail.password=budget",
+		// Nothing listens on the SMTP port, the queued mails are only counted as outbox inserts
+		"notification.outbox.poll-interval-ms=3600000",
+		"security.jwt.key.private=query-budget-secret",
+		"security.jwt.user.generator=reservapp-query-budget",
+		"rate-limit.routes=",
+		"sql.statistics.response-header=true"})
+@AutoConfigureMockMvc
+class ControllerQueryBudgetTest {
+
+	// A pooled sequence hands out 50 ids per round trip, so any insert may also fetch the next block
+	private static final int ID_BLOCK = 1;
+	private static final String PASSWORD = "budget-password";
+	private static final AtomicInteger FIXTURES = new AtomicInteger();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ServiceRepository serviceRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private JwtUtils jwtUtils;
+
+	private Map<RoleEnum, RoleEntity> roles;
+	private UserEntity customer;
+	private UserEntity provider;
+	private UserEntity admin;
+	private ServiceEntity service;
+	private String customerToken;
+	private String providerToken;
+	private String adminToken;
+	private LocalDate day;
+	private int seeded;
+
+	// Every test seeds its own users, so caches warmed by earlier tests never answer for this one
+	@BeforeEach
+	void setUp() {
+		if (roleRepository.count() == 0) {
+			for (RoleEnum role : RoleEnum.values()) {
+				roleRepository.save(RoleEntity.builder().role(role).build());
+			}
+		}
+		roles = roleRepository.findAll().stream().collect(Collectors.toMap(RoleEntity::getRole, Function.identity()));
+		int fixture = FIXTURES.incrementAndGet();
+		customer = user("customer" + fixture + "@budget.test", RoleEnum.CUSTOMER);
+		provider = user("provider" + fixture + "@budget.test", RoleEnum.PROVIDER);
+		admin = user("admin" + fixture + "@budget.test", RoleEnum.ADMIN);
+		service = service("Corte " + fixture);
+		customerToken = token(customer);
+		providerToken = token(provider);
+		adminToken = token(admin);
+		day = LocalDate.now().plusDays(30);
+	}
+
+	@Test
+	void login() throws Exception {
+		within(1, post("/auth/login").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"email\": \"" + customer.getEmail() + "\", \"password\": \"" + PASSWORD + "\"}"),
+				status().isOk());
+	}
+
+	@Test
+	void createService() throws Exception {
+		within(2 + ID_BLOCK, post("/services").header(HttpHeaders.AUTHORIZATION, bearer(providerToken))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\": \"Tinte\", \"description\": \"d\", \"price\": 20.0, \"slot_duration_minutes\": 30}"),
+				status().isCreated());
+	}
+
+	@Test
+	void importServices() throws Exception {
+		within(2 + ID_BLOCK, post("/services/import").header(HttpHeaders.AUTHORIZATION, bearer(providerToken))
+						.contentType("text/csv")
+						.content("title,description,price,slot_duration_minutes\nTinte,d,20.0,30\nPeinado,d,15.0,45\nBarba,d,8.0,15\n"),
+				status().isOk());
+	}
+
+	@Test
+	void updateService() throws Exception {
+		within(3, patch("/services/" + service.getId()).header(HttpHeaders.AUTHORIZATION, bearer(providerToken))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"price\": 12.5}"),
+				status().isOk());
+	}
+
+	@Test
+	void deleteService() throws Exception {
+		within(3, delete("/services/" + service.getId()).header(HttpHeaders.AUTHORIZATION, bearer(providerToken)),
+				status().is2xxSuccessful());
+	}
+
+	@Test
+	void getServicesByProvider() throws Exception {
+		MockHttpServletRequestBuilder request = get("/services/me").header(HttpHeaders.AUTHORIZATION, bearer(providerToken));
+		for (int i = 0; i < 2; i++) {
+			service("Small " + i);
+		}
+		within(3, request, status().isOk());
+		for (int i = 0; i < 30; i++) {
+			service("Large " + i);
+		}
+		within(3, request, status().isOk());
+	}
+
+	@Test
+	void getAllServices() throws Exception {
+		within(1, get("/services").header(HttpHeaders.AUTHORIZATION, bearer(customerToken)), status().isOk());
+	}
+
+	@Test
+	void searchServices() throws Exception {
+		within(0, get("/services/search").param("q", "Corte").header(HttpHeaders.AUTHORIZATION, bearer(customerToken)),
+				status().isOk());
+	}
+
+	@Test
+	void getAvailability() throws Exception {
+		reservations(3);
+		within(2, get("/services/" + service.getId() + "/availability")
+						.param("from", day.toString())
+						.param("to", day.plusDays(6).toString())
+						.header(HttpHeaders.AUTHORIZATION, bearer(customerToken)),
+				status().isOk());
+	}
+
+	@Test
+	void getProviderReservations() throws Exception {
+		MockHttpServletRequestBuilder request = get("/provider/reservations").param("size", "100")
+				.header(HttpHeaders.AUTHORIZATION, bearer(providerToken));
+		reservations(3);
+		within(1, request, status().isOk());
+		reservations(30);
+		within(1, request, status().isOk());
+	}
+
+	// The rows are written from an async executor thread, which carries the test's statement scope along
+	@Test
+	void exportProviderReservations() throws Exception {
+		reservations(30);
+		QueryBudget.assertAtMost(1, "GET /provider/reservations/export", () -> {
+			MvcResult started = mockMvc.perform(get("/provider/reservations/export")
+							.header(HttpHeaders.AUTHORIZATION, bearer(providerToken)))
+					.andExpect(request().asyncStarted())
+					.andReturn();
+			mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+		});
+	}
+
+	@Test
+	void updateReservationStatus() throws Exception {
+		Long id = reservations(1).get(0).getId();
+		within(3 + ID_BLOCK, put("/provider/reservations/" + id + "/status").param("status", "ACCEPTED")
+						.header(HttpHeaders.AUTHORIZATION, bearer(providerToken)),
+				status().is2xxSuccessful());
+	}
+
+	@Test
+	void updateReservationStatuses() throws Exception {
+		List<ReservationEntity> reservations = reservations(20);
+		String updates = reservations.stream()
+				.map(reservation -> "{\"reservation_id\": " + reservation.getId() + ", \"status\": \"ACCEPTED\"}")
+				.collect(Collectors.joining(", ", "{\"updates\": [", "]}"));
+		within(3 + ID_BLOCK, put("/provider/reservations/status").header(HttpHeaders.AUTHORIZATION, bearer(providerToken))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(updates),
+				status().is2xxSuccessful());
+	}
+
+	// The status change is checked against the caller's own services, so the admin changes one of theirs
+	@Test
+	void updateServiceStatus() throws Exception {
+		ServiceEntity owned = service("Propio", admin);
+		within(3, put("/provider/services/" + owned.getId() + "/status").param("status", "INACTIVE")
+						.header(HttpHeaders.AUTHORIZATION, bearer(adminToken)),
+				status().is2xxSuccessful());
+	}
+
+	@Test
+	void getWorkingHours() throws Exception {
+		within(2, get("/provider/working-hours").header(HttpHeaders.AUTHORIZATION, bearer(providerToken)), status().isOk());
+	}
+
+	@Test
+	void updateWorkingHours() throws Exception {
+		within(3 + ID_BLOCK, put("/provider/working-hours").header(HttpHeaders.AUTHORIZATION, bearer(providerToken))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"days\": [{\"day_of_week\": \"MONDAY\", \"opens_at\": \"08:00\", \"closes_at\": \"14:00\"},"
+								+ " {\"day_of_week\": \"SATURDAY\", \"opens_at\": \"10:00\", \"closes_at\": \"13:00\"}]}"),
+				status().isOk());
+	}
+
+	@Test
+	void createUser() throws Exception {
+		within(3 + ID_BLOCK, post("/users").header(HttpHeaders.AUTHORIZATION, bearer(adminToken))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"email\": \"new" + customer.getEmail() + "\", \"name\": \"new user\", \"password\": \"secret1\","
+								+ " \"rol_id\": " + roles.get(RoleEnum.CUSTOMER).getId() + "}"),
+				status().is2xxSuccessful());
+	}
+
+	// Answers 500 for now, the response serializes the user's lazily loaded role; the budget covers the statements
+	@Test
+	void updateUser() throws Exception {
+		within(3, patch("/users/" + customer.getId()).header(HttpHeaders.AUTHORIZATION, bearer(adminToken))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\": \"renamed\"}"),
+				ResultMatcher.matchAll(status().isOk(), jsonPath("$.role_entity.role").value("CUSTOMER")));
+	}
+
+	// Roles are loaded one by one, but there are only as many as RoleEnum has, whatever the number of users
+	@Test
+	void getAllUsers() throws Exception {
+		within(1 + RoleEnum.values().length, get("/users").header(HttpHeaders.AUTHORIZATION, bearer(adminToken)), status().isOk());
+	}
+
+	@Test
+	void deleteUser() throws Exception {
+		UserEntity leaving = user("leaving" + FIXTURES.get() + "@budget.test", RoleEnum.CUSTOMER);
+		within(2, delete("/users/" + leaving.getId()).header(HttpHeaders.AUTHORIZATION, bearer(adminToken)),
+				status().is2xxSuccessful());
+	}
+
+	@Test
+	void createReservation() throws Exception {
+		within(5 + 2 * ID_BLOCK, post("/reservations").header(HttpHeaders.AUTHORIZATION, bearer(customerToken))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"service_id\": " + service.getId() + ", \"date\": \"" + day + "\", \"time\": \"10:00:00\"}"),
+				status().isCreated());
+	}
+
+	@Test
+	void importReservations() throws Exception {
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 0; i < 3; i++) {
+			ndjson.append("{\"customer_email\": \"").append(customer.getEmail()).append("\", \"service_id\": ").append(service.getId())
+					.append(", \"date\": \"").append(day).append("\", \"time\": \"").append(LocalTime.of(9 + i, 0))
+					.append("\", \"status\": \"PENDING\"}\n");
+		}
+		within(3 + ID_BLOCK, post("/reservations/import").header(HttpHeaders.AUTHORIZATION, bearer(adminToken))
+						.contentType("application/x-ndjson")
+						.content(ndjson.toString()),
+				status().isOk());
+	}
+
+	@Test
+	void getMyReservations() throws Exception {
+		MockHttpServletRequestBuilder request = get("/reservations/me").param("size", "100")
+				.header(HttpHeaders.AUTHORIZATION, bearer(customerToken));
+		reservations(3);
+		within(2, request, status().isOk());
+		reservations(30);
+		within(2, request, status().isOk());
+	}
+
+	@Test
+	void updateReservationDateTime() throws Exception {
+		Long id = reservations(1).get(0).getId();
+		within(5, patch("/reservations/" + id).header(HttpHeaders.AUTHORIZATION, bearer(customerToken))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"date\": \"" + day.plusDays(1) + "\", \"time\": \"11:00:00\"}"),
+				status().isOk());
+	}
+
+	// No security rule lets a DELETE through to /reservations, it is refused before the controller
+	@Test
+	void deleteReservation() throws Exception {
+		Long id = reservations(1).get(0).getId();
+		within(0, delete("/reservations/" + id).header(HttpHeaders.AUTHORIZATION, bearer(customerToken)),
+				status().isForbidden());
+	}
+
+	@Test
+	void devHeaderReportsTheStatementsIssuedBeforeTheBody() throws Exception {
+		reservations(3);
+		MvcResult[] result = new MvcResult[1];
+		SqlStatistics statistics = QueryBudget.measure(() -> result[0] = mockMvc.perform(get("/reservations/me")
+						.header(HttpHeaders.AUTHORIZATION, bearer(customerToken)))
+				.andExpect(status().isOk())
+				.andReturn());
+
+		assertEquals(String.valueOf(statistics.getStatements()),
+				result[0].getResponse().getHeader(SqlStatisticsFilter.STATEMENTS_HEADER));
+		assertEquals(1, result[0].getResponse().getHeaders(SqlStatisticsFilter.TIME_HEADER).size());
+	}
+
+	private void within(int maxStatements, MockHttpServletRequestBuilder request, ResultMatcher expected) throws Exception {
+		MockHttpServletRequest built = request.buildRequest(new MockServletContext());
+		String description = built.getMethod() + " " + built.getRequestURI();
+		QueryBudget.assertAtMost(maxStatements, description, () -> mockMvc.perform(request).andExpect(expected));
+	}
+
+	private List<ReservationEntity> reservations(int count) {
+		List<ReservationEntity> reservations = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			reservations.add(ReservationEntity.builder()
+					.customer(customer)
+					.provider(provider)
+					.service(service)
+					.date(day.plusDays(7 + seeded / 10))
+					.time(LocalTime.of(8 + seeded++ % 10, 0))
+					.durationMinutes(60)
+					.status(ReservationStatus.PENDING)
+					.build());
+		}
+		return reservationRepository.saveAll(reservations);
+	}
+
+	private UserEntity user(String email, RoleEnum role) {
+		return userRepository.save(UserEntity.builder().name(email.substring(0, email.indexOf('@'))).email(email)
+				.password(passwordEncoder.encode(PASSWORD)).roleEntity(roles.get(role)).build());
+	}
+
+	private ServiceEntity service(String title) {
+		return service(title, provider);
+	}
+
+	private ServiceEntity service(String title, UserEntity owner) {
+		return serviceRepository.save(ServiceEntity.builder().title(title).description("d").price(10.0)
+				.slotDurationMinutes(60).provider(owner).status(ServiceStatus.ACTIVE).build());
+	}
+
+	private String token(UserEntity user) {
+		return jwtUtils.createToken(new UsernamePasswordAuthenticationToken(user.getEmail(), null,
+				AuthorityUtils.createAuthorityList("ROLE_" + user.getRoleEntity().getRole().name())));
+	}
+
+	private static String bearer(String token) {
+		return "Bearer " + token;
+	}
+}
@@ -0,0 +1,329 @@
+package com.anthonycorp.reservapp.LoadTest;
+
+import com.anthonycorp.reservapp.Config.diagnostics.PinningReport;
+import com.anthonycorp.reservapp.Config.diagnostics.VirtualThreadPinningMonitor;
+import com.anthonycorp.reservapp.LoadTest.LatencyRecorder.EndpointStats;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.User.domain.Role.RoleEnum;
+import com.anthonycorp.reservapp.User.infrastructure.model.RoleEntity;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.User.infrastructure.repository.RoleRepository;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the booking flow over HTTP with concurrent virtual users and reports p50/p99/p999 latency and errors per
+ * endpoint. Each flow logs a customer in, books a free slot, lists the customer's reservations and has the provider
+ * accept the booking. Runs against an in-memory H2 by default, or a PostgreSQL given with {@code -Dloadtest.db.url},
+ * with GreenMail standing in for the SMTP server. Excluded from the default build, run it with
+ * {@code mvn test -Pload-test -Dloadtest.users=100 -Dloadtest.fail-on-thresholds=true}; see
+ * {@link LoadTestSettings} for every knob.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.jpa.show-sql=false",
+		"logging.level.org.hibernate.sql=info",
+		"mail.host=" + BookingFlowLoadTest.SMTP_HOST,
+		"mail.port=" + BookingFlowLoadTest.SMTP_PORT,
+		"mail.username=loadtest",
+		"mail.password=loadtest",
+		"security.jwt.key.private=load-test-secret",
+		"security.jwt.user.generator=reservapp-load-test"})
+class BookingFlowLoadTest {
+
+	static final String SMTP_HOST = "127.0.0.1";
+	static final int SMTP_PORT = 3025;
+	private static final String PASSWORD = "load-test";
+	private static final String LOGIN = "POST /auth/login";
+	private static final String CREATE = "POST /reservations";
+	private static final String LIST = "GET /reservations/me";
+	private static final String UPDATE_STATUS = "PUT /provider/reservations/{id}/status";
+	// Hours a provider takes bookings at, so every flow can book a slot nobody else holds
+	private static final int SLOTS_PER_DAY = 10;
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+			.withConfiguration(GreenMailConfiguration.aConfig().withUser("loadtest", "loadtest"));
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> System.getProperty("loadtest.db.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1"));
+		registry.add("spring.datasource.username", () -> System.getProperty("loadtest.db.user", "sa"));
+		registry.add("spring.datasource.password", () -> System.getProperty("loadtest.db.password", ""));
+		// Inferred from the URL
+		registry.add("spring.datasource.driver-class-name", () -> "");
+		if (!Boolean.getBoolean("loadtest.rate-limits")) {
+			// Every virtual user comes from the same address, the login limit alone would throttle the run
+			registry.add("rate-limit.routes", () -> "");
+		}
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ServiceRepository serviceRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private VirtualThreadPinningMonitor pinningMonitor;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+			.enable(SerializationFeature.INDENT_OUTPUT)
+			.disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+	private final LatencyRecorder recorder = new LatencyRecorder();
+	private final AtomicLong bookings = new AtomicLong();
+	private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+	private HttpClient client;
+	private List<Long> serviceIds;
+	private List<String> providerEmails;
+	private List<String> providerTokens;
+	private LocalDate firstDay;
+
+	@Test
+	void bookingFlowUnderLoad() throws Exception {
+		List<String> customerEmails = seed();
+		firstDay = LocalDate.now().plusDays(7);
+		client = HttpClient.newBuilder().connectTimeout(settings.requestTimeout()).build();
+		// Providers log in once, outside the measured flow
+		providerTokens = providerEmails.stream()
+				.map(email -> send(LOGIN, post("/auth/login", null, Map.of("email", email, "password", PASSWORD))).get("token").asText())
+				.toList();
+		long[] measuredFrom = new long[1];
+		// Everyone finishes warming up before the clock starts, so the measured window only holds measured requests
+		CyclicBarrier warmedUp = new CyclicBarrier(settings.users(), () -> {
+			pinningMonitor.reset();
+			recorder.start();
+			measuredFrom[0] = System.nanoTime();
+		});
+
+		Duration elapsed;
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			client = HttpClient.newBuilder().executor(executor).connectTimeout(settings.requestTimeout()).build();
+			List<Future<?>> users = new ArrayList<>(settings.users());
+			for (String email : customerEmails) {
+				users.add(executor.submit(() -> {
+					runUser(email, warmedUp);
+					return null;
+				}));
+			}
+			for (Future<?> user : users) {
+				user.get();
+			}
+			elapsed = Duration.ofNanos(System.nanoTime() - measuredFrom[0]);
+		}
+		assertTrue(pinningMonitor.awaitFlush(Duration.ofSeconds(10)));
+
+		List<EndpointStats> stats = recorder.stats(elapsed);
+		PinningReport pinning = pinningMonitor.report(5);
+		print(stats, elapsed, pinning);
+		writeReport(stats, elapsed, pinning);
+
+		for (String endpoint : List.of(LOGIN, CREATE, LIST, UPDATE_STATUS)) {
+			assertTrue(stats.stream().anyMatch(s -> s.endpoint().equals(endpoint) && s.requests() > s.errors()),
+					() -> "No successful " + endpoint + " request, the harness is not exercising the flow");
+		}
+		if (settings.failOnThresholds()) {
+			List<String> violations = violations(stats, pinning);
+			assertTrue(violations.isEmpty(), () -> "Load test thresholds exceeded:\n" + String.join("\n", violations));
+		}
+	}
+
+	private void runUser(String email, CyclicBarrier warmedUp) throws Exception {
+		for (int i = 0; i < settings.warmupIterations(); i++) {
+			runFlow(email);
+		}
+		warmedUp.await();
+		for (int i = 0; i < settings.iterations(); i++) {
+			runFlow(email);
+		}
+	}
+
+	private void runFlow(String email) {
+		JsonNode login = send(LOGIN, post("/auth/login", null, Map.of("email", email, "password", PASSWORD)));
+		if (login == null) {
+			return;
+		}
+		String token = login.get("token").asText();
+
+		long booking = bookings.getAndIncrement();
+		int provider = (int) (booking % settings.providers());
+		long slot = booking / settings.providers();
+		Map<String, Object> reservation = Map.of(
+				"service_id", serviceIds.get(provider),
+				"date", firstDay.plusDays(slot / SLOTS_PER_DAY).toString(),
+				"time", LocalTime.of(8 + (int) (slot % SLOTS_PER_DAY), 0).toString() + ":00");
+		JsonNode created = send(CREATE, post("/reservations", token, reservation));
+
+		send(LIST, request("/reservations/me?size=20", token).GET().build());
+
+		if (created != null) {
+			String providerToken = providerTokens.get(provider);
+			send(UPDATE_STATUS, request("/provider/reservations/" + created.get("id").asLong() + "/status?status=ACCEPTED",
+					providerToken).PUT(HttpRequest.BodyPublishers.noBody()).build());
+		}
+	}
+
+	// Returns the parsed body of a 2xx response, or null after recording the failure
+	private JsonNode send(String endpoint, HttpRequest request) {
+		long start = System.nanoTime();
+		int status = LatencyRecorder.NO_RESPONSE;
+		try {
+			HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+			status = response.statusCode();
+			if (status < 200 || status >= 300) {
+				return null;
+			}
+			return response.body().length == 0 ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+		} catch (IOException e) {
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} finally {
+			recorder.record(endpoint, System.nanoTime() - start, status);
+		}
+	}
+
+	private HttpRequest post(String path, String token, Map<String, Object> body) {
+		try {
+			return request(path, token)
+					.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+					.POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+					.build();
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private HttpRequest.Builder request(String path, String token) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.timeout(settings.requestTimeout());
+		return token == null ? builder : builder.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+	}
+
+	// Users are named after the run, so repeated runs against the same PostgreSQL never collide
+	private List<String> seed() {
+		String run = Long.toString(System.currentTimeMillis(), 36);
+		String hash = passwordEncoder.encode(PASSWORD);
+		RoleEntity customerRole = role(RoleEnum.CUSTOMER);
+		RoleEntity providerRole = role(RoleEnum.PROVIDER);
+
+		serviceIds = new ArrayList<>(settings.providers());
+		providerEmails = new ArrayList<>(settings.providers());
+		for (int i = 0; i < settings.providers(); i++) {
+			UserEntity provider = userRepository.save(UserEntity.builder().name("Provider " + i)
+					.email("provider-" + i + "-" + run + "@loadtest.local").password(hash).roleEntity(providerRole).build());
+			ServiceEntity service = serviceRepository.save(ServiceEntity.builder().title("Servicio " + i)
+					.description("Load test").price(25.0).slotDurationMinutes(60).provider(provider)
+					.status(ServiceStatus.ACTIVE).build());
+			providerEmails.add(provider.getEmail());
+			serviceIds.add(service.getId());
+		}
+		List<String> customerEmails = new ArrayList<>(settings.users());
+		for (int i = 0; i < settings.users(); i++) {
+			customerEmails.add(userRepository.save(UserEntity.builder().name("Customer " + i)
+					.email("customer-" + i + "-" + run + "@loadtest.local").password(hash).roleEntity(customerRole)
+					.build()).getEmail());
+		}
+		return customerEmails;
+	}
+
+	private RoleEntity role(RoleEnum role) {
+		return roleRepository.findAll().stream()
+				.filter(existing -> existing.getRole() == role)
+				.findFirst()
+				.orElseGet(() -> roleRepository.save(RoleEntity.builder().role(role).build()));
+	}
+
+	private List<String> violations(List<EndpointStats> stats, PinningReport pinning) {
+		List<String> violations = new ArrayList<>();
+		for (EndpointStats endpoint : stats) {
+			if (endpoint.errorRate() > settings.maxErrorRate()) {
+				violations.add("%s error rate %.4f > %.4f".formatted(endpoint.endpoint(), endpoint.errorRate(), settings.maxErrorRate()));
+			}
+			if (endpoint.p99Millis() > settings.maxP99().toMillis()) {
+				violations.add("%s p99 %.1f ms > %d ms".formatted(endpoint.endpoint(), endpoint.p99Millis(), settings.maxP99().toMillis()));
+			}
+			if (endpoint.p999Millis() > settings.maxP999().toMillis()) {
+				violations.add("%s p999 %.1f ms > %d ms".formatted(endpoint.endpoint(), endpoint.p999Millis(), settings.maxP999().toMillis()));
+			}
+		}
+		if (settings.maxPinnedEvents() >= 0 && pinning.totalEvents() > settings.maxPinnedEvents()) {
+			violations.add("%d virtual thread pinning events > %d: %s".formatted(pinning.totalEvents(), settings.maxPinnedEvents(), pinning));
+		}
+		return violations;
+	}
+
+	private void print(List<EndpointStats> stats, Duration elapsed, PinningReport pinning) {
+		StringBuilder table = new StringBuilder()
+				.append("%nBooking flow, %d users x %d flows in %.1f s%n".formatted(settings.users(), settings.iterations(), elapsed.toNanos() / 1e9))
+				.append("%-42s %9s %7s %9s %9s %9s %9s %9s%n".formatted("endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+		for (EndpointStats endpoint : stats) {
+			table.append("%-42s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n".formatted(endpoint.endpoint(), endpoint.requests(),
+					endpoint.errors(), endpoint.throughputPerSecond(), endpoint.p50Millis(), endpoint.p99Millis(),
+					endpoint.p999Millis(), endpoint.maxMillis()));
+		}
+		table.append("virtual thread pinning events: %d%n".formatted(pinning.totalEvents()));
+		System.out.print(table);
+	}
+
+	private void writeReport(List<EndpointStats> stats, Duration elapsed, PinningReport pinning) throws IOException {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("settings", settings);
+		report.put("elapsedSeconds", elapsed.toNanos() / 1e9);
+		report.put("endpoints", stats);
+		report.put("pinning", pinning);
+		if (settings.report().getParent() != null) {
+			Files.createDirectories(settings.report().getParent());
+		}
+		objectMapper.writeValue(settings.report().toFile(), report);
+	}
+}
@@ -0,0 +1,93 @@
+package com.anthonycorp.reservapp.LoadTest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps every latency sample per endpoint, so percentiles are exact rather than bucketed. A run holds a few hundred
+ * thousand samples at most, a few megabytes of longs.
+ */
+class LatencyRecorder {
+
+	// Status recorded for requests that never got a response: timeouts, refused or reset connections
+	static final int NO_RESPONSE = -1;
+
+	private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+	private volatile boolean recording;
+
+	void start() {
+		recording = true;
+	}
+
+	void record(String endpoint, long nanos, int status) {
+		if (recording) {
+			endpoints.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, status);
+		}
+	}
+
+	List<EndpointStats> stats(Duration elapsed) {
+		return endpoints.entrySet().stream()
+				.sorted(Map.Entry.comparingByKey())
+				.map(entry -> entry.getValue().stats(entry.getKey(), elapsed))
+				.toList();
+	}
+
+	/**
+	 * @param statuses responses per HTTP status, {@value #NO_RESPONSE} for requests that got none
+	 */
+	record EndpointStats(String endpoint,
+						 long requests,
+						 long errors,
+						 double throughputPerSecond,
+						 double p50Millis,
+						 double p99Millis,
+						 double p999Millis,
+						 double maxMillis,
+						 Map<Integer, Long> statuses) {
+
+		double errorRate() {
+			return requests == 0 ? 0 : (double) errors / requests;
+		}
+	}
+
+	private static final class Samples {
+		private long[] nanos = new long[1024];
+		private int size;
+		private long errors;
+		private final Map<Integer, Long> statuses = new TreeMap<>();
+
+		synchronized void add(long latency, int status) {
+			if (size == nanos.length) {
+				nanos = Arrays.copyOf(nanos, size * 2);
+			}
+			nanos[size++] = latency;
+			statuses.merge(status, 1L, Long::sum);
+			if (status < 200 || status >= 300) {
+				errors++;
+			}
+		}
+
+		synchronized EndpointStats stats(String endpoint, Duration elapsed) {
+			long[] sorted = Arrays.copyOf(nanos, size);
+			Arrays.sort(sorted);
+			double seconds = elapsed.toNanos() / 1e9;
+			return new EndpointStats(endpoint, size, errors, seconds == 0 ? 0 : size / seconds,
+					percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+					size == 0 ? 0 : sorted[size - 1] / 1e6, new LinkedHashMap<>(statuses));
+		}
+
+		// Nearest-rank percentile
+		private static double percentile(long[] sorted, double quantile) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int rank = (int) Math.ceil(quantile * sorted.length);
+			return sorted[Math.max(rank, 1) - 1] / 1e6;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.anthonycorp.reservapp.LoadTest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Scenario and thresholds of {@link BookingFlowLoadTest}, read from {@code -Dloadtest.*} system properties.
+ *
+ * @param users            concurrent virtual users, each a customer running the booking flow in a loop
+ * @param iterations       measured flows per virtual user
+ * @param warmupIterations flows per virtual user run before measuring, to warm up the JIT, pools and caches
+ * @param providers        providers the reservations are spread over, each with one service
+ * @param requestTimeout   requests slower than this count as errors
+ * @param failOnThresholds fail the run when an endpoint breaks a threshold, otherwise only report
+ * @param maxErrorRate     share of failed requests tolerated per endpoint
+ * @param maxP99           99th percentile latency tolerated per endpoint
+ * @param maxP999          99.9th percentile latency tolerated per endpoint
+ * @param maxPinnedEvents  virtual thread pinning events tolerated while measuring, unchecked when negative
+ * @param report           where the JSON report is written
+ */
+record LoadTestSettings(int users,
+						int iterations,
+						int warmupIterations,
+						int providers,
+						Duration requestTimeout,
+						boolean failOnThresholds,
+						double maxErrorRate,
+						Duration maxP99,
+						Duration maxP999,
+						long maxPinnedEvents,
+						Path report) {
+
+	static LoadTestSettings fromSystemProperties() {
+		return new LoadTestSettings(
+				Integer.getInteger("loadtest.users", 50),
+				Integer.getInteger("loadtest.iterations", 10),
+				Integer.getInteger("loadtest.warmup-iterations", 2),
+				Integer.getInteger("loadtest.providers", 10),
+				Duration.ofMillis(Long.getLong("loadtest.request-timeout-ms", 10_000)),
+				Boolean.getBoolean("loadtest.fail-on-thresholds"),
+				Double.parseDouble(System.getProperty("loadtest.threshold.error-rate", "0.01")),
+				Duration.ofMillis(Long.getLong("loadtest.threshold.p99-ms", 500)),
+				Duration.ofMillis(Long.getLong("loadtest.threshold.p999-ms", 2_000)),
+				Long.getLong("loadtest.threshold.pinned-events", -1),
+				Path.of(System.getProperty("loadtest.report", "target/load-test-report.json")));
+	}
+}
@@ -0,0 +1,183 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.outbox;
+
+import com.anthonycorp.reservapp.Mail.domain.status.OutboxStatus;
+import com.anthonycorp.reservapp.Mail.infrastructure.model.NotificationOutboxEntity;
+import com.anthonycorp.reservapp.Mail.infrastructure.repository.NotificationOutboxRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "notification.outbox.batch-size=50")
+@Import({NotificationOutbox.class, NotificationOutboxDispatcher.class, NotificationOutboxDispatcherTest.SmtpConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationOutboxDispatcherTest {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	@TestConfiguration
+	static class SmtpConfig {
+		@Bean
+		JavaMailSender mailSender() {
+			JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+			mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+			mailSender.setPort(ServerSetupTest.SMTP.getPort());
+			return mailSender;
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	private NotificationOutbox notificationOutbox;
+
+	@Autowired
+	private NotificationOutboxDispatcher dispatcher;
+
+	@Autowired
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		notificationOutboxRepository.deleteAll();
+	}
+
+	@Test
+	void drainsOutboxIntoSmtpServerInEnqueueOrder() throws Exception {
+		// Two full batches and a partial one
+		int total = 120;
+		enqueue(total);
+
+		dispatcher.drain();
+
+		MimeMessage[] received = greenMail.getReceivedMessages();
+		assertEquals(total, received.length);
+		for (int i = 0; i < total; i++) {
+			assertEquals("Reservation " + i, received[i].getSubject());
+			assertEquals("customer" + i + "@test.com", received[i].getAllRecipients()[0].toString());
+		}
+		assertEquals(total, notificationOutboxRepository.countByStatus(OutboxStatus.SENT));
+		assertEquals(0, notificationOutboxRepository.countByStatus(OutboxStatus.PENDING));
+		assertEquals(0, meterRegistry.get("notification.outbox.pending").gauge().value());
+		assertEquals(total, meterRegistry.get("notification.outbox.messages").tag("result", "sent").counter().count());
+	}
+
+	@Test
+	void enqueueOutsideTransactionIsRejected() {
+		assertThrows(IllegalTransactionStateException.class, () -> notificationOutbox.enqueue(message(0)));
+	}
+
+	@Test
+	void failedSendsAreRetriedWithBackoffUntilAttemptsRunOut() {
+		JavaMailSenderImpl unreachable = new JavaMailSenderImpl();
+		unreachable.setHost("localhost");
+		unreachable.setPort(1);
+		NotificationOutboxDispatcher failing = new NotificationOutboxDispatcher(notificationOutboxRepository,
+				unreachable, transactionManager, meterRegistry, 10, 2, 60_000, 5_000, 60_000, 0);
+		enqueue(3);
+
+		assertEquals(3, failing.dispatchBatch());
+		List<NotificationOutboxEntity> retried = notificationOutboxRepository.findAll();
+		for (NotificationOutboxEntity entry : retried) {
+			assertEquals(OutboxStatus.PENDING, entry.getStatus());
+			assertEquals(1, entry.getAttempts());
+			assertNotNull(entry.getLastError());
+			assertTrue(entry.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(3)));
+		}
+		assertEquals(0, failing.dispatchBatch(), "rows in backoff must not be claimed again");
+
+		retried.forEach(entry -> entry.setNextAttemptAt(LocalDateTime.now()));
+		notificationOutboxRepository.saveAll(retried);
+		assertEquals(3, failing.dispatchBatch());
+		assertEquals(3, notificationOutboxRepository.countByStatus(OutboxStatus.FAILED));
+		assertEquals(0, failing.dispatchBatch());
+		assertEquals(3, meterRegistry.get("notification.outbox.messages").tag("result", "retry").counter().count());
+		assertEquals(3, meterRegistry.get("notification.outbox.messages").tag("result", "failed").counter().count());
+		assertEquals(2, meterRegistry.get("notification.outbox.send").tag("outcome", "error").timer().count());
+	}
+
+	@Test
+	void pendingGaugeIsCountedByTheDrainNotByTheScrape() {
+		JavaMailSenderImpl unreachable = new JavaMailSenderImpl();
+		unreachable.setHost("localhost");
+		unreachable.setPort(1);
+		MeterRegistry registry = new SimpleMeterRegistry();
+		NotificationOutboxDispatcher failing = new NotificationOutboxDispatcher(notificationOutboxRepository,
+				unreachable, transactionManager, registry, 10, 8, 60_000, 5_000, 60_000, 60_000);
+		Gauge pending = registry.get("notification.outbox.pending").gauge();
+
+		enqueue(3);
+		assertEquals(0, pending.value());
+
+		failing.drain();
+		assertEquals(3, pending.value());
+
+		enqueue(2);
+		failing.drain();
+		assertEquals(3, pending.value(), "recounted before the refresh interval passed");
+	}
+
+	@Test
+	void backoffDoublesUpToTheCap() {
+		assertEquals(5_000, dispatcher.backoff(1).toMillis());
+		assertEquals(10_000, dispatcher.backoff(2).toMillis());
+		assertEquals(40_000, dispatcher.backoff(4).toMillis());
+		assertEquals(1_800_000, dispatcher.backoff(20).toMillis());
+	}
+
+	private void enqueue(int count) {
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int i = 0; i < count; i++) {
+				notificationOutbox.enqueue(message(i));
+			}
+		});
+	}
+
+	private static SimpleMailMessage message(int i) {
+		SimpleMailMessage message = new SimpleMailMessage();
+		message.setFrom("noreply@reservapp.test");
+		message.setTo("customer" + i + "@test.com");
+		message.setSubject("Reservation " + i);
+		message.setText("Body " + i);
+		return message;
+	}
+}
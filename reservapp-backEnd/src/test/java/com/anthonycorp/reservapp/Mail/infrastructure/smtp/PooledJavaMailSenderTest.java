@@ -0,0 +1,250 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.smtp;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledJavaMailSenderTest {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private final List<PooledJavaMailSender> senders = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		senders.forEach(PooledJavaMailSender::destroy);
+	}
+
+	@Test
+	void batchGoesOutOverOneConnection() {
+		PooledJavaMailSender sender = pooled(settings(2, 60_000, 60_000, 1_000));
+
+		sender.send(messages(0, 200));
+
+		assertEquals(200, greenMail.getReceivedMessages().length);
+		assertEquals(1, sender.getPool().openedConnections());
+		assertEquals(1, sender.getPool().idleConnections());
+	}
+
+	@Test
+	void connectionsAreRotatedAfterMessageLimit() {
+		PooledJavaMailSender sender = pooled(settings(2, 60_000, 60_000, 50));
+
+		sender.send(messages(0, 120));
+
+		assertEquals(120, greenMail.getReceivedMessages().length);
+		assertEquals(3, sender.getPool().openedConnections());
+	}
+
+	@Test
+	void concurrentSendersNeverExceedPoolSize() throws Exception {
+		PooledJavaMailSender sender = pooled(settings(3, 60_000, 60_000, 1_000));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				int offset = t * 50;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 50; i++) {
+						sender.send(messages(offset + i, 1));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(400, greenMail.getReceivedMessages().length);
+		assertTrue(sender.getPool().openedConnections() <= 3);
+	}
+
+	@Test
+	void deadConnectionIsReplacedOnBorrow() throws Exception {
+		PooledJavaMailSender sender = pooled(settings(1, 60_000, 0, 1_000));
+		sender.send(messages(0, 1));
+
+		greenMail.reset();
+		Thread.sleep(5);
+		sender.send(messages(1, 1));
+
+		assertEquals(1, greenMail.getReceivedMessages().length);
+		assertEquals(2, sender.getPool().openedConnections());
+	}
+
+	@Test
+	void idleConnectionsAreEvicted() throws Exception {
+		PooledJavaMailSender sender = pooled(settings(2, 10, 60_000, 1_000));
+		sender.send(messages(0, 1));
+		assertEquals(1, sender.getPool().idleConnections());
+
+		Thread.sleep(20);
+		sender.evictIdleConnections();
+
+		assertEquals(0, sender.getPool().idleConnections());
+	}
+
+	@Test
+	void invalidPoolSettingsAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> settings(0, 60_000, 60_000, 1_000));
+		assertThrows(IllegalArgumentException.class, () -> settings(2, 0, 60_000, 1_000));
+		assertThrows(IllegalArgumentException.class, () -> settings(2, 60_000, -1, 1_000));
+		assertThrows(IllegalArgumentException.class, () -> settings(2, 60_000, 60_000, 0));
+		assertThrows(IllegalArgumentException.class, () -> new SmtpPoolSettings(2, Duration.ZERO, Duration.ofMinutes(1),
+				Duration.ZERO, 100));
+	}
+
+	@Test
+	void smtpServerSeesOneConnectionPerPlainSendButAtMostPoolSizeWhenPooled() throws Exception {
+		try (ConnectionCountingProxy proxy = new ConnectionCountingProxy(ServerSetupTest.SMTP.getPort())) {
+			JavaMailSenderImpl plain = new JavaMailSenderImpl();
+			configure(plain);
+			plain.setPort(proxy.port());
+			sendOneByOne(plain, 0, 20);
+			assertEquals(20, proxy.accepted());
+
+			PooledJavaMailSender pooled = pooled(settings(4, 60_000, 60_000, 1_000));
+			pooled.setPort(proxy.port());
+			ExecutorService executor = Executors.newFixedThreadPool(8);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int t = 0; t < 8; t++) {
+					int offset = 100 + t * 25;
+					futures.add(executor.submit(() -> sendOneByOne(pooled, offset, 25)));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+
+			assertEquals(220, greenMail.getReceivedMessages().length);
+			int pooledConnections = proxy.accepted() - 20;
+			assertTrue(pooledConnections >= 1 && pooledConnections <= 4, () -> pooledConnections + " connections");
+			assertEquals(pooled.getPool().openedConnections(), pooledConnections);
+		}
+	}
+
+	private PooledJavaMailSender pooled(SmtpPoolSettings settings) {
+		PooledJavaMailSender sender = new PooledJavaMailSender(settings);
+		configure(sender);
+		senders.add(sender);
+		return sender;
+	}
+
+	private static void configure(JavaMailSenderImpl sender) {
+		sender.setHost(ServerSetupTest.SMTP.getBindAddress());
+		sender.setPort(ServerSetupTest.SMTP.getPort());
+	}
+
+	private static SmtpPoolSettings settings(int maxSize, long idleTimeoutMs, long validateAfterMs, int maxMessages) {
+		return new SmtpPoolSettings(maxSize, Duration.ofSeconds(5), Duration.ofMillis(idleTimeoutMs),
+				Duration.ofMillis(validateAfterMs), maxMessages);
+	}
+
+	private static void sendOneByOne(JavaMailSender sender, int offset, int count) {
+		for (int i = 0; i < count; i++) {
+			sender.send(messages(offset + i, 1));
+		}
+	}
+
+	private static SimpleMailMessage[] messages(int offset, int count) {
+		SimpleMailMessage[] messages = new SimpleMailMessage[count];
+		for (int i = 0; i < count; i++) {
+			SimpleMailMessage message = new SimpleMailMessage();
+			message.setFrom("noreply@reservapp.test");
+			message.setTo("customer" + (offset + i) + "@test.com");
+			message.setSubject("Reservation " + (offset + i));
+			message.setText("Body " + (offset + i));
+			messages[i] = message;
+		}
+		return messages;
+	}
+
+	// Sits between the sender and GreenMail, counting the TCP connections that reach the server
+	private static final class ConnectionCountingProxy implements AutoCloseable {
+
+		private final ServerSocket serverSocket;
+		private final int targetPort;
+		private final AtomicInteger accepted = new AtomicInteger();
+		private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+		private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+		ConnectionCountingProxy(int targetPort) throws IOException {
+			this.targetPort = targetPort;
+			this.serverSocket = new ServerSocket(0, 50, InetAddress.getByName(ServerSetupTest.SMTP.getBindAddress()));
+			executor.submit(this::acceptLoop);
+		}
+
+		int port() {
+			return serverSocket.getLocalPort();
+		}
+
+		int accepted() {
+			return accepted.get();
+		}
+
+		private Void acceptLoop() throws IOException {
+			while (!serverSocket.isClosed()) {
+				Socket client;
+				try {
+					client = serverSocket.accept();
+				} catch (SocketException closed) {
+					return null;
+				}
+				accepted.incrementAndGet();
+				Socket server = new Socket(serverSocket.getInetAddress(), targetPort);
+				sockets.add(client);
+				sockets.add(server);
+				executor.submit(() -> pipe(client, server));
+				executor.submit(() -> pipe(server, client));
+			}
+			return null;
+		}
+
+		private static void pipe(Socket from, Socket to) {
+			try {
+				from.getInputStream().transferTo(to.getOutputStream());
+				to.shutdownOutput();
+			} catch (IOException closed) {
+				// Either side went away; the other direction ends on its own
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			serverSocket.close();
+			for (Socket socket : sockets) {
+				socket.close();
+			}
+			executor.shutdownNow();
+		}
+	}
+}
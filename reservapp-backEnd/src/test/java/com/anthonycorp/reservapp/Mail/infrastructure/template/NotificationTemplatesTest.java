@@ -0,0 +1,85 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.template;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationTemplatesTest {
+
+	private NotificationTemplates templates;
+
+	@BeforeEach
+	void setUp() {
+		templates = new NotificationTemplates("es");
+		templates.load();
+	}
+
+	@Test
+	void compiledTemplateRendersLiteralsAndVariables() {
+		CompiledTemplate template = CompiledTemplate.compile("Hola {{name}}, tu reserva {{ id }} para {{name}}.");
+
+		assertEquals("Hola Ana, tu reserva 7 para Ana.", template.render(Map.of("name", "Ana", "id", 7)));
+		assertEquals("sin variables", CompiledTemplate.compile("sin variables").render(Map.of()));
+	}
+
+	@Test
+	void malformedPlaceholdersAreRejectedAtCompileTime() {
+		assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("Hola {{name"));
+		assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("Hola {{ }}"));
+	}
+
+	@Test
+	void missingValueIsReported() {
+		CompiledTemplate template = CompiledTemplate.compile("Hola {{name}}");
+
+		assertThrows(IllegalArgumentException.class, () -> template.render(Map.of()));
+	}
+
+	@Test
+	void resolvesLocaleVariantsAndFallsBackToDefault() {
+		Map<String, Object> values = Map.of("providerName", "Luis", "customerName", "Ana", "serviceName", "Corte",
+				"date", LocalDate.of(2025, 6, 1), "time", LocalTime.of(10, 30));
+
+		NotificationTemplate spanish = templates.get("provider-new-reservation");
+		NotificationTemplate english = templates.get("provider-new-reservation", Locale.ENGLISH);
+		NotificationTemplate fallback = templates.get("provider-new-reservation", Locale.GERMAN);
+
+		assertEquals("Nueva reserva para Luis", spanish.renderSubject(values));
+		assertEquals("New Reservation to Luis", english.renderSubject(values));
+		assertEquals(spanish, fallback);
+		assertTrue(spanish.renderBody(values).contains("Fecha y Hora: 2025-06-01 10:30"));
+		assertTrue(english.renderBody(values).startsWith("Hello Luis,"));
+	}
+
+	@Test
+	void recipientsWithoutLocaleGetTheConfiguredDefault() {
+		NotificationTemplates english = new NotificationTemplates("en");
+		english.load();
+
+		assertEquals("es", templates.get("reservation-confirmation", null).locale().getLanguage());
+		assertEquals("en", english.get("reservation-confirmation", null).locale().getLanguage());
+		assertEquals("es", english.get("reservation-confirmation", Locale.forLanguageTag("es-MX")).locale().getLanguage());
+	}
+
+	@Test
+	void everyTemplateExistsInEveryLanguage() {
+		for (String name : new String[]{"reservation-confirmation", "provider-new-reservation", "customer-status-update",
+				"status-pending", "status-accepted", "status-rejected", "status-cancelled"}) {
+			assertEquals(Locale.ENGLISH.getLanguage(), templates.get(name, Locale.ENGLISH).locale().getLanguage());
+			assertEquals("es", templates.get(name, Locale.forLanguageTag("es")).locale().getLanguage());
+		}
+	}
+
+	@Test
+	void unknownTemplateIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> templates.get("missing"));
+	}
+}
@@ -0,0 +1,130 @@
+package com.anthonycorp.reservapp.Provider.infrastructure.controller;
+
+import com.anthonycorp.reservapp.Config.thread.Bulkhead;
+import com.anthonycorp.reservapp.Config.thread.Bulkheads;
+import com.anthonycorp.reservapp.Provider.application.GetWorkingHours.GetWorkingHoursUseCase;
+import com.anthonycorp.reservapp.Provider.application.UpdateWorkingHours.UpdateWorkingHoursUseCase;
+import com.anthonycorp.reservapp.Reservation.application.ExportProviderReservations.ExportProviderReservationsUseCase;
+import com.anthonycorp.reservapp.Reservation.application.GetProviderReservations.GetProviderReservationsUseCase;
+import com.anthonycorp.reservapp.Reservation.application.UpdateReservationStatus.UpdateReservationStatusUseCase;
+import com.anthonycorp.reservapp.Reservation.application.UpdateReservationStatuses.UpdateReservationStatusesUseCase;
+import com.anthonycorp.reservapp.Service.application.UpdateServiceStatus.UpdateServiceStatusUseCase;
+import com.anthonycorp.reservapp.Utils.controllerAdvice.ControllerAdvice;
+import com.anthonycorp.reservapp.Utils.exception.BulkheadFullException;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The export holds one database permit from the request until its stream ends, however the async request ends.
+ */
+class ProviderControllerExportTest {
+
+	private static final UsernamePasswordAuthenticationToken PROVIDER =
+			new UsernamePasswordAuthenticationToken("provider@test.com", null);
+
+	private final ExportProviderReservationsUseCase exportProviderReservationsUseCase =
+			mock(ExportProviderReservationsUseCase.class);
+	private final Bulkhead database = new Bulkhead("database", 1, Duration.ofMillis(50), new SimpleMeterRegistry());
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		Bulkheads bulkheads = mock(Bulkheads.class);
+		when(bulkheads.database()).thenReturn(database);
+		ProviderController controller = new ProviderController(mock(GetProviderReservationsUseCase.class),
+				exportProviderReservationsUseCase, mock(UpdateReservationStatusUseCase.class),
+				mock(UpdateReservationStatusesUseCase.class), mock(UpdateServiceStatusUseCase.class),
+				mock(GetWorkingHoursUseCase.class), mock(UpdateWorkingHoursUseCase.class), bulkheads,
+				new ResourceVersions());
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(new ControllerAdvice()).build();
+	}
+
+	@Test
+	void permitIsReleasedOnceTheStreamIsWritten() throws Exception {
+		doAnswer(invocation -> {
+			invocation.<OutputStream>getArgument(2).write("id\n".getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).when(exportProviderReservationsUseCase).execute(eq("provider@test.com"), any(), any());
+
+		MvcResult result = mockMvc.perform(get("/provider/reservations/export").principal(PROVIDER))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(content().string("id\n"));
+
+		assertDoesNotThrow(() -> database.acquire().close());
+	}
+
+	@Test
+	void permitIsReleasedWhenTheRequestEndsBeforeTheStreamDoes() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			started.countDown();
+			finish.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(exportProviderReservationsUseCase).execute(any(), any(), any());
+
+		MvcResult result = mockMvc.perform(get("/provider/reservations/export").principal(PROVIDER))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertThrows(BulkheadFullException.class, database::acquire);
+
+		// What the container does when the client goes away or the async timeout fires
+		result.getRequest().getAsyncContext().complete();
+
+		assertDoesNotThrow(() -> database.acquire().close());
+		finish.countDown();
+	}
+
+	@Test
+	void busyDatabaseIsAnsweredWithServiceUnavailableAndRetryAfter() throws Exception {
+		try (Bulkhead.Permit held = database.acquire()) {
+			mockMvc.perform(get("/provider/reservations/export").principal(PROVIDER))
+					.andExpect(status().isServiceUnavailable())
+					.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+		}
+
+		verifyNoInteractions(exportProviderReservationsUseCase);
+	}
+
+	@Test
+	void invalidRequestIsRejectedWithoutTakingAPermit() throws Exception {
+		mockMvc.perform(get("/provider/reservations/export").param("format", "").principal(PROVIDER))
+				.andExpect(status().isBadRequest());
+
+		verifyNoInteractions(exportProviderReservationsUseCase);
+		assertDoesNotThrow(() -> database.acquire().close());
+	}
+}
@@ -0,0 +1,139 @@
+package com.anthonycorp.reservapp.Reservation.application.CreateReservation;
+
+import com.anthonycorp.reservapp.Config.diagnostics.PinningReport;
+import com.anthonycorp.reservapp.Config.diagnostics.VirtualThreadPinningMonitor;
+import com.anthonycorp.reservapp.Mail.application.ConfirmationMailNotification.ConfirmationMailNotificationUseCaseImpl;
+import com.anthonycorp.reservapp.Mail.application.ReservationMailNotification.ReservationMailNotificationUseCaseImpl;
+import com.anthonycorp.reservapp.Mail.infrastructure.outbox.NotificationOutbox;
+import com.anthonycorp.reservapp.Mail.infrastructure.repository.NotificationOutboxRepository;
+import com.anthonycorp.reservapp.Mail.infrastructure.template.NotificationTemplates;
+import com.anthonycorp.reservapp.Reservation.domain.request.CreateReservationDto;
+import com.anthonycorp.reservapp.Reservation.infrastructure.mapper.ReservationMapperImpl;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.slot.ReservationSlotIndex;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.User.domain.Role.RoleEnum;
+import com.anthonycorp.reservapp.User.infrastructure.model.RoleEntity;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.User.infrastructure.repository.RoleRepository;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Creates reservations concurrently on virtual threads, the way Tomcat runs them, and fails when the path pins carriers
+@DataJpaTest(properties = "diagnostics.pinning.threshold-ms=0")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CreateReservationUseCaseImpl.class, ReservationMapperImpl.class, ReservationSlotIndex.class,
+		ResourceVersions.class, ConfirmationMailNotificationUseCaseImpl.class, ReservationMailNotificationUseCaseImpl.class,
+		NotificationOutbox.class, NotificationTemplates.class, VirtualThreadPinningMonitor.class,
+		CreateReservationPinningTest.Metrics.class})
+class CreateReservationPinningTest {
+
+	private static final int RESERVATIONS = 200;
+	private static final long MAX_PINNED_EVENTS = 0;
+
+	@Autowired
+	private CreateReservationUseCase createReservationUseCase;
+
+	@Autowired
+	private VirtualThreadPinningMonitor pinningMonitor;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	@Autowired
+	private ServiceRepository serviceRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	private List<UserEntity> customers;
+	private ServiceEntity service;
+
+	@BeforeEach
+	void setUp() {
+		RoleEntity customerRole = roleRepository.save(RoleEntity.builder().role(RoleEnum.CUSTOMER).build());
+		RoleEntity providerRole = roleRepository.save(RoleEntity.builder().role(RoleEnum.PROVIDER).build());
+		UserEntity provider = userRepository.save(UserEntity.builder().name("provider").email("provider@test.com")
+				.password("x").roleEntity(providerRole).build());
+		service = serviceRepository.save(ServiceEntity.builder().title("Corte").description("d").price(10.0)
+				.slotDurationMinutes(60).provider(provider).status(ServiceStatus.ACTIVE).build());
+		customers = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			customers.add(userRepository.save(UserEntity.builder().name("customer " + i).email("customer" + i + "@test.com")
+					.password("x").roleEntity(customerRole).build()));
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		notificationOutboxRepository.deleteAllInBatch();
+		reservationRepository.deleteAllInBatch();
+		serviceRepository.deleteAllInBatch();
+		userRepository.deleteAllInBatch();
+		roleRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void concurrentCreatesStayWithinThePinningBudget() throws Exception {
+		assertTrue(pinningMonitor.awaitFlush(Duration.ofSeconds(10)));
+		pinningMonitor.reset();
+
+		List<Future<?>> results = new ArrayList<>(RESERVATIONS);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < RESERVATIONS; i++) {
+				String email = customers.get(i % customers.size()).getEmail();
+				CreateReservationDto dto = new CreateReservationDto(service.getId(),
+						LocalDate.of(2030, 1, 1).plusDays(i / 10), LocalTime.of(8 + i % 10, 0), null);
+				results.add(executor.submit(() -> createReservationUseCase.execute(email, dto)));
+			}
+		}
+		for (Future<?> result : results) {
+			result.get();
+		}
+		assertTrue(pinningMonitor.awaitFlush(Duration.ofSeconds(10)));
+
+		assertEquals(RESERVATIONS, reservationRepository.count());
+		PinningReport report = pinningMonitor.report(5);
+		assertTrue(report.totalEvents() <= MAX_PINNED_EVENTS, () -> "Reservation create path pinned carrier threads: " + report);
+	}
+
+	@TestConfiguration
+	static class Metrics {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.anthonycorp.reservapp.Reservation.application.ExportProviderReservations;
+
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationExportRequestDto;
+import com.anthonycorp.reservapp.Utils.exports.ExportFormat;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs in the low-heap surefire execution (-Xmx64m): a million reservations come to roughly 100 MB of text, and they
+ * are read from PostgreSQL through the real repository query, its fetch-size hint and Hibernate's result stream, so
+ * any step that buffered the export instead of streaming it would run out of memory. The HTTP side is covered by
+ * ProviderControllerExportTest. Skipped when no Docker daemon is available.
+ */
+@Tag("low-heap")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(ExportProviderReservationsUseCaseImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExportProviderReservationsUseCaseImplTest {
+
+	private static final int ROWS = 1_000_000;
+	private static final long SEEDED_IDS = 100_000;
+
+	@Container
+	@ServiceConnection
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ExportProviderReservationsUseCase exportProviderReservationsUseCase;
+
+	// One provider with one service, and a million reservations spread over 1000 customers, past the startup seed ids
+	@BeforeAll
+	void seed() {
+		jdbcTemplate.execute("INSERT INTO users (id, email, name, password, role_id) " +
+				"SELECT " + SEEDED_IDS + " + g, 'user' || g || '@export.test', 'Customer ' || g, 'x', " +
+				"(SELECT MIN(id) FROM roles) FROM generate_series(0, 1000) g");
+		jdbcTemplate.execute("INSERT INTO services (id, title, description, price, provider_id, status) " +
+				"VALUES (" + SEEDED_IDS + ", 'Corte de pelo', 'd', 10, " + SEEDED_IDS + ", 1)");
+		jdbcTemplate.execute("INSERT INTO reservations (id, customer_id, provider_id, service_id, date, time, created_at, status) " +
+				"SELECT " + SEEDED_IDS + " + g, " + SEEDED_IDS + " + 1 + g % 1000, " + SEEDED_IDS + ", " + SEEDED_IDS + ", " +
+				"DATE '2030-01-01' + g % 365, TIME '08:00' + (g % 10) * INTERVAL '1 hour', now(), 1 + g % 4 " +
+				"FROM generate_series(1, " + ROWS + ") g");
+	}
+
+	@Test
+	void streamsAMillionRowsAsCsv() throws IOException {
+		assertEquals(ROWS + 1, export(ExportFormat.CSV).lines);
+	}
+
+	@Test
+	void streamsAMillionRowsAsNdjson() throws IOException {
+		LineCounter output = export(ExportFormat.NDJSON);
+
+		assertEquals(ROWS, output.lines);
+		assertTrue(output.bytes > 100L * ROWS);
+	}
+
+	private LineCounter export(ExportFormat format) throws IOException {
+		LineCounter output = new LineCounter();
+		ReservationExportRequestDto request = new ReservationExportRequestDto(null, null, null, format);
+
+		exportProviderReservationsUseCase.execute("user0@export.test", request, output);
+		return output;
+	}
+
+	// Discards everything it is given, keeping only the counts
+	private static final class LineCounter extends OutputStream {
+		private long lines;
+		private long bytes;
+
+		@Override
+		public void write(int b) {
+			bytes++;
+			if (b == '\n') {
+				lines++;
+			}
+		}
+
+		@Override
+		public void write(byte[] buffer, int offset, int length) {
+			bytes += length;
+			for (int i = offset; i < offset + length; i++) {
+				if (buffer[i] == '\n') {
+					lines++;
+				}
+			}
+		}
+	}
+}
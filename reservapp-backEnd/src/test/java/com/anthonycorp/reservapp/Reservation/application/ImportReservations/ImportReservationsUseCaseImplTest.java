@@ -0,0 +1,136 @@
+package com.anthonycorp.reservapp.Reservation.application.ImportReservations;
+
+import com.anthonycorp.reservapp.Config.thread.Bulkheads;
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.slot.ReservationSlotIndex;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.User.domain.Role.RoleEnum;
+import com.anthonycorp.reservapp.User.infrastructure.model.RoleEntity;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.User.infrastructure.repository.RoleRepository;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Utils.dto.ImportErrorDto;
+import com.anthonycorp.reservapp.Utils.dto.ImportReportDto;
+import com.anthonycorp.reservapp.Utils.imports.BatchImporter;
+import com.anthonycorp.reservapp.Utils.imports.ImportFormat;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// Runs outside a test transaction so every import batch really commits
+@DataJpaTest(properties = "import.batch-size=3")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({ImportReservationsUseCaseImpl.class, BatchImporter.class, Bulkheads.class,
+		ReservationSlotIndex.class, ResourceVersions.class, ImportReservationsUseCaseImplTest.Metrics.class})
+class ImportReservationsUseCaseImplTest {
+
+	@Autowired
+	private ImportReservationsUseCase importReservationsUseCase;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ServiceRepository serviceRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private ReservationSlotIndex reservationSlotIndex;
+
+	private UserEntity provider;
+	private ServiceEntity service;
+
+	@BeforeEach
+	void setUp() {
+		RoleEntity customerRole = roleRepository.save(RoleEntity.builder().role(RoleEnum.CUSTOMER).build());
+		RoleEntity providerRole = roleRepository.save(RoleEntity.builder().role(RoleEnum.PROVIDER).build());
+		userRepository.save(UserEntity.builder().name("customer").email("customer@test.com").password("x")
+				.roleEntity(customerRole).build());
+		provider = userRepository.save(UserEntity.builder().name("provider").email("provider@test.com").password("x")
+				.roleEntity(providerRole).build());
+		service = serviceRepository.save(ServiceEntity.builder().title("Corte").description("d").price(10.0)
+				.slotDurationMinutes(60).provider(provider).status(ServiceStatus.ACTIVE).build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		reservationRepository.deleteAllInBatch();
+		serviceRepository.deleteAllInBatch();
+		userRepository.deleteAllInBatch();
+		roleRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void importsActiveRowsThroughTheSlotIndexAndReportsTheRest() {
+		String ndjson = String.join("\n",
+				row("customer@test.com", service.getId(), "10:00", "ACCEPTED"),
+				row("customer@test.com", service.getId(), "10:30", "PENDING"),
+				row("nobody@test.com", service.getId(), "12:00", "PENDING"),
+				row("customer@test.com", service.getId() + 1000, "13:00", "PENDING"),
+				row("customer@test.com", service.getId(), "10:00", "CANCELLED"),
+				"{\"customer_email\": \"customer@test.com\", \"service_id\": " + service.getId() + "}",
+				row("customer@test.com", service.getId(), "15:00", null));
+
+		ImportReportDto report = importReservationsUseCase.execute(ImportFormat.NDJSON,
+				new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals(7, report.getReceived());
+		assertEquals(3, report.getImported());
+		assertEquals(List.of(2L, 3L, 4L, 6L), report.getErrors().stream().map(ImportErrorDto::getLine).toList());
+		assertEquals("Customer not found", report.getErrors().get(1).getMessage());
+		assertEquals("Service not found", report.getErrors().get(2).getMessage());
+
+		List<ReservationEntity> saved = reservationRepository.findAll();
+		assertEquals(3, saved.size());
+		assertEquals(1, saved.stream().filter(reservation -> reservation.getStatus() == ReservationStatus.PENDING).count());
+		assertFalse(reservationSlotIndex.isAvailable(provider.getId(), LocalDate.of(2030, 1, 1), LocalTime.of(15, 0),
+				Duration.ofMinutes(60)));
+	}
+
+	private static String row(String customerEmail, Long serviceId, String time, String status) {
+		return "{\"customer_email\": \"" + customerEmail + "\", \"service_id\": " + serviceId
+				+ ", \"date\": \"2030-01-01\", \"time\": \"" + time + "\""
+				+ (status == null ? "" : ", \"status\": \"" + status + "\"") + "}";
+	}
+
+	@TestConfiguration
+	static class Metrics {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
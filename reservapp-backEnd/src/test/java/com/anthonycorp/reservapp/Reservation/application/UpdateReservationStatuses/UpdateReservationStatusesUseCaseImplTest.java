@@ -0,0 +1,180 @@
+package com.anthonycorp.reservapp.Reservation.application.UpdateReservationStatuses;
+
+import com.anthonycorp.reservapp.Mail.application.ReservationMailNotification.ReservationMailNotificationUseCaseImpl;
+import com.anthonycorp.reservapp.Mail.infrastructure.outbox.NotificationOutbox;
+import com.anthonycorp.reservapp.Mail.infrastructure.repository.NotificationOutboxRepository;
+import com.anthonycorp.reservapp.Mail.infrastructure.template.NotificationTemplates;
+import com.anthonycorp.reservapp.Reservation.domain.request.BulkReservationStatusDto;
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationStatusChangeDto;
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.InvalidBulkUpdateException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.ReservationNotFoundException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.slot.ReservationSlotIndex;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
+import com.anthonycorp.reservapp.User.domain.Role.RoleEnum;
+import com.anthonycorp.reservapp.User.infrastructure.model.RoleEntity;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({UpdateReservationStatusesUseCaseImpl.class, ReservationSlotIndex.class, ResourceVersions.class,
+		ReservationMailNotificationUseCaseImpl.class, NotificationOutbox.class, NotificationTemplates.class})
+class UpdateReservationStatusesUseCaseImplTest {
+
+	@Autowired
+	private UpdateReservationStatusesUseCase updateReservationStatusesUseCase;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	@Autowired
+	private ReservationSlotIndex reservationSlotIndex;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+	private UserEntity provider;
+	private UserEntity otherProvider;
+	private ServiceEntity service;
+	private List<ReservationEntity> reservations;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		RoleEntity customerRole = persist(RoleEntity.builder().role(RoleEnum.CUSTOMER).build());
+		RoleEntity providerRole = persist(RoleEntity.builder().role(RoleEnum.PROVIDER).build());
+		provider = persist(UserEntity.builder().name("provider").email("provider@test.com").password("x").roleEntity(providerRole).build());
+		otherProvider = persist(UserEntity.builder().name("other").email("other@test.com").password("x").roleEntity(providerRole).build());
+		service = persist(ServiceEntity.builder().title("Corte").description("d").price(10.0)
+				.slotDurationMinutes(60).provider(provider).status(ServiceStatus.ACTIVE).build());
+		reservations = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			UserEntity customer = persist(UserEntity.builder().name("customer " + i).email("customer" + i + "@test.com")
+					.password("x").roleEntity(customerRole).build());
+			reservations.add(persist(ReservationEntity.builder()
+					.customer(customer)
+					.provider(provider)
+					.service(service)
+					.date(LocalDate.of(2030, 1, 1))
+					.time(LocalTime.of(8 + i, 0))
+					.durationMinutes(60)
+					.status(ReservationStatus.PENDING)
+					.build()));
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void appliesTheWholeBatchWithOneReadAndOneUpdatePerStatus() {
+		List<ReservationStatusChangeDto> updates = new ArrayList<>();
+		for (int i = 0; i < reservations.size(); i++) {
+			ReservationStatus status = i % 3 == 0 ? ReservationStatus.REJECTED : ReservationStatus.ACCEPTED;
+			updates.add(new ReservationStatusChangeDto(reservations.get(i).getId(), status));
+		}
+		statistics.clear();
+
+		updateReservationStatusesUseCase.execute(new BulkReservationStatusDto(updates), provider.getEmail());
+		entityManager.flush();
+
+		// One select, one update per target status, one outbox id block and a single batched insert for the mails
+		assertEquals(1 + 2 + 1 + 1, statistics.getPrepareStatementCount());
+		entityManager.clear();
+		for (int i = 0; i < reservations.size(); i++) {
+			assertEquals(updates.get(i).getStatus(), reservationRepository.findById(reservations.get(i).getId()).orElseThrow().getStatus());
+		}
+		assertEquals(reservations.size(), notificationOutboxRepository.count());
+		// Customers without a locale of their own get the default Spanish mail
+		notificationOutboxRepository.findAll().forEach(mail ->
+				assertEquals("Actualización de tu reserva - Corte", mail.getSubject()));
+	}
+
+	@Test
+	void unchangedReservationsAreNeitherWrittenNorMailed() {
+		Long id = reservations.get(0).getId();
+
+		updateReservationStatusesUseCase.execute(new BulkReservationStatusDto(
+				List.of(new ReservationStatusChangeDto(id, ReservationStatus.PENDING))), provider.getEmail());
+
+		assertEquals(0, notificationOutboxRepository.count());
+	}
+
+	@Test
+	void rejectsTheBatchWhenAnyReservationBelongsToAnotherProvider() {
+		List<ReservationStatusChangeDto> updates = List.of(
+				new ReservationStatusChangeDto(reservations.get(0).getId(), ReservationStatus.ACCEPTED),
+				new ReservationStatusChangeDto(reservations.get(1).getId(), ReservationStatus.ACCEPTED));
+
+		assertThrows(ReservationNotFoundException.class, () -> updateReservationStatusesUseCase.execute(
+				new BulkReservationStatusDto(updates), otherProvider.getEmail()));
+	}
+
+	@Test
+	void reactivatesAReservationOntoTheSlotTheSameBatchFrees() {
+		ReservationEntity cancelled = reservations.get(0);
+		ReservationEntity rejected = persist(ReservationEntity.builder()
+				.customer(reservations.get(1).getCustomer())
+				.provider(provider)
+				.service(service)
+				.date(cancelled.getDate())
+				.time(cancelled.getTime())
+				.durationMinutes(60)
+				.status(ReservationStatus.REJECTED)
+				.build());
+		entityManager.flush();
+		entityManager.clear();
+		reservationSlotIndex.rebuild();
+
+		updateReservationStatusesUseCase.execute(new BulkReservationStatusDto(List.of(
+				new ReservationStatusChangeDto(cancelled.getId(), ReservationStatus.CANCELLED),
+				new ReservationStatusChangeDto(rejected.getId(), ReservationStatus.ACCEPTED))), provider.getEmail());
+		entityManager.clear();
+
+		assertEquals(ReservationStatus.CANCELLED, reservationRepository.findById(cancelled.getId()).orElseThrow().getStatus());
+		assertEquals(ReservationStatus.ACCEPTED, reservationRepository.findById(rejected.getId()).orElseThrow().getStatus());
+		// Until the batch commits, the freed slot is still taken for anyone else
+		assertFalse(reservationSlotIndex.isAvailable(provider.getId(), cancelled.getDate(), cancelled.getTime(),
+				Duration.ofMinutes(60)));
+	}
+
+	@Test
+	void rejectsDuplicateReservationIds() {
+		Long id = reservations.get(0).getId();
+		List<ReservationStatusChangeDto> updates = List.of(
+				new ReservationStatusChangeDto(id, ReservationStatus.ACCEPTED),
+				new ReservationStatusChangeDto(id, ReservationStatus.REJECTED));
+
+		assertThrows(InvalidBulkUpdateException.class, () -> updateReservationStatusesUseCase.execute(
+				new BulkReservationStatusDto(updates), provider.getEmail()));
+	}
+
+	private <T> T persist(T entity) {
+		entityManager.persist(entity);
+		return entity;
+	}
+}
@@ -0,0 +1,165 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.controller;
+
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.User.domain.Role.RoleEnum;
+import com.anthonycorp.reservapp.User.infrastructure.model.RoleEntity;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.User.infrastructure.repository.RoleRepository;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Utils.web.JwtUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The cursor page contract the frontend relies on: {@code {"items": [...], "next_cursor": "..."}}, with
+ * {@code next_cursor} left out on the last page, and following it visits every reservation exactly once.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:listingpagination;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.datasource.driver-class-name=",
+		"spring.jpa.show-sql=false",
+		"logging.level.org.hibernate.sql=info",
+		"mail.host=127.0.0.1",
+		"mail.port=3025",
+		"mail.username=listing",
+		"mail.password=listing",
+		"notification.outbox.poll-interval-ms=3600000",
+		"security.jwt.key.private=listing-pagination-secret",
+		"security.jwt.user.generator=reservapp-listing-pagination",
+		"rate-limit.routes="})
+@AutoConfigureMockMvc
+class ReservationListingPaginationTest {
+
+	private static final int RESERVATIONS = 45;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ServiceRepository serviceRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private JwtUtils jwtUtils;
+
+	private UserEntity customer;
+	private UserEntity provider;
+	private List<Long> ids;
+
+	@BeforeEach
+	void setUp() {
+		RoleEntity customerRole = roleRepository.save(RoleEntity.builder().role(RoleEnum.CUSTOMER).build());
+		RoleEntity providerRole = roleRepository.save(RoleEntity.builder().role(RoleEnum.PROVIDER).build());
+		customer = userRepository.save(UserEntity.builder().name("customer").email("customer@listing.test").password("x")
+				.roleEntity(customerRole).build());
+		provider = userRepository.save(UserEntity.builder().name("provider").email("provider@listing.test").password("x")
+				.roleEntity(providerRole).build());
+		ServiceEntity service = serviceRepository.save(ServiceEntity.builder().title("Corte").description("d").price(10.0)
+				.slotDurationMinutes(60).provider(provider).status(ServiceStatus.ACTIVE).build());
+		List<ReservationEntity> reservations = new ArrayList<>();
+		for (int i = 0; i < RESERVATIONS; i++) {
+			reservations.add(ReservationEntity.builder()
+					.customer(customer)
+					.provider(provider)
+					.service(service)
+					.date(LocalDate.of(2030, 1, 1).plusDays(i / 10))
+					.time(LocalTime.of(8 + i % 10, 0))
+					.durationMinutes(60)
+					.status(ReservationStatus.PENDING)
+					.build());
+		}
+		ids = reservationRepository.saveAll(reservations).stream().map(ReservationEntity::getId).toList();
+	}
+
+	@AfterEach
+	void tearDown() {
+		reservationRepository.deleteAllInBatch();
+		serviceRepository.deleteAllInBatch();
+		userRepository.deleteAllInBatch();
+		roleRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void customerListingFollowsNextCursorToTheLastPage() throws Exception {
+		List<Integer> pageSizes = new ArrayList<>();
+		Set<Long> seen = walk("/reservations/me", customer, "ROLE_CUSTOMER", pageSizes);
+
+		assertEquals(List.of(20, 20, 5), pageSizes);
+		assertEquals(new TreeSet<>(ids), seen);
+	}
+
+	@Test
+	void providerListingFollowsNextCursorToTheLastPage() throws Exception {
+		List<Integer> pageSizes = new ArrayList<>();
+		Set<Long> seen = walk("/provider/reservations", provider, "ROLE_PROVIDER", pageSizes);
+
+		assertEquals(List.of(20, 20, 5), pageSizes);
+		assertEquals(new TreeSet<>(ids), seen);
+	}
+
+	private Set<Long> walk(String path, UserEntity user, String role, List<Integer> pageSizes)
+			throws Exception {
+		String token = jwtUtils.createToken(new UsernamePasswordAuthenticationToken(user.getEmail(), null,
+				AuthorityUtils.createAuthorityList(role)));
+		Set<Long> seen = new TreeSet<>();
+		String cursor = null;
+		do {
+			MockHttpServletRequestBuilder request = get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+			if (cursor != null) {
+				request.param("cursor", cursor);
+			}
+			JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString());
+
+			assertTrue(page.get("items").isArray());
+			assertFalse(page.has("nextCursor"));
+			pageSizes.add(page.get("items").size());
+			page.get("items").forEach(item -> assertTrue(seen.add(item.get("id").asLong()), "listed twice: " + item));
+			cursor = page.has("next_cursor") ? page.get("next_cursor").asText() : null;
+		} while (cursor != null);
+		return seen;
+	}
+}
@@ -0,0 +1,174 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.repository;
+
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationPageRequestDto;
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.projection.ReservationRow;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
+import com.anthonycorp.reservapp.User.domain.Role.RoleEnum;
+import com.anthonycorp.reservapp.User.infrastructure.model.RoleEntity;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReservationReadRepositoryTest {
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+	private UserEntity customer;
+	private UserEntity provider;
+	private List<ServiceEntity> services;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		RoleEntity customerRole = persist(RoleEntity.builder().role(RoleEnum.CUSTOMER).build());
+		RoleEntity providerRole = persist(RoleEntity.builder().role(RoleEnum.PROVIDER).build());
+		customer = persist(UserEntity.builder().name("customer").email("customer@test.com").password("x").roleEntity(customerRole).build());
+		provider = persist(UserEntity.builder().name("provider").email("provider@test.com").password("x").roleEntity(providerRole).build());
+		services = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			services.add(persist(ServiceEntity.builder().title("service " + i).description("d").price(10.0).slotDurationMinutes(60)
+					.provider(provider).status(ServiceStatus.ACTIVE).build()));
+		}
+	}
+
+	@Test
+	void listingIssuesOneStatementRegardlessOfRowCount() {
+		seedReservations(5);
+		long small = statementsFor(ReservationSpecifications.providerEmail(provider.getEmail()), 100);
+
+		seedReservations(60);
+		long large = statementsFor(ReservationSpecifications.providerEmail(provider.getEmail()), 100);
+		long customerLarge = statementsFor(ReservationSpecifications.customer(customer), 100);
+
+		assertEquals(1, small);
+		assertEquals(small, large);
+		assertEquals(small, customerLarge);
+	}
+
+	@Test
+	void cursorWalksEveryRowOnceInKeysetOrder() {
+		seedReservations(23);
+		List<ReservationRow> seen = new ArrayList<>();
+		ReservationPageRequestDto request = new ReservationPageRequestDto(null, null, null, null, 5);
+
+		do {
+			var page = reservationRepository.findRowPage(ReservationSpecifications.customer(customer), request);
+			seen.addAll(page.getItems());
+			request.setCursor(page.getNextCursor());
+		} while (request.getCursor() != null);
+
+		assertEquals(23, seen.size());
+		assertEquals(23, seen.stream().map(ReservationRow::id).distinct().count());
+		for (int i = 1; i < seen.size(); i++) {
+			ReservationRow previous = seen.get(i - 1);
+			ReservationRow current = seen.get(i);
+			assertTrue(comesBefore(previous, current), previous + " listed before " + current);
+		}
+	}
+
+	@Test
+	void filtersByStatusAndDateRange() {
+		List<ReservationEntity> seeded = seedReservations(10);
+		ReservationPageRequestDto request = new ReservationPageRequestDto(ReservationStatus.ACCEPTED,
+				LocalDate.of(2030, 1, 2), LocalDate.of(2030, 1, 3), null, 50);
+
+		var page = reservationRepository.findRowPage(ReservationSpecifications.providerEmail(provider.getEmail()), request);
+
+		// Rows 1, 5 and 9 are accepted and fall on January 2nd, at 9:00, 10:00 and 8:00; rows 2 and 6 on the 3rd are pending
+		assertNull(page.getNextCursor());
+		assertEquals(List.of(seeded.get(9).getId(), seeded.get(1).getId(), seeded.get(5).getId()),
+				page.getItems().stream().map(ReservationRow::id).toList());
+		page.getItems().forEach(row -> {
+			assertEquals(ReservationStatus.ACCEPTED, row.status());
+			assertEquals(LocalDate.of(2030, 1, 2), row.date());
+		});
+	}
+
+	@Test
+	void streamReadsFilteredRowsInOrderWithoutManagingEntities() {
+		seedReservations(40);
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		List<ReservationRow> rows;
+		try (Stream<ReservationRow> stream = reservationRepository.streamRows(
+				ReservationSpecifications.providerEmail(provider.getEmail())
+						.and(ReservationSpecifications.matching(ReservationStatus.PENDING, null, null)), 7)) {
+			rows = stream.toList();
+		}
+
+		assertEquals(20, rows.size());
+		rows.forEach(row -> assertEquals(ReservationStatus.PENDING, row.status()));
+		for (int i = 1; i < rows.size(); i++) {
+			assertTrue(comesBefore(rows.get(i - 1), rows.get(i)), rows.get(i - 1) + " streamed before " + rows.get(i));
+		}
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+
+	private long statementsFor(Specification<ReservationEntity> owner, int size) {
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+		reservationRepository.findRowPage(owner, new ReservationPageRequestDto(null, null, null, null, size));
+		return statistics.getPrepareStatementCount();
+	}
+
+	private List<ReservationEntity> seedReservations(int count) {
+		List<ReservationEntity> seeded = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			seeded.add(persist(ReservationEntity.builder()
+					.customer(customer)
+					.provider(provider)
+					.service(services.get(i % services.size()))
+					.date(LocalDate.of(2030, 1, 1).plusDays(i % 4))
+					.time(LocalTime.of(8 + i % 3, 0))
+					.durationMinutes(60)
+					.status(i % 2 == 0 ? ReservationStatus.PENDING : ReservationStatus.ACCEPTED)
+					.build()));
+		}
+		return seeded;
+	}
+
+	// Keyset order: date, then time, then id
+	private boolean comesBefore(ReservationRow a, ReservationRow b) {
+		if (!a.date().equals(b.date())) {
+			return a.date().isBefore(b.date());
+		}
+		if (!a.time().equals(b.time())) {
+			return a.time().isBefore(b.time());
+		}
+		return a.id() < b.id();
+	}
+
+	private <T> T persist(T entity) {
+		entityManager.persist(entity);
+		return entity;
+	}
+}
@@ -0,0 +1,284 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.slot;
+
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.SlotUnavailableException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ReservationSlotIndexTest {
+
+	private static final LocalDate DAY = LocalDate.of(2030, 1, 15);
+	private static final Duration HOUR = Duration.ofMinutes(60);
+
+	private final AtomicLong ids = new AtomicLong();
+	private ReservationSlotIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ReservationSlotIndex(mock(ReservationRepository.class), 15);
+	}
+
+	@Test
+	void rejectsOverlappingSlotForSameProvider() {
+		index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved);
+
+		assertThrows(SlotUnavailableException.class, () -> index.book(1L, DAY, LocalTime.of(10, 30), HOUR, this::saved));
+		assertThrows(SlotUnavailableException.class, () -> index.book(1L, DAY, LocalTime.of(9, 31), HOUR, this::saved));
+	}
+
+	@Test
+	void acceptsAdjacentSlotsAndOtherProviders() {
+		index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved);
+
+		index.book(1L, DAY, LocalTime.of(11, 0), HOUR, this::saved);
+		index.book(1L, DAY, LocalTime.of(9, 0), HOUR, this::saved);
+		index.book(2L, DAY, LocalTime.of(10, 0), HOUR, this::saved);
+	}
+
+	@Test
+	void rescheduleIgnoresOwnSlotAndReleaseFreesIt() {
+		ReservationEntity reservation = index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved);
+
+		index.reschedule(1L, reservation.getId(), DAY, LocalTime.of(10, 30), HOUR, () -> reservation);
+		assertTrue(index.isAvailable(1L, DAY, LocalTime.of(9, 0), HOUR));
+		assertFalse(index.isAvailable(1L, DAY, LocalTime.of(11, 0), HOUR));
+
+		index.release(1L, reservation.getId());
+		assertTrue(index.isAvailable(1L, DAY, LocalTime.of(10, 30), HOUR));
+	}
+
+	@Test
+	void overlapUsesEachReservationsOwnDuration() {
+		index.book(1L, DAY, LocalTime.of(10, 0), Duration.ofMinutes(30), this::saved);
+
+		index.book(1L, DAY, LocalTime.of(10, 30), Duration.ofMinutes(90), this::saved);
+		assertThrows(SlotUnavailableException.class,
+				() -> index.book(1L, DAY, LocalTime.of(9, 0), Duration.ofMinutes(75), this::saved));
+		assertThrows(SlotUnavailableException.class,
+				() -> index.book(1L, DAY, LocalTime.of(11, 45), Duration.ofMinutes(15), this::saved));
+		assertTrue(index.isAvailable(1L, DAY, LocalTime.of(12, 0), Duration.ofMinutes(15)));
+	}
+
+	@Test
+	void dayBitmapsFollowBookingsReschedulesAndReleases() {
+		ReservationEntity morning = index.book(1L, DAY, LocalTime.of(9, 0), HOUR, this::saved);
+		index.book(1L, DAY, LocalTime.of(10, 0), Duration.ofMinutes(20), this::saved);
+
+		BitSet cells = index.bookedCells(1L, DAY, DAY).get(DAY);
+		assertEquals(BitSet.valueOf(new long[]{0b111111L << 36}), cells);
+
+		index.reschedule(1L, morning.getId(), DAY.plusDays(1), LocalTime.of(9, 0), HOUR, () -> morning);
+		assertEquals(2, index.bookedCells(1L, DAY, DAY).get(DAY).cardinality());
+		assertEquals(4, index.bookedCells(1L, DAY.plusDays(1), DAY.plusDays(1)).get(DAY.plusDays(1)).cardinality());
+
+		index.release(1L, morning.getId());
+		assertFalse(index.bookedCells(1L, DAY, DAY.plusDays(30)).containsKey(DAY.plusDays(1)));
+	}
+
+	@Test
+	void slotCrossingMidnightMarksBothDays() {
+		index.book(1L, DAY, LocalTime.of(23, 30), HOUR, this::saved);
+
+		var booked = index.bookedCells(1L, DAY, DAY.plusDays(1));
+
+		assertEquals(2, booked.get(DAY).cardinality());
+		assertTrue(booked.get(DAY).get(95));
+		assertEquals(2, booked.get(DAY.plusDays(1)).cardinality());
+		assertTrue(booked.get(DAY.plusDays(1)).get(0));
+	}
+
+	@Test
+	void failedWriteDoesNotHoldTheSlot() {
+		assertThrows(IllegalStateException.class, () -> index.book(1L, DAY, LocalTime.of(10, 0), HOUR, () -> {
+			throw new IllegalStateException("database down");
+		}));
+
+		assertTrue(index.isAvailable(1L, DAY, LocalTime.of(10, 0), HOUR));
+	}
+
+	@Test
+	void releaseFreesTheSlotOnlyOnceTheTransactionCommits() {
+		ReservationEntity reservation = index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved);
+
+		List<TransactionSynchronization> release = inTransaction(() -> index.release(1L, reservation.getId()));
+		assertThrows(SlotUnavailableException.class, () -> index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved));
+
+		complete(release, TransactionSynchronization.STATUS_COMMITTED);
+		assertTrue(index.isAvailable(1L, DAY, LocalTime.of(10, 0), HOUR));
+	}
+
+	@Test
+	void aTransactionMayRebookTheSlotItReleases() {
+		ReservationEntity reservation = index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved);
+
+		List<TransactionSynchronization> swap = inTransaction(() -> {
+			index.release(1L, reservation.getId());
+			index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved);
+			assertThrows(SlotUnavailableException.class, () -> index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved));
+		});
+		assertFalse(index.isAvailable(1L, DAY, LocalTime.of(10, 0), HOUR));
+
+		complete(swap, TransactionSynchronization.STATUS_ROLLED_BACK);
+		assertFalse(index.isAvailable(1L, DAY, LocalTime.of(10, 0), HOUR));
+		assertThrows(SlotUnavailableException.class, () -> index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved));
+	}
+
+	@Test
+	void rolledBackReleaseKeepsTheSlot() {
+		ReservationEntity reservation = index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved);
+
+		complete(inTransaction(() -> index.release(1L, reservation.getId())), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertFalse(index.isAvailable(1L, DAY, LocalTime.of(10, 0), HOUR));
+	}
+
+	@Test
+	void rescheduleHoldsBothSlotsUntilCommitAndRollbackDropsOnlyTheNewOne() {
+		ReservationEntity reservation = index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved);
+
+		List<TransactionSynchronization> move = inTransaction(() ->
+				index.reschedule(1L, reservation.getId(), DAY, LocalTime.of(12, 0), HOUR, () -> reservation));
+		// The old slot cannot be claimed by another booking while the move may still roll back
+		assertFalse(index.isAvailable(1L, DAY, LocalTime.of(10, 0), HOUR));
+		assertFalse(index.isAvailable(1L, DAY, LocalTime.of(12, 0), HOUR));
+
+		complete(move, TransactionSynchronization.STATUS_ROLLED_BACK);
+		assertFalse(index.isAvailable(1L, DAY, LocalTime.of(10, 0), HOUR));
+		assertTrue(index.isAvailable(1L, DAY, LocalTime.of(12, 0), HOUR));
+		assertEquals(4, index.bookedCells(1L, DAY, DAY).get(DAY).cardinality());
+
+		index.release(1L, reservation.getId());
+		assertTrue(index.isAvailable(1L, DAY, LocalTime.of(10, 0), HOUR));
+	}
+
+	@Test
+	void committedRescheduleFreesTheOldSlot() {
+		ReservationEntity reservation = index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved);
+
+		complete(inTransaction(() ->
+						index.reschedule(1L, reservation.getId(), DAY, LocalTime.of(12, 0), HOUR, () -> reservation)),
+				TransactionSynchronization.STATUS_COMMITTED);
+
+		assertTrue(index.isAvailable(1L, DAY, LocalTime.of(10, 0), HOUR));
+		assertFalse(index.isAvailable(1L, DAY, LocalTime.of(12, 0), HOUR));
+		assertEquals(4, index.bookedCells(1L, DAY, DAY).get(DAY).cardinality());
+	}
+
+	@Test
+	void rolledBackBookingFreesItsSlot() {
+		complete(inTransaction(() -> index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved)),
+				TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertTrue(index.isAvailable(1L, DAY, LocalTime.of(10, 0), HOUR));
+		assertTrue(index.bookedCells(1L, DAY, DAY).isEmpty());
+	}
+
+	@Test
+	void concurrentBookingsOfTheSameSlotHaveExactlyOneWinner() throws Exception {
+		int threads = 32;
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger winners = new AtomicInteger();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					try {
+						index.book(1L, DAY, LocalTime.of(10, 0), HOUR, this::saved);
+						winners.incrementAndGet();
+					} catch (SlotUnavailableException ignored) {
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+
+		assertEquals(1, winners.get());
+	}
+
+	@Test
+	void contendedBookingsAcrossManySlotsHaveOneWinnerPerSlot() throws Exception {
+		int slots = 8;
+		int contendersPerSlot = 16;
+		CountDownLatch start = new CountDownLatch(1);
+		Map<Integer, AtomicInteger> winners = new ConcurrentHashMap<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int contender = 0; contender < contendersPerSlot; contender++) {
+				for (int slot = 0; slot < slots; slot++) {
+					int hour = 8 + slot;
+					futures.add(executor.submit(() -> {
+						start.await();
+						try {
+							index.book(1L, DAY, LocalTime.of(hour, 0), HOUR, this::saved);
+							winners.computeIfAbsent(hour, h -> new AtomicInteger()).incrementAndGet();
+						} catch (SlotUnavailableException ignored) {
+						}
+						return null;
+					}));
+				}
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+
+		assertEquals(slots, winners.size());
+		winners.forEach((hour, count) -> assertEquals(1, count.get(), () -> "winners at " + hour + ":00"));
+		assertEquals(slots * 4, index.bookedCells(1L, DAY, DAY).get(DAY).cardinality());
+	}
+
+	// Runs work inside a transaction left open, returning what to call when it completes; other work on this thread
+	// meanwhile runs outside it, like a concurrent request
+	private static List<TransactionSynchronization> inTransaction(Runnable work) {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			work.run();
+			return TransactionSynchronizationManager.getSynchronizations();
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+			List.copyOf(TransactionSynchronizationManager.getResourceMap().keySet())
+					.forEach(TransactionSynchronizationManager::unbindResource);
+		}
+	}
+
+	private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+		if (status == TransactionSynchronization.STATUS_COMMITTED) {
+			synchronizations.forEach(TransactionSynchronization::afterCommit);
+		}
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+	}
+
+	private ReservationEntity saved() {
+		return ReservationEntity.builder().id(ids.incrementAndGet()).build();
+	}
+}
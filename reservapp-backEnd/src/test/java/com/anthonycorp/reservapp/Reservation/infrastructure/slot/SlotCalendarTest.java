@@ -0,0 +1,51 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.slot;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SlotCalendarTest {
+
+	private static final LocalDate DAY = LocalDate.of(2030, 1, 15);
+
+	private final SlotCalendar calendar = new SlotCalendar(15);
+
+	@Test
+	void partiallyCoveredCellsCountAsBooked() {
+		BitSet cells = calendar.emptyDay();
+
+		calendar.mark(cells, DAY, DAY.atTime(10, 5), DAY.atTime(10, 35));
+
+		assertEquals(BitSet.valueOf(new long[]{0b111L << 40}), cells);
+	}
+
+	@Test
+	void freeStartsStepByDurationAndSkipBookedCells() {
+		BitSet booked = calendar.emptyDay();
+		calendar.mark(booked, DAY, DAY.atTime(10, 0), DAY.atTime(11, 0));
+
+		List<LocalTime> starts = calendar.freeStarts(booked, LocalTime.of(9, 0), LocalTime.of(13, 0), Duration.ofMinutes(60));
+
+		assertEquals(List.of(LocalTime.of(9, 0), LocalTime.of(11, 0), LocalTime.of(12, 0)), starts);
+	}
+
+	@Test
+	void slotMustEndByClosingTime() {
+		List<LocalTime> starts = calendar.freeStarts(calendar.emptyDay(), LocalTime.of(22, 0), LocalTime.MIDNIGHT,
+				Duration.ofMinutes(90));
+
+		assertEquals(List.of(LocalTime.of(22, 0)), starts);
+	}
+
+	@Test
+	void cellMustDivideADay() {
+		assertThrows(IllegalArgumentException.class, () -> new SlotCalendar(7));
+	}
+}
@@ -0,0 +1,164 @@
+package com.anthonycorp.reservapp;
+
+import com.anthonycorp.reservapp.Config.database.SqlStatistics;
+import com.anthonycorp.reservapp.Reservation.domain.request.ReservationPageRequestDto;
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.pagination.ReservationCursor;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationSpecifications;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the Flyway migrations on PostgreSQL, seeds a realistically sized and analyzed data set, and checks that the
+ * SQL Hibernate generates for the ReservationRepository and ServiceRepository reads is planned on the index the
+ * migration created for it. The statements are captured as issued and explained with the values the call bound.
+ * Sequential scans stay enabled, so a plan only uses an index when the planner prefers it. Skipped when no Docker
+ * daemon is available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SchemaIndexUsageTest {
+
+	private static final Pattern INDEX = Pattern.compile("(?:Index|Index Only|Bitmap Index) Scan(?: Backward)? (?:using|on) (\\w+)");
+	private static final Pattern PLACEHOLDER = Pattern.compile("\\?");
+	private static final long SEEDED_IDS = 100_000;
+
+	@Container
+	@ServiceConnection
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ServiceRepository serviceRepository;
+
+	// 100 providers (g a multiple of 20) with 100 services and 500 reservations each, and 1000 customers (odd g) with
+	// 50 reservations each, all with ids past the ones the startup seed takes
+	@BeforeAll
+	void seed() {
+		jdbcTemplate.execute("INSERT INTO users (id, email, name, password, role_id) " +
+				"SELECT " + SEEDED_IDS + " + g, 'user' || g || '@test.com', 'user' || g, 'x', " +
+				"(SELECT id FROM roles WHERE role_name = CASE WHEN g % 20 = 0 THEN 'PROVIDER' ELSE 'CUSTOMER' END) " +
+				"FROM generate_series(1, 2000) g");
+		jdbcTemplate.execute("INSERT INTO services (id, title, description, price, provider_id, status) " +
+				"SELECT " + SEEDED_IDS + " + g, 'service' || g, 'd', 10, " + SEEDED_IDS + " + 20 * (1 + g % 100), 1 " +
+				"FROM generate_series(1, 10000) g");
+		jdbcTemplate.execute("INSERT INTO reservations (id, customer_id, provider_id, service_id, date, time, created_at, status) " +
+				"SELECT " + SEEDED_IDS + " + g, " + SEEDED_IDS + " + 1 + 2 * (g % 1000), " + SEEDED_IDS + " + 20 * (1 + g % 100), " +
+				SEEDED_IDS + " + 1 + g % 10000, DATE '2030-01-01' + g % 365, TIME '08:00' + (g % 10) * INTERVAL '1 hour', " +
+				"now(), 1 + g % 4 FROM generate_series(1, 50000) g");
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	@Test
+	void servicesByProviderUseProviderIndex() {
+		long providerId = SEEDED_IDS + 20;
+		String plan = plan(generatedSql(() -> serviceRepository.findAllByProviderId(providerId)), providerId);
+
+		assertTrue(indexesUsed(plan).contains("idx_services_provider"), plan);
+	}
+
+	@Test
+	void customerListingUsesCustomerKeysetIndex() {
+		long customerId = SEEDED_IDS + 3;
+		ReservationCursor cursor = new ReservationCursor(LocalDate.of(2030, 2, 1), LocalTime.of(10, 0), SEEDED_IDS + 100);
+		ReservationPageRequestDto request = new ReservationPageRequestDto(null, null, null, cursor.encode(), 20);
+		String sql = generatedSql(() -> reservationRepository.findRowPage(
+				ReservationSpecifications.customer(UserEntity.builder().id(customerId).build()), request));
+		String plan = plan(sql, customerId, cursor.date(), cursor.date(), cursor.time(), cursor.date(), cursor.time(),
+				cursor.id(), 21);
+
+		assertTrue(indexesUsed(plan).contains("idx_reservations_customer_keyset"), plan);
+	}
+
+	@Test
+	void providerListingUsesProviderKeysetIndex() {
+		String sql = generatedSql(() -> reservationRepository.findRowPage(
+				ReservationSpecifications.providerEmail("user20@test.com"),
+				new ReservationPageRequestDto(null, null, null, null, 20)));
+		String plan = plan(sql, "user20@test.com", 21);
+
+		assertTrue(indexesUsed(plan).contains("idx_reservations_provider_keyset"), plan);
+	}
+
+	@Test
+	void providerListingByStatusUsesProviderStatusIndex() {
+		String sql = generatedSql(() -> reservationRepository.findRowPage(
+				ReservationSpecifications.providerEmail("user20@test.com"),
+				new ReservationPageRequestDto(ReservationStatus.ACCEPTED, null, null, null, 20)));
+		String plan = plan(sql, "user20@test.com", ReservationStatus.ACCEPTED.getCode(), 21);
+
+		assertTrue(indexesUsed(plan).contains("idx_reservations_provider_status_keyset"), plan);
+	}
+
+	@Test
+	void reservationOfCustomerUsesPrimaryKeyAndEmailIndex() {
+		long reservationId = SEEDED_IDS + 10;
+		String sql = generatedSql(() -> reservationRepository.findByIdAndCustomerEmail(reservationId, "user21@test.com"));
+		String plan = plan(sql, reservationId, "user21@test.com");
+
+		List<String> indexes = indexesUsed(plan);
+		assertTrue(indexes.contains("reservations_pkey") && indexes.contains("uk_users_email"), plan);
+	}
+
+	// The query the repository method issued, with Hibernate's JDBC placeholders; loads of eager associations follow it
+	private String generatedSql(Runnable repositoryCall) {
+		try (SqlStatistics statistics = SqlStatistics.open()) {
+			repositoryCall.run();
+			return statistics.getSql().get(0);
+		}
+	}
+
+	private static List<String> indexesUsed(String plan) {
+		return INDEX.matcher(plan).results().map(match -> match.group(1)).toList();
+	}
+
+	// Explains the statement with the values the repository call bound, in placeholder order, as PostgreSQL plans it
+	// on each execution
+	private String plan(String sql, Object... values) {
+		Matcher placeholders = PLACEHOLDER.matcher(sql);
+		StringBuilder bound = new StringBuilder();
+		int next = 0;
+		while (placeholders.find()) {
+			assertTrue(next < values.length, () -> "More placeholders than values in " + sql);
+			placeholders.appendReplacement(bound, Matcher.quoteReplacement(literal(values[next++])));
+		}
+		placeholders.appendTail(bound);
+		assertEquals(values.length, next, () -> "Fewer placeholders than values in " + sql);
+		return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + bound, String.class));
+	}
+
+	private static String literal(Object value) {
+		return value instanceof Number ? value.toString() : "'" + value.toString().replace("'", "''") + "'";
+	}
+}
@@ -0,0 +1,157 @@
+package com.anthonycorp.reservapp.Service.application.ImportServices;
+
+import com.anthonycorp.reservapp.Config.metrics.UseCaseTimingPostProcessor;
+import com.anthonycorp.reservapp.Config.thread.Bulkheads;
+import com.anthonycorp.reservapp.Service.infrastructure.cache.ServiceCatalogCache;
+import com.anthonycorp.reservapp.Service.infrastructure.mapper.ServiceMapperImpl;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import com.anthonycorp.reservapp.Service.infrastructure.search.ServiceSearchIndex;
+import com.anthonycorp.reservapp.User.domain.Role.RoleEnum;
+import com.anthonycorp.reservapp.User.infrastructure.model.RoleEntity;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import com.anthonycorp.reservapp.User.infrastructure.repository.RoleRepository;
+import com.anthonycorp.reservapp.User.infrastructure.repository.UserRepository;
+import com.anthonycorp.reservapp.Utils.dto.ImportErrorDto;
+import com.anthonycorp.reservapp.Utils.dto.ImportReportDto;
+import com.anthonycorp.reservapp.Utils.imports.BatchImporter;
+import com.anthonycorp.reservapp.Utils.imports.ImportFormat;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Runs outside a test transaction so every import batch really commits
+@DataJpaTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true", "import.batch-size=200"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({ImportServicesUseCaseImpl.class, BatchImporter.class, Bulkheads.class,
+		ServiceSearchIndex.class, ServiceMapperImpl.class, ServiceCatalogCache.class, ResourceVersions.class,
+		UseCaseTimingPostProcessor.class, ImportServicesUseCaseImplTest.Metrics.class})
+class ImportServicesUseCaseImplTest {
+
+	private static final int ROWS = 1000;
+
+	@Autowired
+	private ImportServicesUseCase importServicesUseCase;
+
+	@Autowired
+	private ServiceRepository serviceRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private ServiceSearchIndex serviceSearchIndex;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		RoleEntity providerRole = roleRepository.save(RoleEntity.builder().role(RoleEnum.PROVIDER).build());
+		userRepository.save(UserEntity.builder().name("provider").email("provider@test.com").password("x")
+				.roleEntity(providerRole).build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		serviceRepository.deleteAllInBatch();
+		userRepository.deleteAllInBatch();
+		roleRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void importsValidRowsInBatchesAndReportsTheRejectedLines() {
+		StringBuilder csv = new StringBuilder("title,description,price,slot_duration_minutes\n");
+		for (int i = 0; i < ROWS; i++) {
+			// Data rows start on line 2, after the header
+			long line = i + 2;
+			if (line == 10) {
+				csv.append("Corte,\"Con lavado, \"\"premium\"\"\",-1,30\n");
+			} else if (line == 500) {
+				csv.append(",Sin titulo,10,30\n");
+			} else if (line == 750) {
+				csv.append("Tinte,Color,caro,30\n");
+			} else if (line == 900) {
+				csv.append("Peinado,Solo tres columnas\n");
+			} else {
+				csv.append("Servicio ").append(i).append(",\"Descripción, número ").append(i).append("\",")
+						.append(10 + i % 50).append(",\n");
+			}
+		}
+		statistics.clear();
+
+		ImportReportDto report = importServicesUseCase.execute(ImportFormat.CSV,
+				new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), "provider@test.com");
+
+		// One provider lookup, one sequence call per 50 ids and one batched insert per 200-row transaction
+		assertEquals(1 + 20 + 5, statistics.getPrepareStatementCount());
+		assertEquals(ROWS, report.getReceived());
+		assertEquals(ROWS - 4, report.getImported());
+		assertEquals(4, report.getRejected());
+		assertEquals(List.of(10L, 500L, 750L, 900L), report.getErrors().stream().map(ImportErrorDto::getLine).toList());
+		assertEquals("price: The price must be greater than or equal to 0", report.getErrors().get(0).getMessage());
+		assertEquals("Invalid value for price", report.getErrors().get(2).getMessage());
+		assertEquals(ROWS - 4, serviceRepository.count());
+		assertEquals(ROWS - 4, serviceSearchIndex.size());
+		assertEquals(1, meterRegistry.get("usecase.execution").tag("use.case", "ImportServicesUseCase")
+				.tag("method", "execute").tag("outcome", "success").timer().count());
+	}
+
+	@Test
+	void readsNdjsonAndDefaultsTheSlotDuration() {
+		String ndjson = """
+				{"title": "Corte", "description": "Corte clásico", "price": 15}
+				{"title": "Barba", "description": "Arreglo", "price": 8.5, "slot_duration_minutes": 30}
+				not json
+				""";
+
+		ImportReportDto report = importServicesUseCase.execute(ImportFormat.NDJSON,
+				new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), "provider@test.com");
+
+		assertEquals(2, report.getImported());
+		assertEquals(3L, report.getErrors().get(0).getLine());
+		assertEquals(List.of(60, 30), serviceRepository.findAll().stream()
+				.sorted((a, b) -> a.getId().compareTo(b.getId()))
+				.map(service -> service.getSlotDurationMinutes())
+				.toList());
+	}
+
+	@TestConfiguration
+	static class Metrics {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.anthonycorp.reservapp.Service.infrastructure.cache;
+
+import com.anthonycorp.reservapp.Service.domain.response.ServiceResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServiceCatalogCacheTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ServiceCatalogCache cache = new ServiceCatalogCache(meterRegistry, 600);
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void coldCacheUnderLoadRunsOneQuery() throws Exception {
+		int callers = 200;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(32);
+		try {
+			List<Future<List<ServiceResponseDto>>> results = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return cache.get(this::slowLoad);
+				}));
+			}
+			start.countDown();
+			List<ServiceResponseDto> first = results.get(0).get();
+			for (Future<List<ServiceResponseDto>> result : results) {
+				assertSame(first, result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void invalidationForcesReload() {
+		cache.get(this::load);
+		cache.get(this::load);
+		cache.invalidate();
+		cache.get(this::load);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void cachedCatalogIsReadOnly() {
+		List<ServiceResponseDto> catalog = cache.get(this::load);
+
+		assertThrows(UnsupportedOperationException.class, () -> catalog.add(new ServiceResponseDto()));
+	}
+
+	@Test
+	void exportsHitAndMissMetrics() {
+		cache.get(this::load);
+		cache.get(this::load);
+
+		assertNotNull(meterRegistry.find("cache.gets").tag("cache", "serviceCatalog").tag("result", "hit").functionCounter());
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "serviceCatalog").tag("result", "hit")
+				.functionCounter().count());
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "serviceCatalog").tag("result", "miss")
+				.functionCounter().count());
+	}
+
+	private List<ServiceResponseDto> load() {
+		loads.incrementAndGet();
+		return List.of(ServiceResponseDto.builder().id(1L).title("Corte").providerName("Luis").build());
+	}
+
+	private List<ServiceResponseDto> slowLoad() {
+		try {
+			Thread.sleep(50);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return load();
+	}
+}
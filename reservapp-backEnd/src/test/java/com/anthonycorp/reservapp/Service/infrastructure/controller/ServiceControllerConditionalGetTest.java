@@ -0,0 +1,72 @@
+package com.anthonycorp.reservapp.Service.infrastructure.controller;
+
+import com.anthonycorp.reservapp.Service.application.CreateService.CreateServiceUseCase;
+import com.anthonycorp.reservapp.Service.application.DeleteService.DeleteServiceUseCase;
+import com.anthonycorp.reservapp.Service.application.GetAllServices.GetAllServicesUseCase;
+import com.anthonycorp.reservapp.Service.application.GetServiceAvailability.GetServiceAvailabilityUseCase;
+import com.anthonycorp.reservapp.Service.application.GetServicesByProvider.GetServicesByProviderUseCase;
+import com.anthonycorp.reservapp.Service.application.ImportServices.ImportServicesUseCase;
+import com.anthonycorp.reservapp.Service.application.SearchServices.SearchServicesUseCase;
+import com.anthonycorp.reservapp.Service.application.UpdateService.UpdateServiceUseCase;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceResponseDto;
+import com.anthonycorp.reservapp.Utils.web.ResourceVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ServiceControllerConditionalGetTest {
+
+	private final GetAllServicesUseCase getAllServicesUseCase = mock(GetAllServicesUseCase.class);
+	private final ResourceVersions resourceVersions = new ResourceVersions();
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		when(getAllServicesUseCase.execute()).thenReturn(List.of(ServiceResponseDto.builder().id(1L).title("Corte").build()));
+		ServiceController controller = new ServiceController(mock(CreateServiceUseCase.class), mock(DeleteServiceUseCase.class),
+				mock(UpdateServiceUseCase.class), mock(GetServicesByProviderUseCase.class), getAllServicesUseCase,
+				mock(SearchServicesUseCase.class), mock(GetServiceAvailabilityUseCase.class), mock(ImportServicesUseCase.class),
+				resourceVersions);
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+	@Test
+	void matchingEtagIsAnsweredWithoutLoadingTheCatalog() throws Exception {
+		String etag = mockMvc.perform(get("/services"))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/services").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, etag));
+
+		verify(getAllServicesUseCase, times(1)).execute();
+	}
+
+	@Test
+	void writeInvalidatesTheEtag() throws Exception {
+		String etag = mockMvc.perform(get("/services")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		resourceVersions.advance(ResourceVersions.SERVICE_CATALOG);
+
+		String fresh = mockMvc.perform(get("/services").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotEquals(etag, fresh);
+		verify(getAllServicesUseCase, times(2)).execute();
+	}
+}
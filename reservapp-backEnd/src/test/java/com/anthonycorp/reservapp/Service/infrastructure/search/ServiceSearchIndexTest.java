@@ -0,0 +1,116 @@
+package com.anthonycorp.reservapp.Service.infrastructure.search;
+
+import com.anthonycorp.reservapp.Service.domain.request.ServiceSearchRequestDto;
+import com.anthonycorp.reservapp.Service.domain.response.PriceFacetDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceResponseDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceSearchResponseDto;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.mapper.ServiceMapper;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ServiceSearchIndexTest {
+
+	private ServiceSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ServiceSearchIndex(mock(ServiceRepository.class), mock(ServiceMapper.class));
+		index.index(service(1L, "Corte de cabello", "Corte clásico con tijera", 20.0, "ACTIVE"));
+		index.index(service(2L, "Masaje relajante", "Masaje de espalda y cuello", 60.0, "ACTIVE"));
+		index.index(service(3L, "Manicura", "Incluye masaje de manos", 30.0, "INACTIVE"));
+		index.index(service(4L, "Coloración", "Tinte y corte incluido", 120.0, "ACTIVE"));
+	}
+
+	@Test
+	void matchesEveryTermIgnoringCaseAndAccents() {
+		assertEquals(List.of(4L), ids(search("COLORACION tinte")));
+		assertEquals(List.of(1L), ids(search("clasico corte")));
+		assertEquals(List.of(), ids(search("corte masaje")));
+	}
+
+	@Test
+	void ranksTitleMatchesFirst() {
+		ServiceSearchResponseDto result = search("masaje");
+
+		assertEquals(List.of(2L, 3L), ids(result));
+		assertEquals(2, result.getTotal());
+	}
+
+	@Test
+	void facetsCountTextMatchesBeforeFilters() {
+		ServiceSearchRequestDto request = request("corte");
+		request.setMinPrice(50.0);
+
+		ServiceSearchResponseDto result = index.search(request);
+
+		assertEquals(List.of(4L), ids(result));
+		assertEquals(2L, result.getStatusFacets().get("ACTIVE"));
+		assertEquals(0L, result.getStatusFacets().get("INACTIVE"));
+		assertEquals(List.of(1L, 0L, 0L, 1L, 0L), result.getPriceFacets().stream().map(PriceFacetDto::getCount).toList());
+	}
+
+	@Test
+	void emptyQueryFiltersTheWholeCatalogAndPages() {
+		ServiceSearchRequestDto request = request(null);
+		request.setStatus(ServiceStatus.ACTIVE);
+		request.setSize(2);
+		request.setPage(1);
+
+		ServiceSearchResponseDto result = index.search(request);
+
+		assertEquals(3, result.getTotal());
+		assertEquals(List.of(4L), ids(result));
+	}
+
+	@Test
+	void reindexingReplacesTermsAndRemovalDropsTheService() {
+		index.index(service(1L, "Afeitado", "Navaja y toalla caliente", 15.0, "ACTIVE"));
+		index.remove(2L);
+
+		assertTrue(ids(search("corte")).stream().noneMatch(id -> id == 1L));
+		assertEquals(List.of(1L), ids(search("navaja")));
+		assertEquals(List.of(3L), ids(search("masaje")));
+		assertEquals(3, index.size());
+	}
+
+	@Test
+	void providerRenameIsReflectedInResults() {
+		index.updateProviderName(7L, "Ana");
+
+		assertEquals("Ana", search("manicura").getItems().get(0).getProviderName());
+	}
+
+	private ServiceSearchResponseDto search(String q) {
+		return index.search(request(q));
+	}
+
+	private static ServiceSearchRequestDto request(String q) {
+		ServiceSearchRequestDto request = new ServiceSearchRequestDto();
+		request.setQ(q);
+		return request;
+	}
+
+	private static List<Long> ids(ServiceSearchResponseDto result) {
+		return result.getItems().stream().map(ServiceResponseDto::getId).toList();
+	}
+
+	private static ServiceResponseDto service(Long id, String title, String description, double price, String status) {
+		return ServiceResponseDto.builder()
+				.id(id)
+				.title(title)
+				.description(description)
+				.price(price)
+				.providerId(7L)
+				.providerName("Provider")
+				.status(status)
+				.build();
+	}
+}
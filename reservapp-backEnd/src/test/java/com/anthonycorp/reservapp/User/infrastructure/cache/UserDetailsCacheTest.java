@@ -0,0 +1,86 @@
+package com.anthonycorp.reservapp.User.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UserDetailsCacheTest {
+
+	private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+	private final AtomicInteger loads = new AtomicInteger();
+	private String email = "ana@test.com";
+
+	private UserDetailsCache cache;
+	private ProviderManager authenticationManager;
+
+	@BeforeEach
+	void setUp() {
+		cache = new UserDetailsCache(new SimpleMeterRegistry(), 100, 300);
+		String hash = passwordEncoder.encode("secret");
+		UserDetailsService userDetailsService = username -> {
+			loads.incrementAndGet();
+			return User.withUsername(email).password(hash).roles("CUSTOMER").build();
+		};
+		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+		provider.setPasswordEncoder(passwordEncoder);
+		provider.setUserDetailsService(userDetailsService);
+		provider.setUserCache(cache);
+		authenticationManager = new ProviderManager(provider);
+	}
+
+	@Test
+	void repeatedLoginsLoadTheUserOnce() {
+		for (int i = 0; i < 5; i++) {
+			login("secret");
+		}
+
+		assertEquals(1, loads.get());
+		assertEquals(4, cache.hitCount());
+		assertEquals(1, cache.missCount());
+	}
+
+	@Test
+	void erasedCredentialsDoNotLeakIntoTheCache() {
+		login("secret");
+
+		assertNotNull(cache.getUserFromCache(email).getPassword());
+		login("secret");
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void removedUserIsLoadedAgain() {
+		login("secret");
+		cache.removeUserFromCache(email);
+
+		assertNull(cache.getUserFromCache(email));
+		login("secret");
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void entriesExpireAfterTtl() throws InterruptedException {
+		UserDetailsCache shortLived = new UserDetailsCache(new SimpleMeterRegistry(), 100, 0);
+		shortLived.putUserInCache(User.withUsername(email).password("x").roles("CUSTOMER").build());
+		Thread.sleep(5);
+
+		assertNull(shortLived.getUserFromCache(email));
+	}
+
+	private void login(String password) {
+		authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(email, password));
+	}
+}
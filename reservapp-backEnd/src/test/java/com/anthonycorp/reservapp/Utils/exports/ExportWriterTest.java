@@ -0,0 +1,42 @@
+package com.anthonycorp.reservapp.Utils.exports;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExportWriterTest {
+
+	private static final List<String> COLUMNS = List.of("id", "name", "date");
+
+	@Test
+	void csvQuotesOnlyTheFieldsThatNeedIt() throws IOException {
+		String csv = export(ExportFormat.CSV);
+
+		assertEquals("id,name,date\r\n"
+				+ "1,\"Pérez, \"\"Juan\"\"\",2030-01-01\r\n"
+				+ "2,,2030-01-02\r\n", csv);
+	}
+
+	@Test
+	void ndjsonWritesOneTypedObjectPerLine() throws IOException {
+		String ndjson = export(ExportFormat.NDJSON);
+
+		assertEquals("{\"id\":1,\"name\":\"Pérez, \\\"Juan\\\"\",\"date\":\"2030-01-01\"}\n"
+				+ "{\"id\":2,\"name\":null,\"date\":\"2030-01-02\"}\n", ndjson);
+	}
+
+	private String export(ExportFormat format) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ExportWriter writer = ExportWriter.open(format, output, COLUMNS);
+		writer.write(1L, "Pérez, \"Juan\"", LocalDate.of(2030, 1, 1));
+		writer.write(2L, null, LocalDate.of(2030, 1, 2));
+		writer.flush();
+		return output.toString(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,88 @@
+package com.anthonycorp.reservapp.Utils.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImportReaderTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void csvHandlesQuotesLineBreaksAndEmptyFields() throws IOException {
+		String csv = "title,description,price\r\n"
+				+ "Corte,\"Con lavado, \"\"premium\"\"\",10\r\n"
+				+ "\n"
+				+ "Tinte,\"Dos\nlineas\",\r\n"
+				+ "Barba,Arreglo,5";
+
+		try (ImportReader reader = open(ImportFormat.CSV, csv)) {
+			ImportRecord first = reader.next();
+			assertEquals(2, first.line());
+			assertEquals(Map.of("title", "Corte", "description", "Con lavado, \"premium\"", "price", "10"), first.fields());
+
+			ImportRecord second = reader.next();
+			assertEquals(4, second.line());
+			assertEquals("Dos\nlineas", second.fields().get("description"));
+			assertNull(second.fields().get("price"));
+
+			assertEquals(6, reader.next().line());
+			assertNull(reader.next());
+		}
+	}
+
+	@Test
+	void csvSkipsPastARowWithTheWrongNumberOfColumns() throws IOException {
+		try (ImportReader reader = open(ImportFormat.CSV, "title,price\nCorte\nBarba,5\n")) {
+			ImportRowException error = assertThrows(ImportRowException.class, reader::next);
+			assertEquals(2, error.getLine());
+			assertEquals("Barba", reader.next().fields().get("title"));
+		}
+	}
+
+	@Test
+	void ndjsonReportsMalformedLinesAndKeepsReading() throws IOException {
+		String ndjson = "{\"title\": \"Corte\", \"price\": 10, \"slot_duration_minutes\": null}\n"
+				+ "\n"
+				+ "{\"title\": \n"
+				+ "{\"title\": [\"Barba\"]}\n"
+				+ "{\"title\": \"Tinte\"}\n";
+
+		try (ImportReader reader = open(ImportFormat.NDJSON, ndjson)) {
+			ImportRecord first = reader.next();
+			assertEquals(1, first.line());
+			assertEquals("10", first.fields().get("price"));
+			assertNull(first.fields().get("slot_duration_minutes"));
+			assertEquals(3, assertThrows(ImportRowException.class, reader::next).getLine());
+			assertEquals(4, assertThrows(ImportRowException.class, reader::next).getLine());
+			assertEquals(5, reader.next().line());
+			assertNull(reader.next());
+		}
+	}
+
+	@Test
+	void ndjsonRejectsAnOverlongLineAndResumesAfterIt() throws IOException {
+		String ndjson = "{\"title\": \"" + "x".repeat(ImportReader.MAX_ROW_CHARS) + "\"}\r\n"
+				+ "{\"title\": \"Tinte\"}\r\n";
+
+		try (ImportReader reader = open(ImportFormat.NDJSON, ndjson)) {
+			assertEquals(1, assertThrows(ImportRowException.class, reader::next).getLine());
+			ImportRecord next = reader.next();
+			assertEquals(2, next.line());
+			assertEquals("Tinte", next.fields().get("title"));
+			assertNull(reader.next());
+		}
+	}
+
+	private ImportReader open(ImportFormat format, String content) {
+		return ImportReader.open(format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), objectMapper);
+	}
+}
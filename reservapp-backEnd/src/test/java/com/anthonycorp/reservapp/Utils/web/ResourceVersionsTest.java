@@ -0,0 +1,59 @@
+package com.anthonycorp.reservapp.Utils.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ResourceVersionsTest {
+
+	private final ResourceVersions versions = new ResourceVersions();
+
+	@Test
+	void advancingAResourceChangesOnlyItsEtags() {
+		String catalog = versions.etag(null, ResourceVersions.SERVICE_CATALOG);
+		String reservations = versions.etag("ana?size=20", ResourceVersions.customerReservations("ana"));
+
+		versions.advance(ResourceVersions.SERVICE_CATALOG);
+
+		assertNotEquals(catalog, versions.etag(null, ResourceVersions.SERVICE_CATALOG));
+		assertEquals(reservations, versions.etag("ana?size=20", ResourceVersions.customerReservations("ana")));
+	}
+
+	@Test
+	void etagDependsOnTheQuery() {
+		assertNotEquals(versions.etag("ana?size=20", ResourceVersions.customerReservations("ana")),
+				versions.etag("ana?size=50", ResourceVersions.customerReservations("ana")));
+		// Same String.hashCode, different queries
+		assertEquals("Aa".hashCode(), "BB".hashCode());
+		assertNotEquals(versions.etag("ana?cursor=Aa", ResourceVersions.customerReservations("ana")),
+				versions.etag("ana?cursor=BB", ResourceVersions.customerReservations("ana")));
+	}
+
+	@Test
+	void advanceAllChangesEveryEtag() {
+		String catalog = versions.etag(null, ResourceVersions.SERVICE_CATALOG);
+
+		versions.advanceAll();
+
+		assertNotEquals(catalog, versions.etag(null, ResourceVersions.SERVICE_CATALOG));
+	}
+
+	@Test
+	void insideATransactionTheVersionMovesOnlyAfterCommit() {
+		String before = versions.etag(null, ResourceVersions.SERVICE_CATALOG);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			versions.advance(ResourceVersions.SERVICE_CATALOG);
+			assertEquals(before, versions.etag(null, ResourceVersions.SERVICE_CATALOG));
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertNotEquals(before, versions.etag(null, ResourceVersions.SERVICE_CATALOG));
+	}
+}
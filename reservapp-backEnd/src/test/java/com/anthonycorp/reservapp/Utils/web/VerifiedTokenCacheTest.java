@@ -0,0 +1,102 @@
+package com.anthonycorp.reservapp.Utils.web;
+
+import com.anthonycorp.reservapp.Utils.exception.TokenExpiredException;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VerifiedTokenCacheTest {
+
+	private static final String KEY = "test-secret";
+	private static final String ISSUER = "reservapp-test";
+
+	@Test
+	void repeatedTokenIsVerifiedOnce() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(100);
+		AtomicInteger verifications = new AtomicInteger();
+		VerifiedToken token = new VerifiedToken("ana@test.com", List.of(), Instant.now().plusSeconds(60));
+
+		for (int i = 0; i < 10; i++) {
+			assertSame(token, cache.get("token", t -> {
+				verifications.incrementAndGet();
+				return token;
+			}));
+		}
+
+		assertEquals(1, verifications.get());
+	}
+
+	@Test
+	void expiredEntryIsVerifiedAgain() throws InterruptedException {
+		VerifiedTokenCache cache = new VerifiedTokenCache(100);
+		AtomicInteger verifications = new AtomicInteger();
+
+		for (int i = 0; i < 2; i++) {
+			cache.get("token", t -> {
+				verifications.incrementAndGet();
+				return new VerifiedToken("ana@test.com", List.of(), Instant.now().plusMillis(20));
+			});
+			Thread.sleep(40);
+		}
+
+		assertEquals(2, verifications.get());
+	}
+
+	@Test
+	void zeroSizeDisablesCaching() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(0);
+		AtomicInteger verifications = new AtomicInteger();
+		VerifiedToken token = new VerifiedToken("ana@test.com", List.of(), Instant.now().plusSeconds(60));
+
+		cache.get("token", t -> { verifications.incrementAndGet(); return token; });
+		cache.get("token", t -> { verifications.incrementAndGet(); return token; });
+
+		assertEquals(2, verifications.get());
+	}
+
+	@Test
+	void jwtUtilsCachesOnlyValidTokens() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(100);
+		JwtUtils jwtUtils = jwtUtils(cache);
+		String token = jwtUtils.createToken(new UsernamePasswordAuthenticationToken("ana@test.com", null,
+				AuthorityUtils.createAuthorityList("ROLE_CUSTOMER")));
+
+		VerifiedToken verified = jwtUtils.verify(token);
+
+		assertEquals("ana@test.com", verified.username());
+		assertEquals(AuthorityUtils.createAuthorityList("ROLE_CUSTOMER"), verified.authorities());
+		assertSame(verified, jwtUtils.verify(token));
+		assertThrows(JWTVerificationException.class, () -> jwtUtils.verify(token + "x"));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void expiredTokenIsRejected() {
+		JwtUtils jwtUtils = jwtUtils(new VerifiedTokenCache(100));
+		String expired = JWT.create().withIssuer(ISSUER).withSubject("ana@test.com").withClaim("role", "ROLE_CUSTOMER")
+				.withExpiresAt(Instant.now().minusSeconds(5)).sign(Algorithm.HMAC256(KEY));
+
+		assertThrows(TokenExpiredException.class, () -> jwtUtils.verify(expired));
+	}
+
+	static JwtUtils jwtUtils(VerifiedTokenCache cache) {
+		JwtUtils jwtUtils = new JwtUtils(cache, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(jwtUtils, "privateKey", KEY);
+		ReflectionTestUtils.setField(jwtUtils, "userGenerator", ISSUER);
+		jwtUtils.init();
+		return jwtUtils;
+	}
+}
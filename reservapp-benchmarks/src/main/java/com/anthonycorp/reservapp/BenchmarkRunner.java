@@ -0,0 +1,37 @@
+package com.anthonycorp.reservapp;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Takes the usual JMH command line, for example
+ * {@code java -jar target/benchmarks.jar JwtUtilsBenchmark -f 1}, and writes the results as JSON to
+ * {@code target/jmh-result.json} unless {@code -rf} or {@code -rff} say otherwise, so runs can be compared.
+ */
+public final class BenchmarkRunner {
+
+	private static final Path DEFAULT_RESULT = Path.of("target", "jmh-result.json");
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+		if (commandLine.getResultFormat().hasValue() || commandLine.getResult().hasValue()) {
+			new Runner(options.build()).run();
+			return;
+		}
+		Files.createDirectories(DEFAULT_RESULT.getParent());
+		new Runner(options
+				.resultFormat(ResultFormatType.JSON)
+				.result(DEFAULT_RESULT.toString())
+				.build()).run();
+	}
+}
@@ -0,0 +1,69 @@
+package com.anthonycorp.reservapp.Config.web.filter;
+
+import com.anthonycorp.reservapp.Utils.web.JwtUtils;
+import com.anthonycorp.reservapp.Utils.web.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs an authenticated request through {@link JwtTokenValidator} with the verified-token cache enabled and disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenValidatorBenchmark {
+
+	@Param({"0", "10000"})
+	public long cacheSize;
+
+	private JwtTokenValidator validator;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+	private FilterChain chain;
+
+	@Setup
+	public void setUp() {
+		JwtUtils jwtUtils = new JwtUtils(new VerifiedTokenCache(cacheSize), new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(jwtUtils, "privateKey", "benchmark-secret");
+		ReflectionTestUtils.setField(jwtUtils, "userGenerator", "reservapp-benchmark");
+		jwtUtils.init();
+		String token = jwtUtils.createToken(new UsernamePasswordAuthenticationToken("ana@test.com", null,
+				AuthorityUtils.createAuthorityList("ROLE_CUSTOMER")));
+
+		validator = new JwtTokenValidator(jwtUtils);
+		request = new MockHttpServletRequest("GET", "/reservations/me");
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+		response = new MockHttpServletResponse();
+		chain = (req, res) -> SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public void filter() throws Exception {
+		// OncePerRequestFilter marks the request as filtered, clear it so every invocation runs the filter body
+		request.removeAttribute(JwtTokenValidator.class.getName() + ".FILTERED");
+		validator.doFilter(request, response, chain);
+	}
+}
@@ -0,0 +1,94 @@
+package com.anthonycorp.reservapp;
+
+import com.anthonycorp.reservapp.Reservation.domain.response.ProviderReservationDto;
+import com.anthonycorp.reservapp.Reservation.domain.response.ReservationResponseDto;
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes reservation listings the way the controllers return them, with the {@code spring.jackson} settings of
+ * application.yml: {@code SNAKE_CASE} names and {@code non_null} inclusion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+	private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+
+	@Param({"20", "500"})
+	public int size;
+
+	private ObjectMapper objectMapper;
+	private List<ReservationResponseDto> reservations;
+	private List<ProviderReservationDto> providerReservations;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new Jackson2ObjectMapperBuilder()
+				.propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+				.serializationInclusion(JsonInclude.Include.NON_NULL)
+				.build();
+		reservations = new ArrayList<>(size);
+		providerReservations = new ArrayList<>(size);
+		for (long id = 1; id <= size; id++) {
+			LocalDate date = LocalDate.of(2025, 6, 1).plusDays(id % 30);
+			LocalTime time = LocalTime.of(8 + (int) (id % 10), 0);
+			ReservationStatus status = STATUSES[(int) (id % STATUSES.length)];
+			reservations.add(ReservationResponseDto.builder()
+					.id(id)
+					.customerName("Customer " + id)
+					.providerName("Provider " + id % 50)
+					.serviceTitle("Corte de pelo " + id % 20)
+					.date(date.toString())
+					.time(time.toString())
+					.status(status.name())
+					.build());
+			providerReservations.add(ProviderReservationDto.builder()
+					.id(id)
+					.customerName("Customer " + id)
+					.customerEmail("customer" + id + "@test.com")
+					.serviceName("Corte de pelo " + id % 20)
+					.reservationDateTime(LocalDateTime.of(date, time))
+					.status(status)
+					// Most reservations carry no notes, which NON_NULL leaves out of the payload
+					.notes(id % 4 == 0 ? "Traer referencia del corte" : null)
+					.build());
+		}
+	}
+
+	@Benchmark
+	public byte[] reservationResponses() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(reservations);
+	}
+
+	@Benchmark
+	public byte[] providerReservations() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(providerReservations);
+	}
+}
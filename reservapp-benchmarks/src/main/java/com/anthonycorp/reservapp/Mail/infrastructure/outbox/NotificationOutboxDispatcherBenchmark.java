@@ -0,0 +1,106 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.outbox;
+
+import com.anthonycorp.reservapp.Mail.domain.status.OutboxStatus;
+import com.anthonycorp.reservapp.Mail.infrastructure.model.NotificationOutboxEntity;
+import com.anthonycorp.reservapp.Mail.infrastructure.repository.NotificationOutboxRepository;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Dispatches one outbox batch into a local GreenMail SMTP server: claiming, building the messages, sending them over
+ * one connection and settling. The repository is a stub that always has a full batch due, so the score is the
+ * dispatcher and SMTP cost of a batch without the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationOutboxDispatcherBenchmark {
+
+	private static final int SMTP_PORT = 3925;
+
+	@Param({"1", "50"})
+	private int batchSize;
+
+	private final AtomicLong ids = new AtomicLong();
+	private GreenMail greenMail;
+	private NotificationOutboxDispatcher dispatcher;
+
+	@Setup
+	public void setUp() {
+		greenMail = new GreenMail(new ServerSetup(SMTP_PORT, "127.0.0.1", ServerSetup.PROTOCOL_SMTP));
+		greenMail.start();
+		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+		mailSender.setHost("127.0.0.1");
+		mailSender.setPort(SMTP_PORT);
+
+		NotificationOutboxRepository repository = mock(NotificationOutboxRepository.class);
+		when(repository.claimDue(anyShort(), any(), anyInt())).thenAnswer(invocation -> batch());
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		dispatcher = new NotificationOutboxDispatcher(repository, mailSender,
+				mock(PlatformTransactionManager.class), meterRegistry, batchSize, 8, 120_000, 5_000, 1_800_000, 15_000);
+	}
+
+	@TearDown(Level.Iteration)
+	public void purge() throws Exception {
+		greenMail.purgeEmailFromAllMailboxes();
+	}
+
+	@TearDown
+	public void tearDown() {
+		greenMail.stop();
+	}
+
+	@Benchmark
+	public int dispatchBatch() {
+		return dispatcher.dispatchBatch();
+	}
+
+	private List<NotificationOutboxEntity> batch() {
+		List<NotificationOutboxEntity> batch = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; i++) {
+			long id = ids.incrementAndGet();
+			batch.add(NotificationOutboxEntity.builder()
+					.id(id)
+					.recipient("customer" + id + "@test.com")
+					.subject("Reservation " + id)
+					.body("Body " + id)
+					.status(OutboxStatus.PENDING)
+					.nextAttemptAt(LocalDateTime.now())
+					.createdAt(LocalDateTime.now())
+					.build());
+		}
+		return batch;
+	}
+}
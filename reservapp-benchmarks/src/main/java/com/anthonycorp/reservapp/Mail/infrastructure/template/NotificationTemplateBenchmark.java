@@ -0,0 +1,70 @@
+package com.anthonycorp.reservapp.Mail.infrastructure.template;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders the customer status update body through the precompiled template and through the String.format text block
+ * it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationTemplateBenchmark {
+
+	private static final String FORMAT = """
+			Hola %s,
+
+			Tu reserva para %s %s.
+
+			Detalles de la reserva:
+			Servicio: %s
+			Proveedor: %s
+			Fecha y Hora: %s %s
+			Estado: %s
+
+			Saludos,
+			ReservApp Team
+			""";
+
+	private NotificationTemplate template;
+	private Map<String, Object> values;
+
+	@Setup
+	public void setUp() {
+		NotificationTemplates templates = new NotificationTemplates("es");
+		templates.load();
+		template = templates.get("customer-status-update");
+		values = Map.of("customerName", "Ana", "serviceName", "Corte de pelo", "statusMessage", "ha sido confirmada",
+				"providerName", "Luis", "date", LocalDate.of(2025, 6, 1), "time", LocalTime.of(10, 30),
+				"status", "ACCEPTED");
+	}
+
+	@Benchmark
+	public String stringFormat() {
+		return String.format(FORMAT, values.get("customerName"), values.get("serviceName"), values.get("statusMessage"),
+				values.get("serviceName"), values.get("providerName"), values.get("date"), values.get("time"),
+				values.get("status"));
+	}
+
+	@Benchmark
+	public String compiledTemplate() {
+		return template.renderBody(values);
+	}
+}
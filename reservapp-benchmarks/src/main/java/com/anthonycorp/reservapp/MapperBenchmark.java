@@ -0,0 +1,117 @@
+package com.anthonycorp.reservapp;
+
+import com.anthonycorp.reservapp.Reservation.domain.response.ProviderReservationDto;
+import com.anthonycorp.reservapp.Reservation.domain.response.ReservationResponseDto;
+import com.anthonycorp.reservapp.Reservation.domain.status.ReservationStatus;
+import com.anthonycorp.reservapp.Reservation.infrastructure.mapper.ReservationMapper;
+import com.anthonycorp.reservapp.Reservation.infrastructure.mapper.ReservationMapperImpl;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.projection.ReservationRow;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceResponseDto;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.mapper.ServiceMapper;
+import com.anthonycorp.reservapp.Service.infrastructure.mapper.ServiceMapperImpl;
+import com.anthonycorp.reservapp.Service.infrastructure.model.ServiceEntity;
+import com.anthonycorp.reservapp.User.domain.Role.RoleEnum;
+import com.anthonycorp.reservapp.User.domain.response.UserNameDto;
+import com.anthonycorp.reservapp.User.domain.response.UserResponseDto;
+import com.anthonycorp.reservapp.User.infrastructure.mapper.UserMapper;
+import com.anthonycorp.reservapp.User.infrastructure.mapper.UserMapperImpl;
+import com.anthonycorp.reservapp.User.infrastructure.model.RoleEntity;
+import com.anthonycorp.reservapp.User.infrastructure.model.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the generated MapStruct mappers over detached entities and projection rows, the way the read endpoints use them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+	private static final int USERS = 100;
+
+	private final ReservationMapper reservationMapper = new ReservationMapperImpl();
+	private final ServiceMapper serviceMapper = new ServiceMapperImpl();
+	private final UserMapper userMapper = new UserMapperImpl();
+
+	private ReservationEntity reservation;
+	private ReservationRow row;
+	private ServiceEntity service;
+	private UserEntity customer;
+	private List<UserEntity> users;
+
+	@Setup
+	public void setUp() {
+		RoleEntity customerRole = RoleEntity.builder().id(1L).role(RoleEnum.CUSTOMER).build();
+		RoleEntity providerRole = RoleEntity.builder().id(2L).role(RoleEnum.PROVIDER).build();
+		customer = UserEntity.builder().id(1L).name("Ana").email("ana@test.com").password("x").roleEntity(customerRole).build();
+		UserEntity provider = UserEntity.builder().id(2L).name("Luis").email("luis@test.com").password("x")
+				.roleEntity(providerRole).build();
+		service = ServiceEntity.builder().id(3L).title("Corte de pelo").description("Corte clasico").price(25.0)
+				.slotDurationMinutes(30).provider(provider).status(ServiceStatus.ACTIVE).build();
+		reservation = ReservationEntity.builder().id(4L).customer(customer).provider(provider).service(service)
+				.date(LocalDate.of(2025, 6, 1)).time(LocalTime.of(10, 30)).durationMinutes(30)
+				.status(ReservationStatus.ACCEPTED).build();
+		row = new ReservationRow(4L, "Ana", "ana@test.com", "Luis", "Corte de pelo", LocalDate.of(2025, 6, 1),
+				LocalTime.of(10, 30), ReservationStatus.ACCEPTED);
+		users = new ArrayList<>(USERS);
+		for (long id = 1; id <= USERS; id++) {
+			users.add(UserEntity.builder().id(id).name("User " + id).email("user" + id + "@test.com").password("x")
+					.roleEntity(id % 2 == 0 ? providerRole : customerRole).build());
+		}
+	}
+
+	@Benchmark
+	public ReservationResponseDto reservationEntityToDto() {
+		return reservationMapper.toDto(reservation);
+	}
+
+	@Benchmark
+	public ProviderReservationDto reservationEntityToProviderDto() {
+		return reservationMapper.toProviderReservationDto(reservation);
+	}
+
+	@Benchmark
+	public ReservationResponseDto reservationRowToDto() {
+		return reservationMapper.toDto(row);
+	}
+
+	@Benchmark
+	public ProviderReservationDto reservationRowToProviderDto() {
+		return reservationMapper.toProviderReservationDto(row);
+	}
+
+	@Benchmark
+	public ServiceResponseDto serviceToDto() {
+		return serviceMapper.toDto(service);
+	}
+
+	@Benchmark
+	public UserResponseDto userToDto() {
+		return userMapper.toDto(customer);
+	}
+
+	@Benchmark
+	public List<UserNameDto> userNameDtoList() {
+		return userMapper.toNameDtoList(users);
+	}
+}
@@ -0,0 +1,91 @@
+package com.anthonycorp.reservapp.Reservation.infrastructure.slot;
+
+import com.anthonycorp.reservapp.Reservation.infrastructure.exception.SlotUnavailableException;
+import com.anthonycorp.reservapp.Reservation.infrastructure.model.ReservationEntity;
+import com.anthonycorp.reservapp.Reservation.infrastructure.repository.ReservationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Books and releases slots through the index, each thread on its own provider or all threads on one. Run with
+ * {@code -t 1,2,4} to see how bookings for different providers scale while those for a single provider serialize.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationSlotIndexBenchmark {
+
+	private static final LocalDate DAY = LocalDate.of(2030, 1, 15);
+	private static final Duration HOUR = Duration.ofMinutes(60);
+	// Slots each thread cycles through, so the index stays the same size however long the run is
+	private static final int WINDOW = 24 * 30;
+	private static final long SHARED_PROVIDER = 0;
+
+	private final AtomicLong ids = new AtomicLong();
+	private final AtomicLong providers = new AtomicLong(SHARED_PROVIDER);
+	private ReservationSlotIndex index;
+
+	@Setup
+	public void setUp() {
+		index = new ReservationSlotIndex(mock(ReservationRepository.class), 15);
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private long provider;
+		private long shared;
+		private int next;
+
+		@Setup
+		public void setUp(ReservationSlotIndexBenchmark benchmark) {
+			provider = benchmark.providers.incrementAndGet();
+			// Threads on the shared provider start apart so they rarely collide on the very same slot
+			shared = provider * 7919;
+		}
+	}
+
+	@Benchmark
+	public ReservationEntity bookOwnProvider(Cursor cursor) {
+		return bookAndRelease(cursor.provider, cursor.next++);
+	}
+
+	@Benchmark
+	public ReservationEntity bookSharedProvider(Cursor cursor) {
+		return bookAndRelease(SHARED_PROVIDER, (int) (cursor.shared++ % Integer.MAX_VALUE));
+	}
+
+	private ReservationEntity bookAndRelease(long providerId, int sequence) {
+		int slot = sequence % WINDOW;
+		ReservationEntity saved;
+		try {
+			saved = index.book(providerId, DAY.plusDays(slot / 24), LocalTime.of(slot % 24, 0), HOUR, this::saved);
+		} catch (SlotUnavailableException conflict) {
+			return null;
+		}
+		index.release(providerId, saved.getId());
+		return saved;
+	}
+
+	private ReservationEntity saved() {
+		return ReservationEntity.builder().id(ids.incrementAndGet()).build();
+	}
+}
@@ -0,0 +1,134 @@
+package com.anthonycorp.reservapp.Service.infrastructure.search;
+
+import com.anthonycorp.reservapp.Service.domain.request.ServiceSearchRequestDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceResponseDto;
+import com.anthonycorp.reservapp.Service.domain.response.ServiceSearchResponseDto;
+import com.anthonycorp.reservapp.Service.domain.status.ServiceStatus;
+import com.anthonycorp.reservapp.Service.infrastructure.mapper.ServiceMapper;
+import com.anthonycorp.reservapp.Service.infrastructure.repository.ServiceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Searches a synthetic catalog of 100k services through the index, next to the substring scan a {@code LIKE} query
+ * over the same rows amounts to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceSearchIndexBenchmark {
+
+	private static final int SERVICES = 100_000;
+	private static final int FILLER_WORDS = 5_000;
+	private static final String[] WORDS = {"corte", "masaje", "manicura", "pedicura", "tinte", "barba", "facial",
+			"depilacion", "peinado", "tratamiento", "relajante", "clasico", "express", "premium", "novia", "infantil",
+			"keratina", "alisado", "mechas", "spa"};
+
+	private ServiceSearchIndex index;
+	private List<ServiceResponseDto> catalog;
+	private ServiceSearchRequestDto singleTerm;
+	private ServiceSearchRequestDto twoTerms;
+	private ServiceSearchRequestDto termAndPrice;
+	private ServiceSearchRequestDto statusOnly;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		index = new ServiceSearchIndex(mock(ServiceRepository.class), mock(ServiceMapper.class));
+		catalog = new ArrayList<>(SERVICES);
+		for (long id = 1; id <= SERVICES; id++) {
+			ServiceResponseDto service = ServiceResponseDto.builder()
+					.id(id)
+					.title(words(random, 3))
+					.description(words(random, 3) + " " + filler(random, 9))
+					.price((double) random.nextInt(400))
+					.providerId(id % 500)
+					.providerName("Provider " + id % 500)
+					.status(random.nextInt(10) == 0 ? "INACTIVE" : "ACTIVE")
+					.build();
+			catalog.add(service);
+			index.index(service);
+		}
+		singleTerm = request("keratina", null, null);
+		twoTerms = request("masaje relajante", null, null);
+		termAndPrice = request("corte", 25.0, 100.0);
+		statusOnly = request(null, null, null);
+		statusOnly.setStatus(ServiceStatus.ACTIVE);
+	}
+
+	@Benchmark
+	public ServiceSearchResponseDto indexSingleTerm() {
+		return index.search(singleTerm);
+	}
+
+	@Benchmark
+	public ServiceSearchResponseDto indexTwoTerms() {
+		return index.search(twoTerms);
+	}
+
+	@Benchmark
+	public ServiceSearchResponseDto indexTermWithPriceFilter() {
+		return index.search(termAndPrice);
+	}
+
+	@Benchmark
+	public ServiceSearchResponseDto indexStatusOnly() {
+		return index.search(statusOnly);
+	}
+
+	@Benchmark
+	public List<ServiceResponseDto> scanTwoTerms() {
+		List<ServiceResponseDto> matches = new ArrayList<>();
+		for (ServiceResponseDto service : catalog) {
+			String text = (service.getTitle() + " " + service.getDescription()).toLowerCase(Locale.ROOT);
+			if (text.contains("masaje") && text.contains("relajante")) {
+				matches.add(service);
+			}
+		}
+		return matches.subList(0, Math.min(20, matches.size()));
+	}
+
+	private static ServiceSearchRequestDto request(String q, Double minPrice, Double maxPrice) {
+		ServiceSearchRequestDto request = new ServiceSearchRequestDto();
+		request.setQ(q);
+		request.setMinPrice(minPrice);
+		request.setMaxPrice(maxPrice);
+		return request;
+	}
+
+	// Long tail of rarer words so postings lists have realistic, uneven lengths
+	private static String filler(Random random, int count) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			text.append(i == 0 ? "" : " ").append("palabra").append(random.nextInt(FILLER_WORDS));
+		}
+		return text.toString();
+	}
+
+	private static String words(Random random, int count) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			text.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,57 @@
+package com.anthonycorp.reservapp.Utils.web;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signs a login token and verifies one, without the verified-token cache in front of the verifier.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+	private JwtUtils jwtUtils;
+	private Authentication authentication;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtils = new JwtUtils(new VerifiedTokenCache(0), new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(jwtUtils, "privateKey", "benchmark-secret");
+		ReflectionTestUtils.setField(jwtUtils, "userGenerator", "reservapp-benchmark");
+		jwtUtils.init();
+		authentication = new UsernamePasswordAuthenticationToken("ana@test.com", null,
+				AuthorityUtils.createAuthorityList("ROLE_CUSTOMER"));
+		token = jwtUtils.createToken(authentication);
+	}
+
+	@Benchmark
+	public String createToken() {
+		return jwtUtils.createToken(authentication);
+	}
+
+	@Benchmark
+	public DecodedJWT validateToken() {
+		return jwtUtils.validateToken(token);
+	}
+}
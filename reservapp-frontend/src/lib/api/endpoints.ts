@@ -43,6 +43,12 @@ export interface PaginatedResponse<T> {
   totalPages: number;
 }
 
+// Paginación por cursor (keyset) usada en los listados de reservas
+export interface CursorPage<T> {
+  items: T[];
+  next_cursor?: string;
+}
+
 // Tipos para requests específicos
 export interface LoginRequest {
   email: string;
@@ -1,7 +1,10 @@
 import { apiRequest } from '../client';
-import { API_ENDPOINTS, CreateReservationRequest } from '../endpoints';
+import { API_ENDPOINTS, CreateReservationRequest, CursorPage } from '../endpoints';
 import { Reservation } from '@/types/reservation';
 
+// Tamaño máximo de página que acepta el backend
+const MAX_PAGE_SIZE = 100;
+
 export const reservationsService = {
   /**
    * Crear una nueva reserva (SOLO CUSTOMER)
@@ -20,12 +23,13 @@ export const reservationsService = {
   },
 
   /**
-   * Obtener mis reservas (Solo CUSTOMER)
+   * Obtener una página de mis reservas (Solo CUSTOMER)
    */
-  async getMyReservations(): Promise<Reservation[]> {
+  async getMyReservationsPage(cursor?: string, size = 20): Promise<CursorPage<Reservation>> {
     try {
-      const response = await apiRequest.get<Reservation[]>(
+      const response = await apiRequest.get<CursorPage<Reservation>>(
         API_ENDPOINTS.reservations.getMyReservations,
+        { params: { size, cursor } },
       );
       return response;
     } catch (error) {
@@ -33,6 +37,20 @@ export const reservationsService = {
     }
   },
 
+  /**
+   * Obtener todas mis reservas (Solo CUSTOMER), siguiendo next_cursor hasta la última página
+   */
+  async getMyReservations(): Promise<Reservation[]> {
+    const reservations: Reservation[] = [];
+    let cursor: string | undefined;
+    do {
+      const page = await this.getMyReservationsPage(cursor, MAX_PAGE_SIZE);
+      reservations.push(...page.items);
+      cursor = page.next_cursor;
+    } while (cursor);
+    return reservations;
+  },
+
   /**
    * Obtener reservas para mis servicios (Solo PROVIDER)
    * NOTA: Esta función es un mock ya que el backend aún no implementa este endpoint